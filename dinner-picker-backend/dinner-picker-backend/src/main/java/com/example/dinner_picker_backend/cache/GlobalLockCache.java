@@ -0,0 +1,115 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.entity.VotingConfig;
+import com.example.dinner_picker_backend.repository.VotingConfigRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory copy of the global voting lock (the single voting_config row).
+ *
+ * Changes made through this instance are applied immediately via {@link #update}. Changes made
+ * by other instances are picked up by polling the row's version at most once per refresh
+ * window; the full row is only re-read when the version has moved. Only one thread refreshes
+ * at a time - everyone else keeps using the cached value meanwhile.
+ */
+@Component
+public class GlobalLockCache {
+
+    private static final long CONFIG_ID = 1L;
+    private static final long NO_ROW = -1L;
+
+    private final VotingConfigRepository votingConfigRepository;
+
+    @Value("${voting.lock.refresh-ms:1000}")
+    private long refreshMs = 1000;
+
+    private volatile boolean locked;
+    private volatile Long version;
+    private volatile long nextRefreshNanos;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final LongAdder readsAvoided = new LongAdder();
+    private final LongAdder databaseReads = new LongAdder();
+
+    public GlobalLockCache(VotingConfigRepository votingConfigRepository) {
+        this.votingConfigRepository = votingConfigRepository;
+    }
+
+    public boolean isLocked() {
+        if (version != null && System.nanoTime() - nextRefreshNanos < 0) {
+            readsAvoided.increment();
+            return locked;
+        }
+
+        if (!refreshLock.tryLock()) {
+            if (version != null) {
+                // Someone else is already refreshing - the current value is at most one window old
+                readsAvoided.increment();
+                return locked;
+            }
+            refreshLock.lock();
+        }
+
+        try {
+            if (version == null || System.nanoTime() - nextRefreshNanos >= 0) {
+                refresh();
+            } else {
+                readsAvoided.increment();
+            }
+            return locked;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Called once this instance's own lock change has committed
+    public void update(boolean locked, Long version) {
+        refreshLock.lock();
+        try {
+            this.locked = locked;
+            this.version = version != null ? version : NO_ROW;
+            scheduleNextRefresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Forces the next isLocked() call to go back to the database
+    public void invalidate() {
+        version = null;
+    }
+
+    public long getReadsAvoided() {
+        return readsAvoided.sum();
+    }
+
+    public long getDatabaseReads() {
+        return databaseReads.sum();
+    }
+
+    private void refresh() {
+        databaseReads.increment();
+        Long current = votingConfigRepository.findVersionById(CONFIG_ID).orElse(NO_ROW);
+
+        if (!current.equals(version)) {
+            if (current == NO_ROW) {
+                locked = false;
+            } else {
+                databaseReads.increment();
+                locked = votingConfigRepository.findById(CONFIG_ID).map(VotingConfig::getLocked).orElse(false);
+            }
+            version = current;
+        }
+
+        scheduleNextRefresh();
+    }
+
+    private void scheduleNextRefresh() {
+        nextRefreshNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(refreshMs);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The finished GET /api/groups response body, serialized once and kept as plain and gzipped
+ * bytes so repeat requests skip the query, Jackson and compression entirely.
+ *
+ * Entries are keyed by the groups list version from {@link ResourceVersions}, so any write made
+ * through this instance that shows in the list replaces the body on the next request. Those
+ * counters cannot see other instances, so a body is also dropped after a short window. Only one
+ * thread rebuilds at a time; while an expired body for the current version is being rebuilt, it
+ * is still served.
+ *
+ * ETags are digests of the bytes sent, one per encoding, so a tag never stands for two different
+ * bodies: a rebuild that changed nothing keeps the tag, one that did changes it.
+ */
+@Component
+public class GroupListResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${groups.response-cache-ttl-ms:1000}")
+    private long ttlMs = 1000;
+
+    private volatile CachedBody current;
+
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder builds = new LongAdder();
+
+    public GroupListResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public CachedBody get(String version, Supplier<Object> response) throws IOException {
+        CachedBody cached = current;
+        if (isCurrent(cached, version)) {
+            hits.increment();
+            return cached;
+        }
+
+        if (!buildLock.tryLock()) {
+            if (cached != null && cached.getVersion().equals(version)) {
+                // Expired but not outdated by a local write - the rebuild is already under way
+                hits.increment();
+                return cached;
+            }
+            buildLock.lock();
+        }
+
+        try {
+            cached = current;
+            if (isCurrent(cached, version)) {
+                hits.increment();
+                return cached;
+            }
+
+            builds.increment();
+            byte[] json = objectMapper.writeValueAsBytes(response.get());
+            String digest = DigestUtils.md5DigestAsHex(json);
+            cached = new CachedBody(version, json, gzip(json), "\"" + digest + "\"", "\"" + digest + "-gzip\"",
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs));
+            current = cached;
+            return cached;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getBuilds() {
+        return builds.sum();
+    }
+
+    private static boolean isCurrent(CachedBody cached, String version) {
+        return cached != null && cached.getVersion().equals(version) && System.nanoTime() - cached.expiresAtNanos < 0;
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static final class CachedBody {
+
+        private final String version;
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+        private final long expiresAtNanos;
+
+        private CachedBody(String version, byte[] json, byte[] gzip, String etag, String gzipEtag, long expiresAtNanos) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.gzipEtag = gzipEtag;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        public String getVersion() { return version; }
+
+        public byte[] getJson() { return json; }
+
+        public byte[] getGzip() { return gzip; }
+
+        public String getEtag() { return etag; }
+
+        public String getGzipEtag() { return gzipEtag; }
+    }
+}
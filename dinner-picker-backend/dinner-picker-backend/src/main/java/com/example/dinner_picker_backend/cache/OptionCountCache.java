@@ -0,0 +1,61 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Total number of options, as reported by /api/status. A COUNT over the whole options table
+ * is not free on a large table, so the result is reused for a short window. Only one thread
+ * recounts at a time - everyone else keeps using the previous total meanwhile.
+ */
+@Component
+public class OptionCountCache {
+
+    private final OptionRepository optionRepository;
+
+    @Value("${status.option-count-ttl-ms:5000}")
+    private long ttlMs = 5000;
+
+    private volatile long count = -1;
+    private volatile long nextRefreshNanos;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final LongAdder databaseReads = new LongAdder();
+
+    public OptionCountCache(OptionRepository optionRepository) {
+        this.optionRepository = optionRepository;
+    }
+
+    public long getCount() {
+        if (count >= 0 && System.nanoTime() - nextRefreshNanos < 0) {
+            return count;
+        }
+
+        if (!refreshLock.tryLock()) {
+            if (count >= 0) {
+                return count;
+            }
+            refreshLock.lock();
+        }
+
+        try {
+            if (count < 0 || System.nanoTime() - nextRefreshNanos >= 0) {
+                databaseReads.increment();
+                count = optionRepository.count();
+                nextRefreshNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+            }
+            return count;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public long getDatabaseReads() {
+        return databaseReads.sum();
+    }
+}
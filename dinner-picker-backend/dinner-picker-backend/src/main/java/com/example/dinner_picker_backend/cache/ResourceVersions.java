@@ -0,0 +1,120 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.config.TransactionHooks;
+import com.example.dinner_picker_backend.dto.SessionDetail;
+import com.example.dinner_picker_backend.stream.TallyChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ETags of the group, session and session-options reads.
+ *
+ * Session tags are built from the persisted voting_sessions.version, which every vote, option
+ * add and lock bumps, so every instance hands out the same tag for the same state.
+ *
+ * Group tags come from in-memory change counters, so a conditional GET can be answered with 304
+ * without touching the database. Groups map onto a fixed number of striped counters: two ids
+ * sharing a stripe only cost each other a spurious 200, never a stale 304. A group's JSON embeds
+ * its sessions and their options, so session changes also bump their group (or every group, when
+ * the writer does not know which one). The groups list only shows group columns and counts, so it
+ * has its own counter that votes and new options leave alone. Counters move after commit. They only see writes made
+ * through this instance, so group tags also carry the current etag.group-ttl-seconds window: a
+ * write on another instance shows up here within one window at most. Group tags start with a
+ * random per-process epoch so they never survive a restart.
+ */
+@Component
+public class ResourceVersions {
+
+    private static final int STRIPES = 4096;
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+
+    @Value("${etag.group-ttl-seconds:10}")
+    private long groupTtlSeconds = 10;
+
+    private final AtomicLong groupList = new AtomicLong();
+    private final AtomicLong unknownGroup = new AtomicLong();
+    private final AtomicLongArray groupStripes = new AtomicLongArray(STRIPES);
+
+    // Pages of the groups list
+    public String groupsEtag() {
+        return groupEtag("gs", groupList.get(), 0);
+    }
+
+    // Changes with group columns, members and the number of (active) sessions; not with votes
+    public long groupListVersion() {
+        return groupList.get();
+    }
+
+    public String groupEtag(long groupId) {
+        return groupEtag("g", groupStripes.get(stripe(groupId)), unknownGroup.get());
+    }
+
+    // Covers the session's option list; the caller reads the version from the database
+    public String sessionEtag(long sessionId, long version) {
+        return "\"s" + sessionId + "-" + version + "\"";
+    }
+
+    // The detail also shows its group's name, icon and colour, which the session version does not track
+    public String sessionEtag(SessionDetail session) {
+        SessionDetail.GroupRef group = session.getGroup();
+        int groupHash = group != null ? Objects.hash(group.getName(), group.getEmojiIcon(), group.getColorTheme()) : 0;
+        return "\"s" + session.getId() + "-" + session.getVersion() + "-" + Integer.toHexString(groupHash) + "\"";
+    }
+
+    // Group created, updated, deleted or joined. A bump before commit would let a reader pair the
+    // old body with the new tag
+    public void groupChanged(Long groupId) {
+        TransactionHooks.afterCommit(() -> {
+            bumpGroup(groupId);
+            groupList.incrementAndGet();
+        });
+    }
+
+    // Session created, locked or purged, which changes its group's session counts; the session's
+    // own tag follows its version
+    public void sessionChanged(Long sessionId, Long groupId) {
+        TransactionHooks.afterCommit(() -> {
+            bumpGroup(groupId);
+            groupList.incrementAndGet();
+        });
+    }
+
+    // Same as groupChanged, for callers that already run after commit: a synchronization
+    // registered from inside another one's afterCommit would never run
+    public void groupCommitted(Long groupId) {
+        bumpGroup(groupId);
+        groupList.incrementAndGet();
+    }
+
+    // Votes and new options; already after commit
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTallyChanged(TallyChangedEvent event) {
+        bumpGroup(event.getGroupId());
+    }
+
+    private void bumpGroup(Long groupId) {
+        if (groupId != null) {
+            groupStripes.incrementAndGet(stripe(groupId));
+        } else {
+            unknownGroup.incrementAndGet();
+        }
+    }
+
+    private String groupEtag(String kind, long version, long extra) {
+        long window = System.currentTimeMillis() / TimeUnit.SECONDS.toMillis(Math.max(1, groupTtlSeconds));
+        return "\"" + epoch + "-" + window + "-" + kind + version + "-" + extra + "\"";
+    }
+
+    private static int stripe(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 52) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Options of one voting session ranked by votes (most first), ties broken by option id
+ * (oldest first). Updates are O(log n) and serialized per session; reads walk the skip list
+ * without taking any lock.
+ *
+ * An update inserts the new entry before removing the old one, so a concurrent reader may see
+ * an option twice but never miss it; {@link #top} keeps the first, i.e. the higher, entry.
+ *
+ * Votes carry the sequence number their transaction took while holding the option's row lock,
+ * so a committed tally that arrives late never overwrites a newer one.
+ */
+public class SessionLeaderboard {
+
+    static final Comparator<Entry> RANKING = Comparator
+            .comparingInt((Entry entry) -> entry.votes).reversed()
+            .thenComparingLong(entry -> entry.optionId);
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final ConcurrentHashMap<Long, Entry> current = new ConcurrentHashMap<>();
+
+    final long builtAt = System.nanoTime();
+    volatile long lastAccess = builtAt;
+
+    public synchronized void update(long optionId, int votes) {
+        Entry previous = current.get(optionId);
+        put(optionId, votes, previous != null ? previous.sequence : 0);
+    }
+
+    // Ignored when a vote with a later sequence number has already been applied to the option
+    public synchronized void update(long optionId, int votes, long sequence) {
+        Entry previous = current.get(optionId);
+        if (previous == null || previous.sequence <= sequence) {
+            put(optionId, votes, sequence);
+        }
+    }
+
+    // Used when seeding from a snapshot: a vote recorded since the snapshot was taken wins
+    public synchronized void updateIfAbsent(long optionId, int votes) {
+        if (!current.containsKey(optionId)) {
+            put(optionId, votes, 0);
+        }
+    }
+
+    private void put(long optionId, int votes, long sequence) {
+        Entry next = new Entry(optionId, votes, sequence);
+        Entry previous = current.put(optionId, next);
+        ranking.add(next);
+        if (previous != null && previous.votes != votes) {
+            ranking.remove(previous);
+        }
+    }
+
+    public List<OptionTally> top(int k) {
+        lastAccess = System.nanoTime();
+
+        List<OptionTally> result = new ArrayList<>(Math.min(k, current.size()));
+        Set<Long> seen = new HashSet<>();
+        for (Entry entry : ranking) {
+            if (result.size() >= k) {
+                break;
+            }
+            if (seen.add(entry.optionId)) {
+                result.add(new OptionTally(entry.optionId, entry.votes));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return current.size();
+    }
+
+    static final class Entry {
+        private final long optionId;
+        private final int votes;
+        private final long sequence;
+
+        Entry(long optionId, int votes, long sequence) {
+            this.optionId = optionId;
+            this.votes = votes;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Ranked options per voting session, kept up to date by the vote paths so winner and top-K
+ * queries never sort a whole session. Anything that changes the option set or rolls back evicts
+ * the session and it is rebuilt on the next read.
+ *
+ * A leaderboard is built off to the side from a database snapshot and only published once it is
+ * fully seeded, so readers never see a partial ranking. Votes are applied after their transaction
+ * commits; one committing while a build is in flight is also queued on the build and replayed
+ * onto it before publishing, the same load-ticket idea as {@link SessionTallyCache}. Leaderboards
+ * are rebuilt every leaderboard.ttl-seconds, which bounds how long a write made through another
+ * instance (or a late commit racing a build) stays invisible.
+ */
+@Component
+public class SessionLeaderboards {
+
+    @Value("${leaderboard.max-sessions:10000}")
+    private int maxSessions = 10_000;
+
+    @Value("${leaderboard.ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    private final Map<Long, SessionLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    // Builds in flight per session; guarded by loadLock, read without it only to skip the lock
+    private final Map<Long, Set<Load>> loads = new ConcurrentHashMap<>();
+    private final Object loadLock = new Object();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Top k options of the session; loader reads the committed tallies when it is not built yet or has expired
+    public List<OptionTally> top(long sessionId, int k, Supplier<List<OptionTally>> loader) {
+        SessionLeaderboard leaderboard = leaderboards.get(sessionId);
+        if (leaderboard == null || isExpired(leaderboard)) {
+            leaderboard = load(sessionId, loader);
+        }
+        return leaderboard.top(k);
+    }
+
+    // Taken while the option's row lock is held, so it orders the commits of one option
+    public long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    // Called after commit with the tally and the sequence number taken under the row lock
+    public void recordVote(long sessionId, long optionId, int votes, long sequence) {
+        if (loads.isEmpty()) {
+            update(sessionId, optionId, votes, sequence);
+            return;
+        }
+
+        synchronized (loadLock) {
+            Set<Load> pending = loads.get(sessionId);
+            if (pending != null) {
+                pending.forEach(load -> load.writes.add(new Write(optionId, votes, sequence)));
+            }
+            update(sessionId, optionId, votes, sequence);
+        }
+    }
+
+    // Outside any transaction the write is already committed
+    public void recordVote(long sessionId, long optionId, int votes) {
+        recordVote(sessionId, optionId, votes, nextSequence());
+    }
+
+    public void evictSession(long sessionId) {
+        synchronized (loadLock) {
+            Set<Load> pending = loads.get(sessionId);
+            if (pending != null) {
+                pending.forEach(load -> load.stale = true);
+            }
+            leaderboards.remove(sessionId);
+        }
+    }
+
+    public int size() {
+        return leaderboards.size();
+    }
+
+    private void update(long sessionId, long optionId, int votes, long sequence) {
+        SessionLeaderboard leaderboard = leaderboards.get(sessionId);
+        if (leaderboard != null) {
+            leaderboard.update(optionId, votes, sequence);
+        }
+    }
+
+    private boolean isExpired(SessionLeaderboard leaderboard) {
+        return System.nanoTime() - leaderboard.builtAt > TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    private SessionLeaderboard load(long sessionId, Supplier<List<OptionTally>> loader) {
+        // Registered before the snapshot is read, so votes committing meanwhile are replayed
+        Load load = new Load();
+        synchronized (loadLock) {
+            loads.computeIfAbsent(sessionId, id -> new HashSet<>()).add(load);
+        }
+
+        SessionLeaderboard built = new SessionLeaderboard();
+        try {
+            List<OptionTally> snapshot = loader.get();
+            synchronized (loadLock) {
+                for (OptionTally tally : snapshot) {
+                    built.updateIfAbsent(tally.getId(), tally.getVotes());
+                }
+                for (Write write : load.writes) {
+                    built.update(write.optionId, write.votes, write.sequence);
+                }
+                if (!load.stale) {
+                    leaderboards.put(sessionId, built);
+                }
+            }
+        } finally {
+            synchronized (loadLock) {
+                Set<Load> pending = loads.get(sessionId);
+                pending.remove(load);
+                if (pending.isEmpty()) {
+                    loads.remove(sessionId);
+                }
+            }
+        }
+
+        evictExcess();
+        return built;
+    }
+
+    // Drops the least recently read tenth once over capacity, so the scan is rare
+    private void evictExcess() {
+        if (leaderboards.size() <= maxSessions) {
+            return;
+        }
+
+        synchronized (this) {
+            if (leaderboards.size() <= maxSessions) {
+                return;
+            }
+            List<Map.Entry<Long, SessionLeaderboard>> entries = new ArrayList<>(leaderboards.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+            int toEvict = leaderboards.size() - maxSessions + maxSessions / 10;
+            for (int i = 0; i < toEvict && i < entries.size(); i++) {
+                leaderboards.remove(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+        }
+    }
+
+    private static final class Load {
+        private final List<Write> writes = new ArrayList<>();
+        private boolean stale;
+    }
+
+    private static final class Write {
+        private final long optionId;
+        private final int votes;
+        private final long sequence;
+
+        private Write(long optionId, int votes, long sequence) {
+            this.optionId = optionId;
+            this.votes = votes;
+            this.sequence = sequence;
+        }
+    }
+}
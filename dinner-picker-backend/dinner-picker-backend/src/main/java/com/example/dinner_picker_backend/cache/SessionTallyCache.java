@@ -0,0 +1,257 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory vote counts for the options of recently viewed voting sessions.
+ *
+ * Tallies live in a single {@link LongIntHashMap} keyed by option id; each cached session only
+ * keeps a long[] of its option ids. Sessions are kept in access order and evicted when the
+ * cache is over capacity, when they have been idle longer than the TTL, or when they are locked
+ * (locked sessions stop changing, so the database is good enough for them).
+ *
+ * Only committed tallies are cached. The vote path calls {@link #beginWrite} while it holds the
+ * option's row lock and {@link #commitWrite} after commit, with a sequence number taken under that
+ * lock; a commit published after a later one of the same option is ignored. Votes that land while
+ * a session is being loaded are remembered and replayed over the loaded snapshot, and a snapshot
+ * is not cached while one of its options has a write in flight, since it may or may not include
+ * that write.
+ */
+@Component
+public class SessionTallyCache {
+
+    // Bounds the writes remembered for in-flight loads; past this, those loads are not cached
+    private static final int MAX_PENDING_WRITES = 4096;
+
+    private static final Comparator<OptionTally> BY_VOTES_DESC =
+            Comparator.comparing(OptionTally::getVotes).reversed().thenComparing(OptionTally::getId);
+
+    @Value("${tally-cache.max-sessions:100000}")
+    private int maxSessions = 100_000;
+
+    @Value("${tally-cache.idle-ttl-minutes:30}")
+    private long idleTtlMinutes = 30;
+
+    private final LongIntHashMap tallies = new LongIntHashMap(1024);
+    private final LinkedHashMap<Long, SessionEntry> sessions = new LinkedHashMap<>(256, 0.75f, true);
+
+    // Sequence numbers (truncated, compared with wrap-around) of the cached tallies that came from
+    // a commit rather than a load
+    private final LongIntHashMap sequences = new LongIntHashMap();
+    private final LongIntHashMap writesInFlight = new LongIntHashMap();
+
+    private final LongIntHashMap pendingWrites = new LongIntHashMap();
+    private final LongIntHashMap pendingSequences = new LongIntHashMap();
+    private int loadsInFlight;
+    private long loadEpoch;
+
+    // Returns the cached tallies ordered by votes, or null when the session has to be loaded
+    public synchronized List<OptionTally> getSessionTallies(long sessionId) {
+        SessionEntry entry = sessions.get(sessionId);
+        if (entry == null) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (isIdle(entry, now)) {
+            removeSession(sessionId, entry);
+            return null;
+        }
+
+        List<OptionTally> result = new ArrayList<>(entry.optionIds.length);
+        for (long optionId : entry.optionIds) {
+            int votes = tallies.get(optionId, -1);
+            if (votes < 0) {
+                // An option was invalidated underneath us - reload the whole session
+                removeSession(sessionId, entry);
+                return null;
+            }
+            result.add(new OptionTally(optionId, votes));
+        }
+
+        entry.lastAccess = now;
+        result.sort(BY_VOTES_DESC);
+        return result;
+    }
+
+    // Call before reading a session from the database and pass the ticket to completeLoad
+    public synchronized long beginLoad() {
+        loadsInFlight++;
+        return loadEpoch;
+    }
+
+    public synchronized void abortLoad() {
+        finishLoad();
+    }
+
+    // Caches a freshly loaded session and returns it with any concurrent votes applied
+    public synchronized List<OptionTally> completeLoad(long sessionId, List<OptionTally> loaded, long ticket) {
+        boolean cacheable = ticket == loadEpoch;
+
+        List<OptionTally> result = new ArrayList<>(loaded.size());
+        long[] optionIds = new long[loaded.size()];
+        for (int i = 0; i < loaded.size(); i++) {
+            OptionTally tally = loaded.get(i);
+            int votes = pendingWrites.get(tally.getId(), tally.getVotes());
+            optionIds[i] = tally.getId();
+            result.add(new OptionTally(tally.getId(), votes));
+            cacheable &= !writesInFlight.containsKey(tally.getId());
+        }
+
+        if (cacheable) {
+            SessionEntry previous = sessions.remove(sessionId);
+            if (previous != null) {
+                removeTallies(previous);
+            }
+            for (OptionTally tally : result) {
+                tallies.put(tally.getId(), tally.getVotes());
+                if (pendingSequences.containsKey(tally.getId())) {
+                    sequences.put(tally.getId(), pendingSequences.get(tally.getId(), 0));
+                }
+            }
+            sessions.put(sessionId, new SessionEntry(optionIds, System.nanoTime()));
+            evictExcess();
+        }
+        finishLoad();
+
+        result.sort(BY_VOTES_DESC);
+        return result;
+    }
+
+    // Under the option's row lock; every call is followed by commitWrite or abortWrite
+    public synchronized void beginWrite(long optionId) {
+        writesInFlight.put(optionId, writesInFlight.get(optionId, 0) + 1);
+    }
+
+    // After commit, with the sequence number taken under the row lock
+    public synchronized void commitWrite(long optionId, int votes, long sequence) {
+        endWrite(optionId);
+        recordVote(optionId, votes, sequence);
+    }
+
+    // After rollback; nothing was published
+    public synchronized void abortWrite(long optionId) {
+        endWrite(optionId);
+    }
+
+    // A committed tally, e.g. from a write outside any transaction
+    public synchronized void recordVote(long optionId, int votes, long sequence) {
+        int truncated = (int) sequence;
+        if (tallies.containsKey(optionId) && isNewer(sequences, optionId, truncated)) {
+            tallies.put(optionId, votes);
+            sequences.put(optionId, truncated);
+        }
+
+        if (loadsInFlight > 0 && isNewer(pendingSequences, optionId, truncated)) {
+            if (pendingWrites.size() >= MAX_PENDING_WRITES) {
+                clearPendingWrites();
+                loadEpoch++;
+            }
+            pendingWrites.put(optionId, votes);
+            pendingSequences.put(optionId, truncated);
+        }
+    }
+
+    // Drops a single option's tally, forcing its session to reload
+    public synchronized void evictOption(long optionId) {
+        tallies.remove(optionId);
+        sequences.remove(optionId);
+        pendingWrites.remove(optionId);
+        pendingSequences.remove(optionId);
+    }
+
+    // Options were added, the session was locked or deleted - forget it entirely
+    public synchronized void evictSession(long sessionId) {
+        SessionEntry entry = sessions.remove(sessionId);
+        if (entry != null) {
+            removeTallies(entry);
+        }
+        // A load racing with this call would otherwise cache what it read before the change
+        if (loadsInFlight > 0) {
+            clearPendingWrites();
+            loadEpoch++;
+        }
+    }
+
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    public synchronized int cachedOptionCount() {
+        return tallies.size();
+    }
+
+    private void finishLoad() {
+        if (--loadsInFlight == 0) {
+            clearPendingWrites();
+        }
+    }
+
+    private void endWrite(long optionId) {
+        int remaining = writesInFlight.get(optionId, 0) - 1;
+        if (remaining > 0) {
+            writesInFlight.put(optionId, remaining);
+        } else {
+            writesInFlight.remove(optionId);
+        }
+    }
+
+    private void clearPendingWrites() {
+        pendingWrites.clear();
+        pendingSequences.clear();
+    }
+
+    // True unless the map holds a later sequence number for the option
+    private static boolean isNewer(LongIntHashMap sequenceMap, long optionId, int sequence) {
+        return !sequenceMap.containsKey(optionId) || sequence - sequenceMap.get(optionId, 0) > 0;
+    }
+
+    private void evictExcess() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Long, SessionEntry>> eldest = sessions.entrySet().iterator();
+        while (eldest.hasNext()) {
+            SessionEntry entry = eldest.next().getValue();
+            if (sessions.size() <= maxSessions && !isIdle(entry, now)) {
+                break;
+            }
+            removeTallies(entry);
+            eldest.remove();
+        }
+    }
+
+    private boolean isIdle(SessionEntry entry, long now) {
+        return now - entry.lastAccess > TimeUnit.MINUTES.toNanos(idleTtlMinutes);
+    }
+
+    private void removeSession(long sessionId, SessionEntry entry) {
+        sessions.remove(sessionId);
+        removeTallies(entry);
+    }
+
+    private void removeTallies(SessionEntry entry) {
+        for (long optionId : entry.optionIds) {
+            tallies.remove(optionId);
+            sequences.remove(optionId);
+        }
+    }
+
+    private static class SessionEntry {
+        private final long[] optionIds;
+        private long lastAccess;
+
+        private SessionEntry(long[] optionIds, long lastAccess) {
+            this.optionIds = optionIds;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
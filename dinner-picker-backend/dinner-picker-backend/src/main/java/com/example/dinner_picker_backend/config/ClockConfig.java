@@ -0,0 +1,17 @@
+package com.example.dinner_picker_backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+// The one clock for session times. Deadlines arrive and are shown as local date-times with no zone,
+// like createdAt, so whatever writes or checks them reads the time through this bean.
+@Configuration(proxyBeanMethods = false)
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.dinner_picker_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * How long requests keep pooled connections checked out, as reported by Hikari when a connection
+ * goes back to the pool. Installed on the Hikari data source before its pool starts.
+ */
+@Component
+public class ConnectionHoldMetrics implements BeanPostProcessor, MetricsTrackerFactory {
+
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder totalHoldMillis = new LongAdder();
+    private final AtomicLong maxHoldMillis = new AtomicLong();
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+            dataSource.setMetricsTrackerFactory(this);
+        }
+        return bean;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                checkouts.increment();
+                totalHoldMillis.add(elapsedBorrowedMillis);
+                maxHoldMillis.accumulateAndGet(elapsedBorrowedMillis, Math::max);
+            }
+        };
+    }
+
+    public long getCheckouts() {
+        return checkouts.sum();
+    }
+
+    public long getTotalHoldMillis() {
+        return totalHoldMillis.sum();
+    }
+
+    public long getMaxHoldMillis() {
+        return maxHoldMillis.get();
+    }
+
+    public double getAverageHoldMillis() {
+        long count = checkouts.sum();
+        return count == 0 ? 0 : (double) totalHoldMillis.sum() / count;
+    }
+}
@@ -5,8 +5,11 @@ import com.example.dinner_picker_backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 public class DataLoader implements CommandLineRunner {
@@ -23,7 +26,11 @@ public class DataLoader implements CommandLineRunner {
     @Autowired
     private OptionRepository optionRepository;
 
+    @Autowired
+    private Clock clock;
+
     @Override
+    @Transactional
     public void run(String... args) throws Exception {
         if (userRepository.count() == 0) {
             // Create default user
@@ -33,42 +40,39 @@ public class DataLoader implements CommandLineRunner {
             // Create sample groups
             Group workGroup = new Group("Work Team", "Weekly lunch decisions for the office", "💼", "#667eea");
             workGroup.getMembers().add(user);
-            workGroup = groupRepository.save(workGroup);
 
             Group friendsGroup = new Group("Weekend Squad", "Friends weekend dining adventures", "🎉", "#f093fb");
             friendsGroup.getMembers().add(user);
-            friendsGroup = groupRepository.save(friendsGroup);
 
             Group familyGroup = new Group("Family Dinners", "Sunday family meal planning", "👨‍👩‍👧‍👦", "#4facfe");
             familyGroup.getMembers().add(user);
-            familyGroup = groupRepository.save(familyGroup);
 
             // Create sample voting sessions
             VotingSession workSession = new VotingSession("Friday Team Lunch", "Let's decide where to eat this Friday!", workGroup);
-            workSession.setDeadline(LocalDateTime.now().plusDays(2));
-            workSession = votingSessionRepository.save(workSession);
+            workSession.setDeadline(LocalDateTime.now(clock).plusDays(2));
 
             VotingSession friendsSession = new VotingSession("Saturday Night Dinner", "Epic dinner spot for Saturday night", friendsGroup);
-            friendsSession = votingSessionRepository.save(friendsSession);
 
             // Add sample restaurants
             Option option1 = new Option("Pasta Paradise", "https://pastaparadise.com", workSession);
             option1.setCuisine("Italian");
             option1.setPriceRange("$$");
             option1.setVotes(3);
-            optionRepository.save(option1);
 
             Option option2 = new Option("Taco Fiesta", "https://tacofiesta.com", workSession);
             option2.setCuisine("Mexican");
             option2.setPriceRange("$");
             option2.setVotes(5);
-            optionRepository.save(option2);
 
             Option option3 = new Option("Sushi Zen", "https://sushizen.com", friendsSession);
             option3.setCuisine("Japanese");
             option3.setPriceRange("$$$");
             option3.setVotes(2);
-            optionRepository.save(option3);
+
+            // One transaction, so each table's rows go out as a single JDBC batch at commit
+            groupRepository.saveAll(List.of(workGroup, friendsGroup, familyGroup));
+            votingSessionRepository.saveAll(List.of(workSession, friendsSession));
+            optionRepository.saveAll(List.of(option1, option2, option3));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.example.dinner_picker_backend.config;
+
+// Work shed by the DbPermitLimiter; answered with 503 so clients retry instead of giving up
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.dinner_picker_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many threads use the database at once, in front of the connection pool.
+ *
+ * With virtual threads (spring.threads.virtual.enabled) Tomcat no longer bounds concurrency, so
+ * thousands of requests can reach Hikari together and park there until its connection timeout.
+ * Instead, every connection checkout first takes a permit from a fair semaphore. At most
+ * db.limiter.max-queued threads wait for one, each for at most db.limiter.queue-timeout-ms; past
+ * either limit the work is shed with a DatabaseBusyException, which the API turns into a 503.
+ *
+ * A permit is held until the connection is closed. A thread that already holds one, e.g. while
+ * the id generator runs its own transaction, does not queue for a second one. That second
+ * connection still comes from the pool, so by default db.limiter.reserved-connections are kept
+ * out of the permits: even with every permit holder inside the id generator at once, some of
+ * their second connections are served and the rest only wait for those to close.
+ */
+@Component
+public class DbPermitLimiter implements BeanPostProcessor {
+
+    private final boolean enabled;
+    private final int configuredPermits;
+    private final int reservedConnections;
+    private final int maxQueued;
+    private final long queueTimeoutMs;
+
+    private volatile Semaphore permits;
+    private volatile int permitCount;
+
+    // Connections each thread has open through this data source
+    private final ThreadLocal<int[]> openByThread = ThreadLocal.withInitial(() -> new int[1]);
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder shed = new LongAdder();
+
+    public DbPermitLimiter(@Value("${db.limiter.enabled:true}") boolean enabled,
+                           @Value("${db.limiter.permits:0}") int permits,
+                           @Value("${db.limiter.reserved-connections:2}") int reservedConnections,
+                           @Value("${db.limiter.max-queued:1000}") int maxQueued,
+                           @Value("${db.limiter.queue-timeout-ms:2000}") long queueTimeoutMs) {
+        this.enabled = enabled;
+        this.configuredPermits = permits;
+        this.reservedConnections = reservedConnections;
+        this.maxQueued = maxQueued;
+        this.queueTimeoutMs = queueTimeoutMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof LimitedDataSource || permits != null) {
+            return bean;
+        }
+
+        // 0 means the pool size less the reserved connections, so waiting happens here and not in
+        // Hikari; an unset pool size reads as -1 until the pool starts, and Hikari then uses 10
+        int count = configuredPermits;
+        if (count <= 0) {
+            int poolSize = bean instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : 10;
+            count = Math.max(1, poolSize - reservedConnections);
+        }
+        permitCount = count;
+        permits = new Semaphore(count, true);
+        return new LimitedDataSource(dataSource);
+    }
+
+    public int getPermits() {
+        return permitCount;
+    }
+
+    public int getAvailablePermits() {
+        Semaphore current = permits;
+        return current != null ? current.availablePermits() : 0;
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public long getShed() {
+        return shed.sum();
+    }
+
+    // For catch blocks that would otherwise report a shed request as a client or server error,
+    // and for failures handed over from another thread, e.g. the batched vote writer
+    public static void rethrowIfShed(Throwable e) {
+        if (isShed(e)) {
+            throw e instanceof DatabaseBusyException busy ? busy : new DatabaseBusyException("The database is busy, try again shortly", e);
+        }
+    }
+
+    public static boolean isShed(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PermitUnavailableException || cause instanceof DatabaseBusyException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // True when a permit was taken, false when this thread already holds one
+    private boolean acquire(int[] open) throws SQLException {
+        if (open[0] > 0) {
+            open[0]++;
+            return false;
+        }
+
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            shed.increment();
+            throw new PermitUnavailableException("Too many requests are waiting for the database");
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the database", e);
+        } finally {
+            queued.decrementAndGet();
+        }
+
+        if (!acquired) {
+            shed.increment();
+            throw new PermitUnavailableException("The database is busy, try again shortly");
+        }
+        open[0] = 1;
+        return true;
+    }
+
+    // The counter of the thread that opened the connection, even if another thread closes it
+    private void release(int[] open, boolean permit) {
+        if (open[0] > 0) {
+            open[0]--;
+        }
+        if (permit) {
+            permits.release();
+        }
+    }
+
+    // Thrown from getConnection; reaches callers wrapped in Spring's transaction or data access exceptions
+    static class PermitUnavailableException extends SQLTransientConnectionException {
+        PermitUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    private class LimitedDataSource extends DelegatingDataSource {
+
+        LimitedDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            int[] open = openByThread.get();
+            boolean permit = acquire(open);
+            try {
+                return releasingOnClose(super.getConnection(), open, permit);
+            } catch (SQLException | RuntimeException e) {
+                release(open, permit);
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            int[] open = openByThread.get();
+            boolean permit = acquire(open);
+            try {
+                return releasingOnClose(super.getConnection(username, password), open, permit);
+            } catch (SQLException | RuntimeException e) {
+                release(open, permit);
+                throw e;
+            }
+        }
+
+        private Connection releasingOnClose(Connection target, int[] open, boolean permit) {
+            boolean[] closed = new boolean[1];
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                if (!closed[0]) {
+                                    closed[0] = true;
+                                    try {
+                                        target.close();
+                                    } finally {
+                                        release(open, permit);
+                                    }
+                                }
+                                return null;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                try {
+                                    return method.invoke(target, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getTargetException();
+                                }
+                        }
+                    });
+        }
+    }
+}
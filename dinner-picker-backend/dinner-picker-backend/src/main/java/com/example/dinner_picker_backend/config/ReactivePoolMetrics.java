@@ -0,0 +1,50 @@
+package com.example.dinner_picker_backend.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size and use of the R2DBC pool behind the /api/reactive reads.
+ *
+ * That pool is separate from Hikari and not covered by DbPermitLimiter, which guards threads
+ * blocked on JDBC connections; a reactive read holds no thread while it waits. Its own
+ * spring.r2dbc.pool.max-size caps it, and reads that get no connection within max-acquire-time
+ * are shed with a 503. The database can therefore see the Hikari pool size plus max-size
+ * connections from each instance.
+ */
+@Component
+public class ReactivePoolMetrics {
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    private final LongAdder shed = new LongAdder();
+
+    public void recordShed() {
+        shed.increment();
+    }
+
+    public long getShed() {
+        return shed.sum();
+    }
+
+    public Map<String, Object> getPoolStats() {
+        Map<String, Object> stats = new HashMap<>();
+        if (connectionFactory instanceof ConnectionPool pool) {
+            pool.getMetrics().ifPresent(metrics -> {
+                stats.put("maxSize", metrics.getMaxAllocatedSize());
+                stats.put("acquired", metrics.acquiredSize());
+                stats.put("idle", metrics.idleSize());
+                stats.put("pending", metrics.pendingAcquireSize());
+            });
+        }
+        stats.put("shed", shed.sum());
+        return stats;
+    }
+}
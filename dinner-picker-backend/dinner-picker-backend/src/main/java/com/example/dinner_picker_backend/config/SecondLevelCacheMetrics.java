@@ -0,0 +1,63 @@
+package com.example.dinner_picker_backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hit, miss and eviction counts of the Hibernate second-level cache regions, read from the
+ * Caffeine caches behind them (see application.conf).
+ */
+@Component
+public class SecondLevelCacheMetrics {
+
+    private static final String ENTITY_PACKAGE = "com.example.dinner_picker_backend.entity.";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Region name (without the entity package) -> counters
+    public Map<String, Map<String, Object>> getRegionStats() {
+        Map<String, Map<String, Object>> regions = new TreeMap<>();
+        CacheManager cacheManager = cacheManager();
+        if (cacheManager == null) {
+            return regions;
+        }
+
+        for (String name : cacheManager.getCacheNames()) {
+            javax.cache.Cache<Object, Object> cache = cacheManager.getCache(name);
+            if (cache == null) {
+                continue;
+            }
+            Cache<?, ?> caffeine = cache.unwrap(Cache.class);
+            CacheStats stats = caffeine.stats();
+
+            Map<String, Object> region = new HashMap<>();
+            region.put("hits", stats.hitCount());
+            region.put("misses", stats.missCount());
+            region.put("hitRate", stats.hitRate());
+            region.put("evictions", stats.evictionCount());
+            region.put("size", caffeine.estimatedSize());
+            caffeine.policy().eviction().ifPresent(eviction -> region.put("maximumSize", eviction.getMaximum()));
+            regions.put(name.startsWith(ENTITY_PACKAGE) ? name.substring(ENTITY_PACKAGE.length()) : name, region);
+        }
+        return regions;
+    }
+
+    private CacheManager cacheManager() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        if (sessionFactory.getCache().getRegionFactory() instanceof JCacheRegionFactory regionFactory) {
+            return regionFactory.getCacheManager();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.dinner_picker_backend.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects (cache evictions, version bumps, published tallies) until the
+ * surrounding transaction has ended, so no reader can see them before the data they describe.
+ * Without an active transaction the write has already happened, so the action runs at once.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // Only once the transaction has committed; dropped on rollback
+    public static void afterCommit(Runnable action) {
+        afterCompletion(action, () -> {});
+    }
+
+    // Once the transaction has ended, whether it committed or rolled back
+    public static void afterCompletion(Runnable action) {
+        afterCompletion(action, action);
+    }
+
+    public static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
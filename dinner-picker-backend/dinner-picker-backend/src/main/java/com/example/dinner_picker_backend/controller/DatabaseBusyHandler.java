@@ -0,0 +1,52 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.config.DatabaseBusyException;
+import com.example.dinner_picker_backend.config.DbPermitLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Requests shed by the DbPermitLimiter get 503 with Retry-After, whichever endpoint they hit.
+// Only failures whose cause chain holds the shed itself are mapped; controllers that catch
+// Exception pass those on with DbPermitLimiter.rethrowIfShed and keep their other error responses.
+@RestControllerAdvice
+public class DatabaseBusyHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseBusyHandler.class);
+
+    private static final String BUSY_MESSAGE = "The database is busy, try again shortly";
+
+    @ExceptionHandler(DatabaseBusyException.class)
+    public ResponseEntity<Map<String, Object>> databaseBusy(DatabaseBusyException e) {
+        logger.warn("Shedding request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(busyBody(e.getMessage()));
+    }
+
+    // Endpoints without their own catch blocks see the rejection wrapped by Spring; anything
+    // else is rethrown to the default error handling
+    @ExceptionHandler({TransactionException.class, DataAccessException.class})
+    public ResponseEntity<Map<String, Object>> dataAccessFailure(RuntimeException e) {
+        if (!DbPermitLimiter.isShed(e)) {
+            throw e;
+        }
+        return databaseBusy(new DatabaseBusyException(BUSY_MESSAGE, e));
+    }
+
+    private static Map<String, Object> busyBody(String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("error", message);
+        return response;
+    }
+}
@@ -1,23 +1,47 @@
 package com.example.dinner_picker_backend.controller;
 
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.config.DbPermitLimiter;
 import com.example.dinner_picker_backend.dto.AddOptionRequest;
+import com.example.dinner_picker_backend.dto.BatchVoteRequest;
+import com.example.dinner_picker_backend.dto.CursorPage;
 import com.example.dinner_picker_backend.dto.LockRequest;
+import com.example.dinner_picker_backend.dto.OptionImportResult;
+import com.example.dinner_picker_backend.dto.OptionSummary;
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.dto.SessionOptions;
+import com.example.dinner_picker_backend.dto.SessionTallies;
 import com.example.dinner_picker_backend.dto.VoteRequest;
 import com.example.dinner_picker_backend.entity.Option;
 import com.example.dinner_picker_backend.service.DinnerPickerService;
+import com.example.dinner_picker_backend.service.OptionImportService;
+import com.example.dinner_picker_backend.service.VoteIngestionService;
+import com.example.dinner_picker_backend.stream.SessionTallyBroadcaster;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api")
@@ -26,23 +50,53 @@ public class DinnerPickerController {
 
     private static final Logger logger = LoggerFactory.getLogger(DinnerPickerController.class);
 
+    private static final int MAX_TOP_K = 100;
+
     @Autowired
     private DinnerPickerService dinnerPickerService;
 
+    @Autowired
+    private VoteIngestionService voteIngestionService;
+
+    @Autowired
+    private SessionTallyBroadcaster tallyBroadcaster;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private OptionImportService optionImportService;
+
     // Get all options (for backward compatibility)
+    // Without cursor or size this is the full list older clients expect; with either, one keyset page
     @GetMapping("/options")
-    public ResponseEntity<?> getOptions() {
+    public ResponseEntity<?> getOptions(@RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer size) {
         try {
-            logger.info("Fetching all options");
-            List<Option> options = dinnerPickerService.getAllOptions();
-
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", options);
-            response.put("total", options.size());
+
+            if (cursor == null && size == null) {
+                logger.info("Fetching all options");
+                List<OptionSummary> options = dinnerPickerService.getAllOptions();
+                response.put("data", options);
+                response.put("total", options.size());
+            } else {
+                logger.info("Fetching page of options");
+                CursorPage<OptionSummary> page = dinnerPickerService.getOptionsPage(cursor, size != null ? size : CursorPage.DEFAULT_SIZE);
+                response.put("data", page.getItems());
+                response.put("total", page.getItems().size());
+                response.put("nextCursor", page.getNextCursor());
+            }
 
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error fetching options: ", e);
 
             Map<String, Object> errorResponse = new HashMap<>();
@@ -53,12 +107,10 @@ public class DinnerPickerController {
         }
     }
 
-    // Get options by session
+    // Get options by session; with sinceVersion, only the options changed after that version
     @GetMapping("/sessions/{sessionId}/options")
-    public ResponseEntity<?> getSessionOptions(@PathVariable Long sessionId) {
+    public ResponseEntity<?> getSessionOptions(@PathVariable Long sessionId, @RequestParam(required = false) Long sinceVersion, WebRequest webRequest) {
         try {
-            logger.info("Fetching options for session ID: {}", sessionId);
-
             if (sessionId == null || sessionId <= 0) {
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("success", false);
@@ -66,15 +118,33 @@ public class DinnerPickerController {
                 return ResponseEntity.badRequest().body(errorResponse);
             }
 
-            List<Option> options = dinnerPickerService.getSessionOptions(sessionId);
+            if (sinceVersion != null && sinceVersion < 0) {
+                Map<String, Object> errorResponse = new HashMap<>();
+                errorResponse.put("success", false);
+                errorResponse.put("error", "Invalid version");
+                return ResponseEntity.badRequest().body(errorResponse);
+            }
+
+            // A primary key probe; the body is only read when the client's copy is out of date
+            if (webRequest.checkNotModified(resourceVersions.sessionEtag(sessionId, dinnerPickerService.getSessionVersion(sessionId)))) {
+                return null;
+            }
+
+            logger.info("Fetching options for session ID: {} since version {}", sessionId, sinceVersion);
+            SessionOptions result = dinnerPickerService.getSessionOptions(sessionId, sinceVersion);
+            // The options were read after this version, so they are never older than the tag
+            String etag = resourceVersions.sessionEtag(sessionId, result.getVersion());
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", options);
-            response.put("total", options.size());
+            response.put("data", result.getOptions());
+            response.put("total", result.getOptions().size());
+            response.put("version", result.getVersion());
+            response.put("incremental", result.isIncremental());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error fetching options for session {}: ", sessionId, e);
 
             Map<String, Object> errorResponse = new HashMap<>();
@@ -85,6 +155,87 @@ public class DinnerPickerController {
         }
     }
 
+    // Get vote counts only for a session (cheap auto-refresh)
+    @GetMapping("/sessions/{sessionId}/tallies")
+    public ResponseEntity<?> getSessionTallies(@PathVariable Long sessionId) {
+        try {
+            logger.debug("Fetching tallies for session ID: {}", sessionId);
+
+            if (sessionId == null || sessionId <= 0) {
+                Map<String, Object> errorResponse = new HashMap<>();
+                errorResponse.put("success", false);
+                errorResponse.put("error", "Invalid session ID");
+                return ResponseEntity.badRequest().body(errorResponse);
+            }
+
+            List<OptionTally> tallies = dinnerPickerService.getSessionTallies(sessionId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", tallies);
+            response.put("total", tallies.size());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            logger.error("Error fetching tallies for session {}: ", sessionId, e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", "Failed to fetch session tallies");
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    // Live tallies for a session as Server-Sent Events ("tallies" events, id = session version)
+    @GetMapping(value = "/sessions/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSessionTallies(@PathVariable Long sessionId) {
+        try {
+            logger.debug("Opening tally stream for session ID: {}", sessionId);
+            return ResponseEntity.ok(tallyBroadcaster.subscribe(sessionId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            logger.warn("Rejected tally stream for session {}: {}", sessionId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // Top k options of a session by votes; ties go to the option added first
+    @GetMapping("/sessions/{sessionId}/top")
+    public ResponseEntity<?> getTopOptions(@PathVariable Long sessionId, @RequestParam(defaultValue = "3") Integer k) {
+        try {
+            logger.debug("Fetching top {} options for session ID: {}", k, sessionId);
+
+            if (sessionId == null || sessionId <= 0 || k == null || k <= 0 || k > MAX_TOP_K) {
+                Map<String, Object> errorResponse = new HashMap<>();
+                errorResponse.put("success", false);
+                errorResponse.put("error", "Invalid session ID or k (1-" + MAX_TOP_K + ")");
+                return ResponseEntity.badRequest().body(errorResponse);
+            }
+
+            List<OptionTally> top = dinnerPickerService.getTopOptions(sessionId, k);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", top);
+            response.put("total", top.size());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            logger.error("Error fetching top options for session {}: ", sessionId, e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", "Failed to fetch top options");
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
     // Add option to session
     @PostMapping("/options")
     public ResponseEntity<?> addOption(@Valid @RequestBody AddOptionRequest request, BindingResult bindingResult) {
@@ -139,12 +290,14 @@ public class DinnerPickerController {
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
         } catch (RuntimeException e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.warn("Business logic error adding option: ", e);
             response.put("success", false);
             response.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
 
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error adding option: ", e);
             response.put("success", false);
             response.put("error", "Failed to add restaurant");
@@ -153,6 +306,94 @@ public class DinnerPickerController {
         }
     }
 
+    // Import a list of restaurants streamed as the request body (text/csv or application/x-ndjson);
+    // rows are validated and inserted as they arrive, and rejected rows are listed in the response
+    @PostMapping(value = "/sessions/{sessionId}/options:import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<?> importOptions(@PathVariable Long sessionId,
+                                           @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           InputStream body) {
+        OptionImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? OptionImportService.Format.NDJSON
+                : OptionImportService.Format.CSV;
+        return importOptions(sessionId, body, format);
+    }
+
+    // The same import as a multipart upload of a .csv or .ndjson file (apiUtils.uploadFile)
+    @PostMapping(value = "/sessions/{sessionId}/options:import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importOptionsFile(@PathVariable Long sessionId, @RequestParam("file") MultipartFile file) {
+        OptionImportService.Format format = importFormat(file);
+        if (format == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Upload a .csv or .ndjson file");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        try (InputStream body = file.getInputStream()) {
+            return importOptions(sessionId, body, format);
+        } catch (IOException e) {
+            logger.error("Error reading uploaded file for session {}: ", sessionId, e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Failed to read the uploaded file");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    private ResponseEntity<?> importOptions(Long sessionId, InputStream body, OptionImportService.Format format) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            logger.info("Importing {} options into session ID: {}", format, sessionId);
+
+            OptionImportResult result = optionImportService.importOptions(sessionId, body, format);
+
+            response.put("success", result.getStoppedReason() == null);
+            response.put("data", result);
+            if (result.getStoppedReason() != null) {
+                response.put("error", result.getStoppedReason());
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.ok(response);
+
+        } catch (DataAccessException | TransactionException e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            // Batches before the failing one stay committed
+            logger.error("Database error importing options into session {}: ", sessionId, e);
+            response.put("success", false);
+            response.put("error", "Failed to import restaurants");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+
+        } catch (RuntimeException e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            logger.warn("Business logic error importing options: ", e);
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+
+        } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            logger.error("Error importing options into session {}: ", sessionId, e);
+            response.put("success", false);
+            response.put("error", "Failed to import restaurants");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    // By content type, falling back to the file extension (browsers send CSV under several types)
+    private static OptionImportService.Format importFormat(MultipartFile file) {
+        String contentType = file.getContentType() != null ? file.getContentType().toLowerCase(Locale.ROOT) : "";
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+
+        if (contentType.startsWith(MediaType.APPLICATION_NDJSON_VALUE) || filename.endsWith(".ndjson") || filename.endsWith(".jsonl")) {
+            return OptionImportService.Format.NDJSON;
+        }
+        if (contentType.startsWith("text/csv") || filename.endsWith(".csv")) {
+            return OptionImportService.Format.CSV;
+        }
+        return null;
+    }
+
     // Vote for an option
     @PostMapping("/options/{optionId}/vote")
     public ResponseEntity<?> vote(@PathVariable Long optionId, @RequestBody Map<String, Integer> requestBody) {
@@ -174,22 +415,31 @@ public class DinnerPickerController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            dinnerPickerService.vote(optionId, delta);
+            Integer votes = voteIngestionService.vote(optionId, delta);
 
             logger.info("Successfully processed vote for option ID: {}", optionId);
 
             response.put("success", true);
+            response.put("votes", votes);
             response.put("message", "Vote processed successfully");
 
             return ResponseEntity.ok(response);
 
+        } catch (RejectedExecutionException e) {
+            logger.warn("Vote queue full, rejecting vote for option ID: {}", optionId);
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+
         } catch (RuntimeException e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.warn("Business logic error processing vote: ", e);
             response.put("success", false);
             response.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
 
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error processing vote: ", e);
             response.put("success", false);
             response.put("error", "Failed to process vote");
@@ -197,6 +447,53 @@ public class DinnerPickerController {
         }
     }
 
+    // Apply several votes to one session at once, e.g. switching from one option to another
+    @PostMapping("/sessions/{sessionId}/votes")
+    public ResponseEntity<?> castVotes(@PathVariable Long sessionId, @Valid @RequestBody BatchVoteRequest request, BindingResult bindingResult) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            logger.info("Processing {} votes for session ID: {}", request.getVotes() != null ? request.getVotes().size() : 0, sessionId);
+
+            if (bindingResult.hasErrors()) {
+                Map<String, String> errors = new HashMap<>();
+
+                for (FieldError error : bindingResult.getFieldErrors()) {
+                    errors.put(error.getField(), error.getDefaultMessage());
+                }
+
+                response.put("success", false);
+                response.put("error", "Validation failed");
+                response.put("errors", errors);
+
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            SessionTallies result = dinnerPickerService.castVotes(sessionId, request.getVotes());
+
+            response.put("success", true);
+            response.put("data", result.getTallies());
+            response.put("version", result.getVersion());
+            response.put("message", "Votes processed successfully");
+
+            return ResponseEntity.ok(response);
+
+        } catch (RuntimeException e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            logger.warn("Business logic error processing votes: ", e);
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+
+        } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            logger.error("Error processing votes: ", e);
+            response.put("success", false);
+            response.put("error", "Failed to process votes");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     // Legacy vote endpoint (for backward compatibility)
     @PostMapping("/vote")
     public ResponseEntity<?> legacyVote(@RequestBody Map<String, Object> requestBody) {
@@ -229,6 +526,7 @@ public class DinnerPickerController {
             return vote(optionId, Map.of("delta", delta));
 
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error in legacy vote endpoint: ", e);
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -254,6 +552,7 @@ public class DinnerPickerController {
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error locking/unlocking voting: ", e);
             response.put("success", false);
             response.put("error", "Failed to update voting status");
@@ -278,6 +577,7 @@ public class DinnerPickerController {
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error fetching winner: ", e);
 
             Map<String, Object> errorResponse = new HashMap<>();
@@ -288,14 +588,14 @@ public class DinnerPickerController {
         }
     }
 
-    // Get voting status
+    // Get voting status; both values are cached, monitoring counters live on /api/metrics
     @GetMapping("/status")
     public ResponseEntity<?> getStatus() {
         try {
             logger.info("Fetching voting status");
 
             boolean isLocked = dinnerPickerService.isVotingLocked();
-            int totalOptions = dinnerPickerService.getAllOptions().size();
+            long totalOptions = dinnerPickerService.getTotalOptions();
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -305,6 +605,7 @@ public class DinnerPickerController {
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error fetching status: ", e);
 
             Map<String, Object> errorResponse = new HashMap<>();
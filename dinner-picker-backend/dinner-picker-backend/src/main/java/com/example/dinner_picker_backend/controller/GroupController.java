@@ -1,21 +1,33 @@
 package com.example.dinner_picker_backend.controller;
 
+import com.example.dinner_picker_backend.cache.GroupListResponseCache;
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.config.DbPermitLimiter;
+import com.example.dinner_picker_backend.dto.BulkMembersRequest;
+import com.example.dinner_picker_backend.dto.BulkMembersResult;
 import com.example.dinner_picker_backend.dto.CreateGroupRequest;
+import com.example.dinner_picker_backend.dto.CursorPage;
+import com.example.dinner_picker_backend.dto.GroupSummary;
 import com.example.dinner_picker_backend.entity.Group;
 import com.example.dinner_picker_backend.service.GroupService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,19 +40,70 @@ public class GroupController {
     @Autowired
     private GroupService groupService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private GroupListResponseCache groupListCache;
+
+    // Without cursor or size this is the full list older clients expect; with either, one keyset page
     @GetMapping
-    public ResponseEntity<?> getAllGroups() {
+    public ResponseEntity<?> getAllGroups(@RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size,
+                                          WebRequest webRequest) {
         try {
-            logger.info("Fetching all groups");
-            List<Group> groups = groupService.getAllGroups();
+            if (cursor == null && size == null) {
+                // Already serialized (and gzipped) for this version of the list
+                GroupListResponseCache.CachedBody cached = groupListCache.get(Long.toString(resourceVersions.groupListVersion()), () -> {
+                    logger.info("Fetching all groups");
+                    List<GroupSummary> groups = groupService.getAllGroups();
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("data", groups);
+                    response.put("total", groups.size());
+                    return response;
+                });
+
+                // Checked against the body about to be sent, so a rebuilt body never reuses an old tag
+                boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+                String etag = gzip ? cached.getGzipEtag() : cached.getEtag();
+                if (webRequest.checkNotModified(etag)) {
+                    return null;
+                }
 
+                ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .contentType(MediaType.APPLICATION_JSON);
+                if (gzip) {
+                    return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.getGzip());
+                }
+                return builder.body(cached.getJson());
+            }
+
+            // Answered from memory when the client's copy is current
+            String etag = resourceVersions.groupsEtag();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
+            logger.info("Fetching page of groups");
+            CursorPage<GroupSummary> page = groupService.getGroupsPage(cursor, size != null ? size : CursorPage.DEFAULT_SIZE);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", groups);
-            response.put("total", groups.size());
+            response.put("data", page.getItems());
+            response.put("total", page.getItems().size());
+            response.put("nextCursor", page.getNextCursor());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error fetching groups: ", e);
 
             Map<String, Object> errorResponse = new HashMap<>();
@@ -53,10 +116,8 @@ public class GroupController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getGroup(@PathVariable Long id) {
+    public ResponseEntity<?> getGroup(@PathVariable Long id, WebRequest webRequest) {
         try {
-            logger.info("Fetching group with ID: {}", id);
-
             if (id == null || id <= 0) {
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("success", false);
@@ -64,12 +125,19 @@ public class GroupController {
                 return ResponseEntity.badRequest().body(errorResponse);
             }
 
-            return groupService.getGroupById(id)
+            String etag = resourceVersions.groupEtag(id);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
+            logger.info("Fetching group with ID: {}", id);
+
+            return groupService.getGroupDetail(id)
                     .map(group -> {
                         Map<String, Object> response = new HashMap<>();
                         response.put("success", true);
                         response.put("data", group);
-                        return ResponseEntity.ok(response);
+                        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
                     })
                     .orElseGet(() -> {
                         Map<String, Object> errorResponse = new HashMap<>();
@@ -78,6 +146,7 @@ public class GroupController {
                         return ResponseEntity.notFound().build();
                     });
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error fetching group with ID {}: ", id, e);
 
             Map<String, Object> errorResponse = new HashMap<>();
@@ -146,6 +215,7 @@ public class GroupController {
             return ResponseEntity.badRequest().body(response);
 
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error creating group: ", e);
             response.put("success", false);
             response.put("error", "Failed to create group");
@@ -155,7 +225,9 @@ public class GroupController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<?> getUserGroups(@PathVariable Long userId) {
+    public ResponseEntity<?> getUserGroups(@PathVariable Long userId,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer size) {
         try {
             logger.info("Fetching groups for user ID: {}", userId);
 
@@ -166,16 +238,30 @@ public class GroupController {
                 return ResponseEntity.badRequest().body(errorResponse);
             }
 
-            List<Group> groups = groupService.getUserGroups(userId);
-
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", groups);
-            response.put("total", groups.size());
+
+            if (cursor == null && size == null) {
+                List<GroupSummary> groups = groupService.getUserGroups(userId);
+                response.put("data", groups);
+                response.put("total", groups.size());
+            } else {
+                CursorPage<GroupSummary> page = groupService.getUserGroupsPage(userId, cursor, size != null ? size : CursorPage.DEFAULT_SIZE);
+                response.put("data", page.getItems());
+                response.put("total", page.getItems().size());
+                response.put("nextCursor", page.getNextCursor());
+            }
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error fetching groups for user {}: ", userId, e);
 
             Map<String, Object> errorResponse = new HashMap<>();
@@ -186,8 +272,10 @@ public class GroupController {
         }
     }
 
+    // With background=true, a group with a long history is purged after the response (202)
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteGroup(@PathVariable Long id) {
+    public ResponseEntity<?> deleteGroup(@PathVariable Long id,
+                                         @RequestParam(defaultValue = "false") boolean background) {
         Map<String, Object> response = new HashMap<>();
 
         try {
@@ -199,6 +287,15 @@ public class GroupController {
                 return ResponseEntity.badRequest().body(response);
             }
 
+            if (background) {
+                if (!groupService.deleteGroupInBackground(id)) {
+                    return ResponseEntity.notFound().build();
+                }
+                response.put("success", true);
+                response.put("message", "Group deletion started");
+                return ResponseEntity.accepted().body(response);
+            }
+
             boolean deleted = groupService.deleteGroup(id);
 
             if (deleted) {
@@ -213,10 +310,73 @@ public class GroupController {
             }
 
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             logger.error("Error deleting group with ID {}: ", id, e);
             response.put("success", false);
             response.put("error", "Failed to delete group");
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
-}
\ No newline at end of file
+
+    // Onboards many users at once, by id and/or email; existing members and unknown users are
+    // reported back rather than failing the import
+    @PostMapping("/{id}/members:bulk")
+    public ResponseEntity<?> addMembersBulk(@PathVariable Long id,
+                                            @Valid @RequestBody BulkMembersRequest request,
+                                            BindingResult bindingResult) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            logger.info("Bulk importing members into group {}", id);
+
+            if (bindingResult.hasErrors()) {
+                response.put("success", false);
+                response.put("error", bindingResult.getFieldErrors().get(0).getDefaultMessage());
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            Optional<BulkMembersResult> result = groupService.addMembersBulk(id, request.getUserIds(), request.getEmails());
+
+            if (result.isEmpty()) {
+                response.put("success", false);
+                response.put("error", "Group not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+
+            response.put("success", true);
+            response.put("data", result.get());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+
+        } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
+            logger.error("Error importing members into group {}: ", id, e);
+            response.put("success", false);
+            response.put("error", "Failed to import members");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    // True unless the client left gzip out or refused it with q=0
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].replace(" ", "").matches("q=0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.config.ConnectionHoldMetrics;
+import com.example.dinner_picker_backend.config.DbPermitLimiter;
+import com.example.dinner_picker_backend.config.ReactivePoolMetrics;
+import com.example.dinner_picker_backend.config.SecondLevelCacheMetrics;
+import com.example.dinner_picker_backend.service.DinnerPickerService;
+import com.example.dinner_picker_backend.stream.SessionTallyBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Operational counters for monitoring: caches, the tally stream, connection use and the
+ * database permit limiter. Kept off /api/status, which the frontend polls and which only
+ * reports voting state.
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsController.class);
+
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+
+    @Autowired
+    private SessionTallyBroadcaster tallyBroadcaster;
+
+    @Autowired
+    private ConnectionHoldMetrics connectionHoldMetrics;
+
+    @Autowired
+    private DbPermitLimiter dbPermitLimiter;
+
+    @Autowired
+    private ReactivePoolMetrics reactivePoolMetrics;
+
+    @Autowired
+    private SecondLevelCacheMetrics secondLevelCacheMetrics;
+
+    @GetMapping
+    public ResponseEntity<?> getMetrics() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("lockReadsAvoided", dinnerPickerService.getLockReadsAvoided());
+            response.put("streamSubscribers", tallyBroadcaster.getSubscriberCount());
+            response.put("streamSlowSubscribersDropped", tallyBroadcaster.getSlowSubscribersDropped());
+            response.put("connectionHoldAvgMs", connectionHoldMetrics.getAverageHoldMillis());
+            response.put("connectionHoldMaxMs", connectionHoldMetrics.getMaxHoldMillis());
+            response.put("dbPermitsAvailable", dbPermitLimiter.getAvailablePermits());
+            response.put("dbPermitsQueued", dbPermitLimiter.getQueued());
+            response.put("dbRequestsShed", dbPermitLimiter.getShed());
+            response.put("reactivePool", reactivePoolMetrics.getPoolStats());
+            response.put("secondLevelCache", secondLevelCacheMetrics.getRegionStats());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            logger.error("Error fetching metrics: ", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", "Failed to fetch metrics");
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+}
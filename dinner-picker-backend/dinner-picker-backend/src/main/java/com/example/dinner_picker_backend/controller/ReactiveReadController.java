@@ -0,0 +1,148 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.config.DatabaseBusyException;
+import com.example.dinner_picker_backend.dto.SessionDetail;
+import com.example.dinner_picker_backend.dto.SessionOptions;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.service.ReactiveSessionReadService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Non-blocking twins of the busiest session reads, with the same payloads and ETags as
+ * DinnerPickerController.getSessionOptions/getSessionTallies and VotingSessionController.getSession.
+ * The request thread is handed back while the database works, and the response is written
+ * when the rows arrive. The options stream sends rows only as fast as the client reads them.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+@CrossOrigin(origins = {"http://localhost:3000", "http://127.0.0.1:3000"})
+public class ReactiveReadController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadController.class);
+
+    @Autowired
+    private ReactiveSessionReadService reactiveSessionReadService;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    // Same as GET /api/sessions/{sessionId}/options
+    @GetMapping("/sessions/{sessionId}/options")
+    public Mono<ResponseEntity<Map<String, Object>>> getSessionOptions(@PathVariable Long sessionId,
+                                                                       @RequestParam(required = false) Long sinceVersion,
+                                                                       WebRequest webRequest) {
+        if (sessionId == null || sessionId <= 0) {
+            return Mono.just(badRequest("Invalid session ID"));
+        }
+
+        if (sinceVersion != null && sinceVersion < 0) {
+            return Mono.just(badRequest("Invalid version"));
+        }
+
+        return reactiveSessionReadService.getSessionVersion(sessionId)
+                .flatMap(version -> {
+                    String etag = resourceVersions.sessionEtag(sessionId, version);
+                    if (webRequest.checkNotModified(etag)) {
+                        return Mono.just(ReactiveReadController.<Map<String, Object>>notModified(etag));
+                    }
+                    return reactiveSessionReadService.getSessionOptions(sessionId, sinceVersion)
+                            .map(result -> options(sessionId, result));
+                })
+                .onErrorResume(e -> failure(e, "Failed to fetch session options"));
+    }
+
+    // Every option of a session as newline-delimited JSON, read from the database with backpressure
+    @GetMapping(value = "/sessions/{sessionId}/options/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Option> streamSessionOptions(@PathVariable Long sessionId) {
+        return reactiveSessionReadService.streamSessionOptions(sessionId);
+    }
+
+    // Same as GET /api/sessions/{sessionId}/tallies
+    @GetMapping("/sessions/{sessionId}/tallies")
+    public Mono<ResponseEntity<Map<String, Object>>> getSessionTallies(@PathVariable Long sessionId) {
+        if (sessionId == null || sessionId <= 0) {
+            return Mono.just(badRequest("Invalid session ID"));
+        }
+
+        return reactiveSessionReadService.getSessionTallies(sessionId)
+                .map(tallies -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("data", tallies);
+                    response.put("total", tallies.size());
+
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(e -> failure(e, "Failed to fetch session tallies"));
+    }
+
+    // Same as GET /api/sessions/{id}
+    @GetMapping("/sessions/{id}")
+    public Mono<ResponseEntity<?>> getSession(@PathVariable Long id, WebRequest webRequest) {
+        if (id == null || id <= 0) {
+            return Mono.just(badRequest("Invalid session ID"));
+        }
+
+        return reactiveSessionReadService.getSessionDetail(id)
+                .<ResponseEntity<?>>map(session -> {
+                    String etag = resourceVersions.sessionEtag(session);
+                    if (webRequest.checkNotModified(etag)) {
+                        return ReactiveReadController.<SessionDetail>notModified(etag);
+                    }
+                    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(session);
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // Built explicitly: the tag is only known once the database has answered, after the handler returned
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    private ResponseEntity<Map<String, Object>> options(Long sessionId, SessionOptions result) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", result.getOptions());
+        response.put("total", result.getOptions().size());
+        response.put("version", result.getVersion());
+        response.put("incremental", result.isIncremental());
+
+        // The options were read after this version, so they are never older than the tag
+        String etag = resourceVersions.sessionEtag(sessionId, result.getVersion());
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    private static ResponseEntity<Map<String, Object>> badRequest(String error) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("error", error);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    // A 500 as on the blocking endpoints; shed reads go on to DatabaseBusyHandler for their 503
+    private static Mono<ResponseEntity<Map<String, Object>>> failure(Throwable e, String message) {
+        if (e instanceof DatabaseBusyException) {
+            return Mono.error(e);
+        }
+
+        logger.error("{}: ", message, e);
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("error", message);
+        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
+    }
+}
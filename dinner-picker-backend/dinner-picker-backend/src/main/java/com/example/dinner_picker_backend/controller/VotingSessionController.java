@@ -1,17 +1,24 @@
 package com.example.dinner_picker_backend.controller;
 
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.config.DbPermitLimiter;
 import com.example.dinner_picker_backend.dto.CreateVotingSessionRequest;
+import com.example.dinner_picker_backend.dto.CursorPage;
+import com.example.dinner_picker_backend.dto.SessionDetail;
 import com.example.dinner_picker_backend.entity.VotingSession;
 import com.example.dinner_picker_backend.service.VotingSessionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/sessions")
@@ -21,21 +28,60 @@ public class VotingSessionController {
     @Autowired
     private VotingSessionService votingSessionService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    // Without cursor or size this is the bare list older clients expect; with either, one keyset page
     @GetMapping("/group/{groupId}")
-    public ResponseEntity<List<VotingSession>> getGroupSessions(@PathVariable Long groupId) {
+    public ResponseEntity<?> getGroupSessions(@PathVariable Long groupId,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer size) {
         try {
-            List<VotingSession> sessions = votingSessionService.getGroupSessions(groupId);
-            return ResponseEntity.ok(sessions);
+            if (cursor == null && size == null) {
+                List<VotingSession> sessions = votingSessionService.getGroupSessions(groupId);
+                return ResponseEntity.ok(sessions);
+            }
+
+            CursorPage<VotingSession> page = votingSessionService.getGroupSessionsPage(groupId, cursor, size != null ? size : CursorPage.DEFAULT_SIZE);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", page.getItems());
+            response.put("total", page.getItems().size());
+            response.put("nextCursor", page.getNextCursor());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<VotingSession> getSession(@PathVariable Long id) {
-        return votingSessionService.getSessionById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<?> getSession(@PathVariable Long id, WebRequest webRequest) {
+        if (id == null || id <= 0) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Invalid session ID");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        // The tag follows the persisted version, so every instance agrees on it
+        Optional<SessionDetail> session = votingSessionService.getSessionDetail(id);
+        if (session.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = resourceVersions.sessionEtag(session.get());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(session.get());
     }
 
     @PostMapping
@@ -54,6 +100,7 @@ public class VotingSessionController {
             response.put("session", session);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             response.put("success", false);
             response.put("error", "Failed to create session: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
@@ -70,6 +117,7 @@ public class VotingSessionController {
             response.put("session", session);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
+            DbPermitLimiter.rethrowIfShed(e);
             response.put("success", false);
             response.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
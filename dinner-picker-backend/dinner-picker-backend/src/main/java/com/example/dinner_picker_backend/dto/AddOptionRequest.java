@@ -1,16 +1,25 @@
 package com.example.dinner_picker_backend.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 public class AddOptionRequest {
+    // Sizes match the VARCHAR(255) columns of options
     @NotBlank(message = "Name is required")
+    @Size(max = 255, message = "Name must be at most 255 characters")
     private String name;
 
     @NotBlank(message = "Link is required")
+    @Size(max = 255, message = "Link must be at most 255 characters")
     private String link;
 
+    @Size(max = 255, message = "Image URL must be at most 255 characters")
     private String imageUrl;
+
+    @Size(max = 255, message = "Cuisine must be at most 255 characters")
     private String cuisine;
+
+    @Size(max = 255, message = "Price range must be at most 255 characters")
     private String priceRange;
 
     // Optional - for new functionality
@@ -0,0 +1,24 @@
+package com.example.dinner_picker_backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class BatchVoteRequest {
+    @NotEmpty(message = "At least one vote is required")
+    @Size(max = 100, message = "At most 100 votes per request")
+    @Valid
+    private List<VoteRequest> votes;
+
+    // Constructors
+    public BatchVoteRequest() {}
+
+    public BatchVoteRequest(List<VoteRequest> votes) {
+        this.votes = votes;
+    }
+
+    // Getters and Setters
+    public List<VoteRequest> getVotes() { return votes; }
+    public void setVotes(List<VoteRequest> votes) { this.votes = votes; }
+}
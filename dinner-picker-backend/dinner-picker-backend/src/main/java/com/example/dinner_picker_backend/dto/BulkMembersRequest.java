@@ -0,0 +1,27 @@
+package com.example.dinner_picker_backend.dto;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class BulkMembersRequest {
+    @Size(max = 100000, message = "At most 100000 user ids per request")
+    private List<Long> userIds;
+
+    @Size(max = 100000, message = "At most 100000 emails per request")
+    private List<String> emails;
+
+    // Constructors
+    public BulkMembersRequest() {}
+
+    public BulkMembersRequest(List<Long> userIds, List<String> emails) {
+        this.userIds = userIds;
+        this.emails = emails;
+    }
+
+    // Getters and Setters
+    public List<Long> getUserIds() { return userIds; }
+    public void setUserIds(List<Long> userIds) { this.userIds = userIds; }
+
+    public List<String> getEmails() { return emails; }
+    public void setEmails(List<String> emails) { this.emails = emails; }
+}
@@ -0,0 +1,34 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.util.List;
+
+// Outcome of a bulk member import; every distinct user id or email lands in exactly one bucket
+public class BulkMembersResult {
+    private int added;
+    private int alreadyMembers;
+    private List<Long> unknownUserIds;
+    private List<String> unknownEmails;
+
+    // Constructors
+    public BulkMembersResult() {}
+
+    public BulkMembersResult(int added, int alreadyMembers, List<Long> unknownUserIds, List<String> unknownEmails) {
+        this.added = added;
+        this.alreadyMembers = alreadyMembers;
+        this.unknownUserIds = unknownUserIds;
+        this.unknownEmails = unknownEmails;
+    }
+
+    // Getters and Setters
+    public int getAdded() { return added; }
+    public void setAdded(int added) { this.added = added; }
+
+    public int getAlreadyMembers() { return alreadyMembers; }
+    public void setAlreadyMembers(int alreadyMembers) { this.alreadyMembers = alreadyMembers; }
+
+    public List<Long> getUnknownUserIds() { return unknownUserIds; }
+    public void setUnknownUserIds(List<Long> unknownUserIds) { this.unknownUserIds = unknownUserIds; }
+
+    public List<String> getUnknownEmails() { return unknownEmails; }
+    public void setUnknownEmails(List<String> unknownEmails) { this.unknownEmails = unknownEmails; }
+}
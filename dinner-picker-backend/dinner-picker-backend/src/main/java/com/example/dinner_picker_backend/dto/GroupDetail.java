@@ -0,0 +1,21 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.util.List;
+
+// Group header plus its member list; sessions are served by /api/sessions/group/{groupId}
+public class GroupDetail extends GroupSummary {
+    private List<MemberSummary> members;
+
+    // Constructors
+    public GroupDetail() {}
+
+    public GroupDetail(GroupSummary summary, List<MemberSummary> members) {
+        super(summary.getId(), summary.getName(), summary.getDescription(), summary.getEmojiIcon(), summary.getColorTheme(),
+                summary.getCreatedAt(), summary.getMemberCount(), summary.getSessionCount(), summary.getActiveSessionCount());
+        this.members = members;
+    }
+
+    // Getters and Setters
+    public List<MemberSummary> getMembers() { return members; }
+    public void setMembers(List<MemberSummary> members) { this.members = members; }
+}
@@ -0,0 +1,60 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.time.LocalDateTime;
+
+// One row of the groups list: the group's own columns plus counts, never its collections
+public class GroupSummary {
+    private Long id;
+    private String name;
+    private String description;
+    private String emojiIcon;
+    private String colorTheme;
+    private LocalDateTime createdAt;
+    private long memberCount;
+    private long sessionCount;
+    private long activeSessionCount;
+
+    // Constructors
+    public GroupSummary() {}
+
+    public GroupSummary(Long id, String name, String description, String emojiIcon, String colorTheme,
+                        LocalDateTime createdAt, Long memberCount, Long sessionCount, Long activeSessionCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.emojiIcon = emojiIcon;
+        this.colorTheme = colorTheme;
+        this.createdAt = createdAt;
+        this.memberCount = memberCount != null ? memberCount : 0;
+        this.sessionCount = sessionCount != null ? sessionCount : 0;
+        this.activeSessionCount = activeSessionCount != null ? activeSessionCount : 0;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getEmojiIcon() { return emojiIcon; }
+    public void setEmojiIcon(String emojiIcon) { this.emojiIcon = emojiIcon; }
+
+    public String getColorTheme() { return colorTheme; }
+    public void setColorTheme(String colorTheme) { this.colorTheme = colorTheme; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public long getMemberCount() { return memberCount; }
+    public void setMemberCount(long memberCount) { this.memberCount = memberCount; }
+
+    public long getSessionCount() { return sessionCount; }
+    public void setSessionCount(long sessionCount) { this.sessionCount = sessionCount; }
+
+    public long getActiveSessionCount() { return activeSessionCount; }
+    public void setActiveSessionCount(long activeSessionCount) { this.activeSessionCount = activeSessionCount; }
+}
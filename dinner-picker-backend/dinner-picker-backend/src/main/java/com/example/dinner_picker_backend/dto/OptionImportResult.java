@@ -0,0 +1,69 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of a restaurant import. Each rejected row is reported by the line it starts on (a CSV header is
+// line 1); only the first MAX_REPORTED_ERRORS are listed, so a bad file cannot grow the response.
+public class OptionImportResult {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private int imported;
+    private int rejected;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    // Set when the import stopped early, e.g. because the session was locked part way through
+    private String stoppedReason;
+
+    // Constructors
+    public OptionImportResult() {}
+
+    public void addImported(int count) {
+        imported += count;
+    }
+
+    public void reject(int row, String message) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(row, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    // Getters and Setters
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    public String getStoppedReason() { return stoppedReason; }
+    public void setStoppedReason(String stoppedReason) { this.stoppedReason = stoppedReason; }
+
+    public static class RowError {
+        private int row;
+        private String message;
+
+        // Constructors
+        public RowError() {}
+
+        public RowError(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        // Getters and Setters
+        public int getRow() { return row; }
+        public void setRow(int row) { this.row = row; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.time.LocalDateTime;
+
+public class OptionSummary {
+    private Long id;
+    private String name;
+    private String link;
+    private String imageUrl;
+    private String cuisine;
+    private String priceRange;
+    private Integer votes;
+    private LocalDateTime createdAt;
+    private Long sessionId;
+
+    // Constructors
+    public OptionSummary() {}
+
+    public OptionSummary(Long id, String name, String link, String imageUrl, String cuisine, String priceRange,
+                         Integer votes, LocalDateTime createdAt, Long sessionId) {
+        this.id = id;
+        this.name = name;
+        this.link = link;
+        this.imageUrl = imageUrl;
+        this.cuisine = cuisine;
+        this.priceRange = priceRange;
+        this.votes = votes;
+        this.createdAt = createdAt;
+        this.sessionId = sessionId;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getLink() { return link; }
+    public void setLink(String link) { this.link = link; }
+
+    public String getImageUrl() { return imageUrl; }
+    public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+
+    public String getCuisine() { return cuisine; }
+    public void setCuisine(String cuisine) { this.cuisine = cuisine; }
+
+    public String getPriceRange() { return priceRange; }
+    public void setPriceRange(String priceRange) { this.priceRange = priceRange; }
+
+    public Integer getVotes() { return votes; }
+    public void setVotes(Integer votes) { this.votes = votes; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+}
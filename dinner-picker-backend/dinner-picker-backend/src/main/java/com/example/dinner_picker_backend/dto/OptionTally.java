@@ -0,0 +1,21 @@
+package com.example.dinner_picker_backend.dto;
+
+public class OptionTally {
+    private Long id;
+    private Integer votes;
+
+    // Constructors
+    public OptionTally() {}
+
+    public OptionTally(Long id, Integer votes) {
+        this.id = id;
+        this.votes = votes;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Integer getVotes() { return votes; }
+    public void setVotes(Integer votes) { this.votes = votes; }
+}
@@ -0,0 +1,78 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Position of the last row of a page: its sort key plus its id as tie-breaker. Clients only
+// ever see the encoded form and hand it back unchanged.
+public class PageCursor {
+    private static final String CREATED_AT = "t";
+    private static final String VOTES = "v";
+
+    private LocalDateTime createdAt;
+    private Integer votes;
+    private Long id;
+
+    // Constructors
+    public PageCursor() {}
+
+    public static PageCursor afterCreatedAt(LocalDateTime createdAt, Long id) {
+        PageCursor cursor = new PageCursor();
+        cursor.createdAt = createdAt;
+        cursor.id = id;
+        return cursor;
+    }
+
+    public static PageCursor afterVotes(Integer votes, Long id) {
+        PageCursor cursor = new PageCursor();
+        cursor.votes = votes;
+        cursor.id = id;
+        return cursor;
+    }
+
+    public String encode() {
+        String key = createdAt != null ? CREATED_AT + "|" + createdAt : VOTES + "|" + votes;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decodeCreatedAt(String encoded) {
+        String[] parts = decode(encoded, CREATED_AT);
+        try {
+            return afterCreatedAt(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static PageCursor decodeVotes(String encoded) {
+        String[] parts = decode(encoded, VOTES);
+        try {
+            return afterVotes(Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String[] decode(String encoded, String kind) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 3 || !parts[0].equals(kind)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return parts;
+    }
+
+    // Getters
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public Integer getVotes() { return votes; }
+
+    public Long getId() { return id; }
+}
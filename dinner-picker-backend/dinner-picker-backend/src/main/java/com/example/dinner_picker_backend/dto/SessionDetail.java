@@ -0,0 +1,89 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.time.LocalDateTime;
+
+// A voting session with just enough of its group for the page header; options are loaded separately
+public class SessionDetail {
+    private Long id;
+    private String title;
+    private String description;
+    private Boolean locked;
+    private LocalDateTime deadline;
+    private LocalDateTime createdAt;
+    private Long version;
+    private long optionCount;
+    private GroupRef group;
+
+    // Constructors
+    public SessionDetail() {}
+
+    public SessionDetail(Long id, String title, String description, Boolean locked, LocalDateTime deadline,
+                         LocalDateTime createdAt, Long version, Long optionCount,
+                         Long groupId, String groupName, String groupEmojiIcon, String groupColorTheme) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.locked = locked;
+        this.deadline = deadline;
+        this.createdAt = createdAt;
+        this.version = version;
+        this.optionCount = optionCount != null ? optionCount : 0;
+        this.group = new GroupRef(groupId, groupName, groupEmojiIcon, groupColorTheme);
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Boolean getLocked() { return locked; }
+    public void setLocked(Boolean locked) { this.locked = locked; }
+
+    public LocalDateTime getDeadline() { return deadline; }
+    public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public long getOptionCount() { return optionCount; }
+    public void setOptionCount(long optionCount) { this.optionCount = optionCount; }
+
+    public GroupRef getGroup() { return group; }
+    public void setGroup(GroupRef group) { this.group = group; }
+
+    public static class GroupRef {
+        private Long id;
+        private String name;
+        private String emojiIcon;
+        private String colorTheme;
+
+        public GroupRef() {}
+
+        public GroupRef(Long id, String name, String emojiIcon, String colorTheme) {
+            this.id = id;
+            this.name = name;
+            this.emojiIcon = emojiIcon;
+            this.colorTheme = colorTheme;
+        }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getEmojiIcon() { return emojiIcon; }
+        public void setEmojiIcon(String emojiIcon) { this.emojiIcon = emojiIcon; }
+
+        public String getColorTheme() { return colorTheme; }
+        public void setColorTheme(String colorTheme) { this.colorTheme = colorTheme; }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.dinner_picker_backend.dto;
+
+import com.example.dinner_picker_backend.entity.Option;
+
+import java.util.List;
+
+// Options of a session at a version. When incremental, only options changed since the
+// requested version are included.
+public class SessionOptions {
+    private Long sessionId;
+    private Long version;
+    private boolean incremental;
+    private List<Option> options;
+
+    // Constructors
+    public SessionOptions() {}
+
+    public SessionOptions(Long sessionId, Long version, boolean incremental, List<Option> options) {
+        this.sessionId = sessionId;
+        this.version = version;
+        this.incremental = incremental;
+        this.options = options;
+    }
+
+    // Getters and Setters
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public boolean isIncremental() { return incremental; }
+    public void setIncremental(boolean incremental) { this.incremental = incremental; }
+
+    public List<Option> getOptions() { return options; }
+    public void setOptions(List<Option> options) { this.options = options; }
+}
@@ -0,0 +1,28 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.util.List;
+
+public class SessionTallies {
+    private Long sessionId;
+    private Long version;
+    private List<OptionTally> tallies;
+
+    // Constructors
+    public SessionTallies() {}
+
+    public SessionTallies(Long sessionId, Long version, List<OptionTally> tallies) {
+        this.sessionId = sessionId;
+        this.version = version;
+        this.tallies = tallies;
+    }
+
+    // Getters and Setters
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public List<OptionTally> getTallies() { return tallies; }
+    public void setTallies(List<OptionTally> tallies) { this.tallies = tallies; }
+}
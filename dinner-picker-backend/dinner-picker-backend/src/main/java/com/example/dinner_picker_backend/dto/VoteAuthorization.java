@@ -0,0 +1,48 @@
+package com.example.dinner_picker_backend.dto;
+
+import java.time.LocalDateTime;
+
+// Everything a write needs to know about an option's session, read in one query. The global
+// lock is not part of it: that comes from GlobalLockCache.
+public class VoteAuthorization {
+    private Long optionId;
+    private Long sessionId;
+    private Long groupId;
+    private Boolean sessionLocked;
+    private LocalDateTime deadline;
+
+    // Constructors
+    public VoteAuthorization() {}
+
+    public VoteAuthorization(Long sessionId, Long groupId, Boolean sessionLocked, LocalDateTime deadline) {
+        this(null, sessionId, groupId, sessionLocked, deadline);
+    }
+
+    public VoteAuthorization(Long optionId, Long sessionId, Long groupId, Boolean sessionLocked, LocalDateTime deadline) {
+        this.optionId = optionId;
+        this.sessionId = sessionId;
+        this.groupId = groupId;
+        this.sessionLocked = sessionLocked;
+        this.deadline = deadline;
+    }
+
+    // Getters and Setters
+    public Long getOptionId() { return optionId; }
+    public void setOptionId(Long optionId) { this.optionId = optionId; }
+
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+
+    public Long getGroupId() { return groupId; }
+    public void setGroupId(Long groupId) { this.groupId = groupId; }
+
+    public Boolean getSessionLocked() { return sessionLocked; }
+    public void setSessionLocked(Boolean sessionLocked) { this.sessionLocked = sessionLocked; }
+
+    public LocalDateTime getDeadline() { return deadline; }
+    public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
+
+    // Helper methods
+    public boolean isSessionLocked() { return Boolean.TRUE.equals(sessionLocked); }
+    public boolean isDeadlinePassed(LocalDateTime now) { return deadline != null && deadline.isBefore(now); }
+}
@@ -4,23 +4,46 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
-@Table(name = "dinner_groups")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "dinner_groups", indexes = {
+        @Index(name = "idx_groups_created_at", columnList = "created_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_groups_name_created_by", columnNames = {"normalized_name", "created_by"})
+})
 public class Group {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "group_ids")
+    @TableGenerator(name = "group_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "dinner_groups", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Group name is required")
     @Column(nullable = false)
     private String name;
 
+    // Trimmed, lower-cased name, kept in step by setName(). The duplicate-name check probes it
+    // instead of loading every group a user belongs to.
+    @Column(name = "normalized_name", nullable = false)
+    @JsonIgnore
+    private String normalizedName;
+
+    // Id of the user who created the group. Unique together with normalized_name, so two
+    // concurrent creates of the same name by the same user cannot both commit. NULL for groups
+    // created without a user, which the duplicate name rule does not cover (see V7).
+    @Column(name = "created_by")
+    @JsonIgnore
+    private Long createdBy;
+
     private String description;
 
     @Column(name = "emoji_icon")
@@ -33,10 +56,12 @@ public class Group {
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "group_members",
             joinColumns = @JoinColumn(name = "group_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_group_members_user", columnList = "user_id, group_id")
     )
     private Set<User> members = new HashSet<>();
 
@@ -48,7 +73,7 @@ public class Group {
     public Group() {}
 
     public Group(String name, String description, String emojiIcon, String colorTheme) {
-        this.name = name;
+        setName(name);
         this.description = description;
         this.emojiIcon = emojiIcon;
         this.colorTheme = colorTheme;
@@ -59,7 +84,15 @@ public class Group {
     public void setId(Long id) { this.id = id; }
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        this.name = name;
+        this.normalizedName = normalizeName(name);
+    }
+
+    public String getNormalizedName() { return normalizedName; }
+
+    public Long getCreatedBy() { return createdBy; }
+    public void setCreatedBy(Long createdBy) { this.createdBy = createdBy; }
 
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
@@ -78,4 +111,8 @@ public class Group {
 
     public List<VotingSession> getVotingSessions() { return votingSessions; }
     public void setVotingSessions(List<VotingSession> votingSessions) { this.votingSessions = votingSessions; }
+
+    public static String normalizeName(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
@@ -7,10 +7,19 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "options")
+@Table(name = "options", indexes = {
+        @Index(name = "idx_options_session_change_version", columnList = "voting_session_id, change_version"),
+        @Index(name = "idx_options_votes", columnList = "votes DESC, id"),
+        @Index(name = "idx_options_session_votes", columnList = "voting_session_id, votes DESC, id")
+})
 public class Option {
+    // Ids come in pooled blocks from id_generators rather than IDENTITY, so inserts can be batched;
+    // options are created in the largest numbers, hence the larger block. It is ten import
+    // batches, so an import only goes back to id_generators for every tenth batch.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "option_ids")
+    @TableGenerator(name = "option_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "options", allocationSize = 5000)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -35,6 +44,12 @@ public class Option {
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Session version at which this option was added or its tally last changed, so clients can
+    // ask for only what changed since the version they have. Written on insert and by bulk updates.
+    @Column(name = "change_version", nullable = false, updatable = false)
+    @JsonIgnore
+    private Long changeVersion = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "voting_session_id")
     @JsonIgnore
@@ -97,6 +112,9 @@ public class Option {
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
+    public Long getChangeVersion() { return changeVersion; }
+    public void setChangeVersion(Long changeVersion) { this.changeVersion = changeVersion; }
+
     public VotingSession getVotingSession() { return votingSession; }
     public void setVotingSession(VotingSession votingSession) { this.votingSession = votingSession; }
 
@@ -11,6 +11,10 @@ public class VotingConfig {
     @Column(nullable = false)
     private Boolean locked = false;
 
+    // Incremented on every change; other instances poll it to refresh their cached lock state
+    @Version
+    private Long version;
+
     // Constructors
     public VotingConfig() {}
 
@@ -24,4 +28,7 @@ public class VotingConfig {
 
     public Boolean getLocked() { return locked; }
     public void setLocked(Boolean locked) { this.locked = locked; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
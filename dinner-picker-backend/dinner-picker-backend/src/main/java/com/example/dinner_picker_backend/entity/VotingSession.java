@@ -4,15 +4,25 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// Every vote bumps version with a native update that evicts only this session once it commits
+// (see VotingSessionVersionUpdatesImpl), so sessions nobody is voting on stay cached
 @Entity
-@Table(name = "voting_sessions")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "voting_sessions", indexes = {
+        @Index(name = "idx_sessions_group_created_at", columnList = "group_id, created_at, id"),
+        @Index(name = "idx_sessions_group_locked_created_at", columnList = "group_id, locked, created_at")
+})
 public class VotingSession {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "voting_session_ids")
+    @TableGenerator(name = "voting_session_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "voting_sessions", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -30,6 +40,11 @@ public class VotingSession {
     @Column(name = "deadline")
     private LocalDateTime deadline;
 
+    // Bumped by every vote, option add and lock, so clients can tell whether their copy is current.
+    // Only ever changed by bulk updates in VotingSessionRepository, never by saving the entity.
+    @Column(nullable = false, updatable = false)
+    private Long version = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "group_id", nullable = false)
     @JsonBackReference
@@ -66,6 +81,9 @@ public class VotingSession {
     public LocalDateTime getDeadline() { return deadline; }
     public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public Group getGroup() { return group; }
     public void setGroup(Group group) { this.group = group; }
 
@@ -0,0 +1,76 @@
+package com.example.dinner_picker_backend.repository;
+
+import com.example.dinner_picker_backend.config.TransactionHooks;
+import com.example.dinner_picker_backend.entity.Group;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+// Plain JDBC on the group_members join table, so membership changes never load Group.members;
+// joins the surrounding JPA transaction. Hibernate does not see these writes, so the group's
+// cached member list is evicted once they commit.
+@Repository
+public class GroupMemberRepository {
+
+    private static final String MEMBERS_ROLE = Group.class.getName() + ".members";
+
+    private static final String IS_MEMBER_SQL =
+            "SELECT COUNT(*) FROM group_members WHERE group_id = ? AND user_id = ?";
+    private static final String ADD_MEMBER_SQL =
+            "INSERT INTO group_members (group_id, user_id) VALUES (?, ?)";
+    // Skips rows on the primary key itself, so a concurrent insert of the same membership is
+    // not an error. Also downgrades foreign key errors, so user ids must already be resolved.
+    private static final String ADD_MEMBERS_IF_ABSENT_SQL =
+            "INSERT IGNORE INTO group_members (group_id, user_id) VALUES ";
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Primary key probe
+    public boolean isMember(Long groupId, Long userId) {
+        Integer count = jdbcTemplate.queryForObject(IS_MEMBER_SQL, Integer.class, groupId, userId);
+        return count != null && count > 0;
+    }
+
+    // Throws DuplicateKeyException when the user is already a member
+    public void addMember(Long groupId, Long userId) {
+        jdbcTemplate.update(ADD_MEMBER_SQL, groupId, userId);
+        evictMembersAfterCommit(groupId);
+    }
+
+    // One multi-row INSERT per BATCH_SIZE users; users who are already members are skipped by
+    // the statement itself. Returns how many memberships this call inserted: each statement's
+    // update count is exact, unlike a JDBC batch, which MySQL's rewriting reports as
+    // SUCCESS_NO_INFO.
+    public int addMembers(Long groupId, List<Long> userIds) {
+        int added = 0;
+        for (int start = 0; start < userIds.size(); start += BATCH_SIZE) {
+            List<Long> chunk = userIds.subList(start, Math.min(start + BATCH_SIZE, userIds.size()));
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                args[2 * i] = groupId;
+                args[2 * i + 1] = chunk.get(i);
+            }
+            added += jdbcTemplate.update(ADD_MEMBERS_IF_ABSENT_SQL + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)")), args);
+        }
+        if (added > 0) {
+            evictMembersAfterCommit(groupId);
+        }
+        return added;
+    }
+
+    private void evictMembersAfterCommit(Long groupId) {
+        TransactionHooks.afterCommit(() ->
+                entityManagerFactory.getCache().unwrap(Cache.class).evictCollectionData(MEMBERS_ROLE, groupId));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.dinner_picker_backend.repository;
+
+import com.example.dinner_picker_backend.config.TransactionHooks;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Set-based deletes of a group and its history in plain JDBC, so nothing is loaded to be
+// cascaded row by row; joins the surrounding JPA transaction. Hibernate does not see these
+// deletes, so the affected second-level cache entries are evicted once they commit, followed by
+// the caller's own onCommit action.
+@Repository
+public class GroupPurgeRepository {
+
+    private static final String MEMBERS_ROLE = Group.class.getName() + ".members";
+
+    private static final String LOCKED_SESSION_IDS_SQL =
+            "SELECT id FROM voting_sessions WHERE group_id = ? AND locked = TRUE LIMIT ?";
+    private static final String DELETE_MEMBERS_SQL = "DELETE FROM group_members WHERE group_id = ?";
+    private static final String DELETE_GROUP_SQL = "DELETE FROM dinner_groups WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Only locked sessions are ever purged; an active one left behind makes deleteGroup fail on
+    // its foreign key. Uses the (group_id, locked, created_at) index.
+    public List<Long> findLockedSessionIds(Long groupId, int limit) {
+        return jdbcTemplate.queryForList(LOCKED_SESSION_IDS_SQL, Long.class, groupId, limit);
+    }
+
+    // Options first, then the sessions themselves, one statement each for the whole chunk
+    public int deleteSessions(List<Long> sessionIds, Runnable onCommit) {
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+
+        String in = String.join(", ", Collections.nCopies(sessionIds.size(), "?"));
+        Object[] args = sessionIds.toArray();
+        jdbcTemplate.update("DELETE FROM options WHERE voting_session_id IN (" + in + ")", args);
+        int deleted = jdbcTemplate.update("DELETE FROM voting_sessions WHERE id IN (" + in + ")", args);
+
+        afterCommit(cache -> sessionIds.forEach(id -> cache.evictEntityData(VotingSession.class, id)), onCommit);
+        return deleted;
+    }
+
+    // The group has to have no sessions left
+    public boolean deleteGroup(Long groupId, Runnable onCommit) {
+        jdbcTemplate.update(DELETE_MEMBERS_SQL, groupId);
+        int deleted = jdbcTemplate.update(DELETE_GROUP_SQL, groupId);
+
+        afterCommit(cache -> {
+            cache.evictCollectionData(MEMBERS_ROLE, groupId);
+            cache.evictEntityData(Group.class, groupId);
+        }, onCommit);
+        return deleted > 0;
+    }
+
+    private void afterCommit(Consumer<Cache> eviction, Runnable onCommit) {
+        TransactionHooks.afterCommit(() -> {
+            eviction.accept(entityManagerFactory.getCache().unwrap(Cache.class));
+            onCommit.run();
+        });
+    }
+}
@@ -1,18 +1,64 @@
 package com.example.dinner_picker_backend.repository;
 
+import com.example.dinner_picker_backend.dto.GroupSummary;
+import com.example.dinner_picker_backend.dto.MemberSummary;
 import com.example.dinner_picker_backend.entity.Group;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
 
+    // Group columns and collection sizes as correlated counts, so a listing is one statement
+    String SUMMARY = "SELECT new com.example.dinner_picker_backend.dto.GroupSummary(g.id, g.name, g.description, " +
+            "g.emojiIcon, g.colorTheme, g.createdAt, " +
+            "(SELECT COUNT(m) FROM Group mg JOIN mg.members m WHERE mg.id = g.id), " +
+            "(SELECT COUNT(s) FROM VotingSession s WHERE s.group.id = g.id), " +
+            "(SELECT COUNT(s) FROM VotingSession s WHERE s.group.id = g.id AND s.locked = false)) ";
+
     @Query("SELECT g FROM Group g JOIN g.members m WHERE m.id = :userId")
     List<Group> findByMembersId(Long userId);
 
+    // One probe on uk_groups_name_created_by, the key that enforces the same rule
+    boolean existsByCreatedByAndNormalizedName(Long createdBy, String normalizedName);
+
     @Query("SELECT g FROM Group g ORDER BY g.createdAt DESC")
     List<Group> findAllOrderByCreatedAtDesc();
+
+    @Query(SUMMARY + "FROM Group g ORDER BY g.createdAt DESC, g.id DESC")
+    List<GroupSummary> findAllSummaries();
+
+    @Query(SUMMARY + "FROM Group g JOIN g.members u WHERE u.id = :userId ORDER BY g.createdAt DESC, g.id DESC")
+    List<GroupSummary> findSummariesByMembersId(Long userId);
+
+    @Query(SUMMARY + "FROM Group g WHERE g.id = :id")
+    Optional<GroupSummary> findSummaryById(Long id);
+
+    @Query("SELECT new com.example.dinner_picker_backend.dto.MemberSummary(u.id, u.name, u.email, u.avatar) " +
+            "FROM Group g JOIN g.members u WHERE g.id = :groupId ORDER BY u.id")
+    List<MemberSummary> findMembersByGroupId(Long groupId);
+
+    // Keyset pages over (created_at, id), newest first: the first page, then everything after a cursor.
+    // The leading "createdAt <= :createdAt" repeats what the OR implies so the index can range-scan it.
+    @Query(SUMMARY + "FROM Group g ORDER BY g.createdAt DESC, g.id DESC")
+    List<GroupSummary> findSummaryPage(Limit limit);
+
+    @Query(SUMMARY + "FROM Group g WHERE g.createdAt <= :createdAt " +
+            "AND (g.createdAt < :createdAt OR (g.createdAt = :createdAt AND g.id < :id)) " +
+            "ORDER BY g.createdAt DESC, g.id DESC")
+    List<GroupSummary> findSummaryPageAfter(LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query(SUMMARY + "FROM Group g JOIN g.members u WHERE u.id = :userId ORDER BY g.createdAt DESC, g.id DESC")
+    List<GroupSummary> findSummaryPageByMembersId(Long userId, Limit limit);
+
+    @Query(SUMMARY + "FROM Group g JOIN g.members u WHERE u.id = :userId " +
+            "AND g.createdAt <= :createdAt AND (g.createdAt < :createdAt OR (g.createdAt = :createdAt AND g.id < :id)) " +
+            "ORDER BY g.createdAt DESC, g.id DESC")
+    List<GroupSummary> findSummaryPageByMembersIdAfter(Long userId, LocalDateTime createdAt, Long id, Limit limit);
 }
\ No newline at end of file
@@ -1,11 +1,19 @@
 package com.example.dinner_picker_backend.repository;
 
+import com.example.dinner_picker_backend.dto.OptionSummary;
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.dto.VoteAuthorization;
 import com.example.dinner_picker_backend.entity.Option;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OptionRepository extends JpaRepository<Option, Long> {
@@ -13,6 +21,22 @@ public interface OptionRepository extends JpaRepository<Option, Long> {
     @Query("SELECT o FROM Option o ORDER BY o.votes DESC")
     List<Option> findAllOrderByVotesDesc();
 
+    Optional<Option> findFirstByOrderByVotesDescIdAsc();
+
+    String SUMMARY = "SELECT new com.example.dinner_picker_backend.dto.OptionSummary(o.id, o.name, o.link, o.imageUrl, " +
+            "o.cuisine, o.priceRange, o.votes, o.createdAt, o.votingSession.id) ";
+
+    @Query(SUMMARY + "FROM Option o ORDER BY o.votes DESC, o.id ASC")
+    List<OptionSummary> findAllSummaries();
+
+    // Keyset pages over (votes, id), most votes first, walking the same index as the winner query
+    @Query(SUMMARY + "FROM Option o ORDER BY o.votes DESC, o.id ASC")
+    List<OptionSummary> findSummaryPage(Limit limit);
+
+    @Query(SUMMARY + "FROM Option o WHERE o.votes <= :votes AND (o.votes < :votes OR (o.votes = :votes AND o.id > :id)) " +
+            "ORDER BY o.votes DESC, o.id ASC")
+    List<OptionSummary> findSummaryPageAfter(Integer votes, Long id, Limit limit);
+
     List<Option> findByVotingSessionIdOrderByVotesDesc(Long votingSessionId);
 
     @Query("SELECT o FROM Option o WHERE o.votingSession.id = :sessionId ORDER BY o.votes DESC")
@@ -20,4 +44,41 @@ public interface OptionRepository extends JpaRepository<Option, Long> {
 
     @Query("SELECT o FROM Option o WHERE o.votingSession.id = :sessionId AND o.votes > 0 ORDER BY o.votes DESC")
     List<Option> findWinnersBySessionId(Long sessionId);
-}
\ No newline at end of file
+
+    // Options added or re-tallied after the given session version
+    List<Option> findByVotingSessionIdAndChangeVersionGreaterThanOrderByVotesDesc(Long votingSessionId, Long changeVersion);
+
+    // Applies a vote in the database without loading the entity and stamps the option with the
+    // session version the caller has just bumped. The tally never drops below floor (0 for a
+    // single vote, see VoteDelta for merged ones). Returns 0 when the option does not exist or
+    // when its session is locked or past its deadline. The global lock is checked by the caller.
+    @Modifying
+    @Query("UPDATE Option o SET o.votes = greatest(o.votes + :delta, :floor), " +
+            "o.changeVersion = coalesce((SELECT s.version FROM VotingSession s WHERE s.id = o.votingSession.id), o.changeVersion) " +
+            "WHERE o.id = :optionId " +
+            "AND NOT EXISTS (SELECT s.id FROM VotingSession s WHERE s.id = o.votingSession.id " +
+            "AND (s.locked = true OR s.deadline < :now))")
+    int applyVoteDelta(Long optionId, Integer delta, Integer floor, LocalDateTime now);
+
+    // Option, session lock and deadline in a single round trip
+    @Query("SELECT new com.example.dinner_picker_backend.dto.VoteAuthorization(o.id, s.id, s.group.id, s.locked, s.deadline) " +
+            "FROM Option o LEFT JOIN o.votingSession s WHERE o.id = :optionId")
+    Optional<VoteAuthorization> findVoteAuthorization(Long optionId);
+
+    @Query("SELECT o.votes FROM Option o WHERE o.id = :optionId")
+    Optional<Integer> findVotesById(Long optionId);
+
+    @Query("SELECT new com.example.dinner_picker_backend.dto.OptionTally(o.id, o.votes) " +
+            "FROM Option o WHERE o.votingSession.id = :sessionId ORDER BY o.votes DESC")
+    List<OptionTally> findTalliesBySessionId(Long sessionId);
+
+    @Query("SELECT new com.example.dinner_picker_backend.dto.OptionTally(o.id, o.votes) " +
+            "FROM Option o WHERE o.id IN :optionIds ORDER BY o.id")
+    List<OptionTally> findTalliesByIdIn(Collection<Long> optionIds);
+
+    @Query("SELECT DISTINCT o.votingSession.id FROM Option o WHERE o.id IN :optionIds AND o.votingSession IS NOT NULL")
+    List<Long> findSessionIdsByIdIn(Collection<Long> optionIds);
+
+    @Query("SELECT COUNT(o) FROM Option o WHERE o.id IN :optionIds AND o.votingSession.id = :sessionId")
+    long countByIdInAndSessionId(Collection<Long> optionIds, Long sessionId);
+}
@@ -0,0 +1,105 @@
+package com.example.dinner_picker_backend.repository;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.dto.SessionDetail;
+import com.example.dinner_picker_backend.entity.Option;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+// The session read queries of OptionRepository and VotingSessionRepository over R2DBC, so a read
+// holds neither a thread nor a connection while it waits on the database. Rows are mapped to
+// the same types the JPA queries return, and are emitted only as fast as they are requested.
+@Repository
+public class ReactiveSessionReadRepository {
+
+    private static final String OPTION_COLUMNS =
+            "SELECT id, name, link, image_url, cuisine, price_range, votes, created_at FROM options ";
+
+    // Same order as the idx_options_session_votes index
+    private static final String OPTIONS_SQL = OPTION_COLUMNS +
+            "WHERE voting_session_id = :sessionId ORDER BY votes DESC, id";
+    private static final String OPTIONS_CHANGED_SQL = OPTION_COLUMNS +
+            "WHERE voting_session_id = :sessionId AND change_version > :version ORDER BY votes DESC, id";
+    private static final String TALLIES_SQL =
+            "SELECT id, votes FROM options WHERE voting_session_id = :sessionId ORDER BY votes DESC, id";
+    private static final String VERSION_SQL = "SELECT version FROM voting_sessions WHERE id = :sessionId";
+    private static final String DETAIL_SQL =
+            "SELECT vs.id, vs.title, vs.description, vs.locked, vs.deadline, vs.created_at, vs.version, " +
+            "(SELECT COUNT(*) FROM options o WHERE o.voting_session_id = vs.id) AS option_count, " +
+            "g.id AS group_id, g.name AS group_name, g.emoji_icon, g.color_theme " +
+            "FROM voting_sessions vs JOIN dinner_groups g ON g.id = vs.group_id WHERE vs.id = :sessionId";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveSessionReadRepository(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    public Mono<Long> findVersionById(Long sessionId) {
+        return databaseClient.sql(VERSION_SQL)
+                .bind("sessionId", sessionId)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    public Flux<Option> findOptionsBySessionId(Long sessionId) {
+        return databaseClient.sql(OPTIONS_SQL)
+                .bind("sessionId", sessionId)
+                .map(ReactiveSessionReadRepository::option)
+                .all();
+    }
+
+    public Flux<Option> findOptionsChangedSince(Long sessionId, Long version) {
+        return databaseClient.sql(OPTIONS_CHANGED_SQL)
+                .bind("sessionId", sessionId)
+                .bind("version", version)
+                .map(ReactiveSessionReadRepository::option)
+                .all();
+    }
+
+    public Flux<OptionTally> findTalliesBySessionId(Long sessionId) {
+        return databaseClient.sql(TALLIES_SQL)
+                .bind("sessionId", sessionId)
+                .map(row -> new OptionTally(row.get("id", Long.class), row.get("votes", Integer.class)))
+                .all();
+    }
+
+    public Mono<SessionDetail> findDetailById(Long sessionId) {
+        return databaseClient.sql(DETAIL_SQL)
+                .bind("sessionId", sessionId)
+                .map(row -> new SessionDetail(
+                        row.get("id", Long.class),
+                        row.get("title", String.class),
+                        row.get("description", String.class),
+                        row.get("locked", Boolean.class),
+                        row.get("deadline", LocalDateTime.class),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("version", Long.class),
+                        row.get("option_count", Long.class),
+                        row.get("group_id", Long.class),
+                        row.get("group_name", String.class),
+                        row.get("emoji_icon", String.class),
+                        row.get("color_theme", String.class)))
+                .one();
+    }
+
+    // Detached, like the options Jackson renders on the blocking path; the session is not loaded
+    private static Option option(Readable row) {
+        Option option = new Option();
+        option.setId(row.get("id", Long.class));
+        option.setName(row.get("name", String.class));
+        option.setLink(row.get("link", String.class));
+        option.setImageUrl(row.get("image_url", String.class));
+        option.setCuisine(row.get("cuisine", String.class));
+        option.setPriceRange(row.get("price_range", String.class));
+        option.setVotes(row.get("votes", Integer.class));
+        option.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        return option;
+    }
+}
@@ -1,12 +1,24 @@
 package com.example.dinner_picker_backend.repository;
 
+import com.example.dinner_picker_backend.dto.MemberSummary;
 import com.example.dinner_picker_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    // Which of the given ids exist, without loading the users
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("SELECT new com.example.dinner_picker_backend.dto.MemberSummary(u.id, u.name, u.email, u.avatar) " +
+           "FROM User u WHERE u.email IN :emails")
+    List<MemberSummary> findSummariesByEmailIn(Collection<String> emails);
+}
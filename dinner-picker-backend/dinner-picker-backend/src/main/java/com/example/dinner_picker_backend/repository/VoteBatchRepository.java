@@ -0,0 +1,61 @@
+package com.example.dinner_picker_backend.repository;
+
+import com.example.dinner_picker_backend.dto.VoteRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+// Plain JDBC batch for multi-vote requests; joins the surrounding JPA transaction
+@Repository
+public class VoteBatchRepository {
+
+    // Same session guard as OptionRepository.applyVoteDelta: no row is updated once the session
+    // is locked or past its deadline
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE options SET votes = GREATEST(votes + ?, 0), change_version = ? WHERE id = ? AND voting_session_id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM voting_sessions s WHERE s.id = options.voting_session_id " +
+            "AND (s.locked = TRUE OR s.deadline < ?))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Binds the deadline check the way Hibernate binds the stored deadlines, so both sides are
+    // converted to the same zone
+    @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}")
+    private String jdbcTimeZone = "";
+
+    // version is the session version this batch bumped to; it becomes each option's change version.
+    // A count of 0 means the vote was rejected by the session guard.
+    public int[] applyDeltas(Long sessionId, Long version, List<VoteRequest> votes, LocalDateTime now) {
+        return jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                VoteRequest vote = votes.get(i);
+                ps.setInt(1, vote.getDelta());
+                ps.setLong(2, version);
+                ps.setLong(3, vote.getOptionId());
+                ps.setLong(4, sessionId);
+                if (jdbcTimeZone.isEmpty()) {
+                    ps.setTimestamp(5, Timestamp.valueOf(now));
+                } else {
+                    ps.setTimestamp(5, Timestamp.valueOf(now), Calendar.getInstance(TimeZone.getTimeZone(jdbcTimeZone)));
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return votes.size();
+            }
+        });
+    }
+}
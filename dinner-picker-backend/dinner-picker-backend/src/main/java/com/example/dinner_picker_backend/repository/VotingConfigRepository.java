@@ -2,8 +2,14 @@ package com.example.dinner_picker_backend.repository;
 
 import com.example.dinner_picker_backend.entity.VotingConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface VotingConfigRepository extends JpaRepository<VotingConfig, Long> {
+
+    @Query("SELECT c.version FROM VotingConfig c WHERE c.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
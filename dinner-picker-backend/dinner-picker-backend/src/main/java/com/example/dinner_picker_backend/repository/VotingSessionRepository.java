@@ -1,17 +1,63 @@
 package com.example.dinner_picker_backend.repository;
 
+import com.example.dinner_picker_backend.dto.SessionDetail;
+import com.example.dinner_picker_backend.dto.VoteAuthorization;
 import com.example.dinner_picker_backend.entity.VotingSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface VotingSessionRepository extends JpaRepository<VotingSession, Long> {
+public interface VotingSessionRepository extends JpaRepository<VotingSession, Long>, VotingSessionVersionUpdates {
 
     List<VotingSession> findByGroupIdOrderByCreatedAtDesc(Long groupId);
 
+    // Sessions rendered with their options are fetched together, so nothing is lazily loaded
+    // while the response is written (open-in-view is off)
+    @EntityGraph(attributePaths = "options")
+    List<VotingSession> findWithOptionsByGroupIdOrderByCreatedAtDesc(Long groupId);
+
+    @EntityGraph(attributePaths = "options")
+    @Query("SELECT vs FROM VotingSession vs WHERE vs.id IN :sessionIds ORDER BY vs.createdAt DESC, vs.id DESC")
+    List<VotingSession> findWithOptionsByIdIn(Collection<Long> sessionIds);
+
+    @EntityGraph(attributePaths = "options")
+    Optional<VotingSession> findWithOptionsById(Long sessionId);
+
+    @Query("SELECT new com.example.dinner_picker_backend.dto.SessionDetail(vs.id, vs.title, vs.description, vs.locked, " +
+            "vs.deadline, vs.createdAt, vs.version, (SELECT COUNT(o) FROM Option o WHERE o.votingSession.id = vs.id), " +
+            "g.id, g.name, g.emojiIcon, g.colorTheme) " +
+            "FROM VotingSession vs JOIN vs.group g WHERE vs.id = :sessionId")
+    Optional<SessionDetail> findDetailById(Long sessionId);
+
+    // Keyset pages over (created_at, id) within a group, newest first. Only ids: limiting a query
+    // that fetch-joins options would page in memory, so the page is loaded by findWithOptionsByIdIn.
+    @Query("SELECT vs.id FROM VotingSession vs WHERE vs.group.id = :groupId ORDER BY vs.createdAt DESC, vs.id DESC")
+    List<Long> findPageIdsByGroupId(Long groupId, Limit limit);
+
+    @Query("SELECT vs.id FROM VotingSession vs WHERE vs.group.id = :groupId " +
+            "AND vs.createdAt <= :createdAt AND (vs.createdAt < :createdAt OR (vs.createdAt = :createdAt AND vs.id < :id)) " +
+            "ORDER BY vs.createdAt DESC, vs.id DESC")
+    List<Long> findPageIdsByGroupIdAfter(Long groupId, LocalDateTime createdAt, Long id, Limit limit);
+
+    // Probe on the (group_id, locked, created_at) index
+    boolean existsByGroupIdAndLockedFalse(Long groupId);
+
     @Query("SELECT vs FROM VotingSession vs WHERE vs.group.id = :groupId AND vs.locked = false ORDER BY vs.createdAt DESC")
     List<VotingSession> findActiveSessionsByGroupId(Long groupId);
+
+    // Session lock and deadline in a single round trip
+    @Query("SELECT new com.example.dinner_picker_backend.dto.VoteAuthorization(vs.id, vs.group.id, vs.locked, vs.deadline) " +
+            "FROM VotingSession vs WHERE vs.id = :sessionId")
+    Optional<VoteAuthorization> findAuthorizationById(Long sessionId);
+
+    @Query("SELECT vs.version FROM VotingSession vs WHERE vs.id = :sessionId")
+    Optional<Long> findVersionById(Long sessionId);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.dinner_picker_backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// Version bumps of voting sessions; implemented in VotingSessionVersionUpdatesImpl so a vote does
+// not drop the whole VotingSession second-level cache region
+public interface VotingSessionVersionUpdates {
+
+    // Vote paths bump the session version before touching option rows, so every writer locks
+    // the session row first and concurrent votes cannot deadlock on lock upgrades
+    int bumpVersion(Long sessionId);
+
+    // Skips sessions that are locked or past their deadline, the same guard the vote updates use
+    int bumpVersionsIfOpen(Collection<Long> sessionIds, LocalDateTime now);
+
+    int bumpVersionIfUnlocked(Long sessionId);
+}
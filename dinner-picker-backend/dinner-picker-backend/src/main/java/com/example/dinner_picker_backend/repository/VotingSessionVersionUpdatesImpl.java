@@ -0,0 +1,71 @@
+package com.example.dinner_picker_backend.repository;
+
+import com.example.dinner_picker_backend.config.TransactionHooks;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Native updates instead of bulk HQL: Hibernate invalidates every cached entity of a bulk-updated
+// type, so each vote used to empty the VotingSession region. The statements are declared to touch
+// a query space no entity maps to, which keeps Hibernate from dropping any region, and only the
+// bumped sessions are evicted once the write commits.
+class VotingSessionVersionUpdatesImpl implements VotingSessionVersionUpdates {
+
+    private static final String QUERY_SPACE = "voting_session_versions";
+
+    private static final String BUMP_SQL =
+            "UPDATE voting_sessions SET version = version + 1 WHERE id = :sessionId";
+    private static final String BUMP_OPEN_SQL =
+            "UPDATE voting_sessions SET version = version + 1 WHERE id IN (:sessionIds) " +
+            "AND locked = FALSE AND (deadline IS NULL OR deadline >= :now)";
+    private static final String BUMP_IF_UNLOCKED_SQL =
+            "UPDATE voting_sessions SET version = version + 1 WHERE id = :sessionId AND locked = FALSE";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int bumpVersion(Long sessionId) {
+        int updated = update(BUMP_SQL).setParameter("sessionId", sessionId).executeUpdate();
+        evictAfterCommit(List.of(sessionId));
+        return updated;
+    }
+
+    @Override
+    public int bumpVersionsIfOpen(Collection<Long> sessionIds, LocalDateTime now) {
+        int updated = update(BUMP_OPEN_SQL).setParameter("sessionIds", sessionIds).setParameter("now", now).executeUpdate();
+        evictAfterCommit(sessionIds);
+        return updated;
+    }
+
+    @Override
+    public int bumpVersionIfUnlocked(Long sessionId) {
+        int updated = update(BUMP_IF_UNLOCKED_SQL).setParameter("sessionId", sessionId).executeUpdate();
+        if (updated > 0) {
+            evictAfterCommit(List.of(sessionId));
+        }
+        return updated;
+    }
+
+    private NativeQuery<?> update(String sql) {
+        return entityManager.createNativeQuery(sql).unwrap(NativeQuery.class).addSynchronizedQuerySpace(QUERY_SPACE);
+    }
+
+    private void evictAfterCommit(Collection<Long> sessionIds) {
+        TransactionHooks.afterCommit(() -> {
+            Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+            sessionIds.forEach(id -> cache.evictEntityData(VotingSession.class, id));
+        });
+    }
+}
@@ -1,19 +1,47 @@
 package com.example.dinner_picker_backend.service;
 
+import com.example.dinner_picker_backend.cache.GlobalLockCache;
+import com.example.dinner_picker_backend.cache.OptionCountCache;
+import com.example.dinner_picker_backend.cache.SessionLeaderboards;
+import com.example.dinner_picker_backend.cache.SessionTallyCache;
+import com.example.dinner_picker_backend.config.TransactionHooks;
+import com.example.dinner_picker_backend.dto.AddOptionRequest;
+import com.example.dinner_picker_backend.dto.CursorPage;
+import com.example.dinner_picker_backend.dto.OptionSummary;
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.dto.PageCursor;
+import com.example.dinner_picker_backend.dto.SessionOptions;
+import com.example.dinner_picker_backend.dto.SessionTallies;
+import com.example.dinner_picker_backend.dto.VoteAuthorization;
+import com.example.dinner_picker_backend.dto.VoteRequest;
 import com.example.dinner_picker_backend.entity.Option;
 import com.example.dinner_picker_backend.entity.VotingConfig;
 import com.example.dinner_picker_backend.entity.VotingSession;
 import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VoteBatchRepository;
 import com.example.dinner_picker_backend.repository.VotingConfigRepository;
 import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import com.example.dinner_picker_backend.stream.TallyChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 @Service
 @Transactional
@@ -30,21 +58,69 @@ public class DinnerPickerService {
     @Autowired
     private VotingSessionRepository votingSessionRepository;
 
+    @Autowired
+    private VoteBatchRepository voteBatchRepository;
+
+    private final SessionTallyCache tallyCache;
+
+    private final GlobalLockCache lockCache;
+
+    private final SessionLeaderboards leaderboards;
+
+    private final OptionCountCache optionCount;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Clock clock;
+
     public DinnerPickerService(OptionRepository optionRepository, VotingSessionRepository votingSessionRepository, VotingConfigRepository votingConfigRepository) {
+        this(optionRepository, votingSessionRepository, votingConfigRepository, new SessionTallyCache(), new GlobalLockCache(votingConfigRepository), new SessionLeaderboards(), new OptionCountCache(optionRepository), event -> {}, Clock.systemDefaultZone());
+    }
+
+    @Autowired
+    public DinnerPickerService(OptionRepository optionRepository, VotingSessionRepository votingSessionRepository, VotingConfigRepository votingConfigRepository, SessionTallyCache tallyCache, GlobalLockCache lockCache, SessionLeaderboards leaderboards, OptionCountCache optionCount, ApplicationEventPublisher eventPublisher, Clock clock) {
         this.optionRepository = optionRepository;
         this.votingSessionRepository = votingSessionRepository;
         this.votingConfigRepository = votingConfigRepository;
+        this.tallyCache = tallyCache;
+        this.lockCache = lockCache;
+        this.leaderboards = leaderboards;
+        this.optionCount = optionCount;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
     }
     // For backward compatibility - get all options
-    public List<Option> getAllOptions() {
+    public List<OptionSummary> getAllOptions() {
         try {
-            return optionRepository.findAllOrderByVotesDesc();
+            return optionRepository.findAllSummaries();
         } catch (Exception e) {
             logger.error("Error fetching all options: ", e);
             throw new RuntimeException("Failed to fetch options", e);
         }
     }
 
+    // Most votes first, one page at a time; cursor is null for the first page. Tallies keep
+    // moving, so an option voted on between two page reads may be skipped or seen twice.
+    public CursorPage<OptionSummary> getOptionsPage(String cursor, int size) {
+        CursorPage.checkSize(size);
+        try {
+            Limit limit = Limit.of(size + 1);
+            List<OptionSummary> rows;
+            if (cursor == null) {
+                rows = optionRepository.findSummaryPage(limit);
+            } else {
+                PageCursor after = PageCursor.decodeVotes(cursor);
+                rows = optionRepository.findSummaryPageAfter(after.getVotes(), after.getId(), limit);
+            }
+            return CursorPage.of(rows, size, option -> PageCursor.afterVotes(option.getVotes(), option.getId()));
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching page of options: ", e);
+            throw new RuntimeException("Failed to fetch options", e);
+        }
+    }
+
     // New method - get options by session
     public List<Option> getSessionOptions(Long sessionId) {
         try {
@@ -61,6 +137,99 @@ public class DinnerPickerService {
         }
     }
 
+    // All options with the session version, or only those changed after sinceVersion. Reads the
+    // version first, so a change racing with this call is at worst sent twice, never missed.
+    @Transactional(readOnly = true)
+    public SessionOptions getSessionOptions(Long sessionId, Long sinceVersion) {
+        try {
+            if (sessionId == null || sessionId <= 0) {
+                throw new IllegalArgumentException("Invalid session ID: " + sessionId);
+            }
+
+            if (sinceVersion != null && sinceVersion < 0) {
+                throw new IllegalArgumentException("Invalid version: " + sinceVersion);
+            }
+
+            Long version = votingSessionRepository.findVersionById(sessionId).orElse(0L);
+
+            // A client ahead of us (e.g. after a database reset) has to start over
+            if (sinceVersion == null || sinceVersion > version) {
+                return new SessionOptions(sessionId, version, false,
+                        optionRepository.findByVotingSessionIdOrderByVotesDesc(sessionId));
+            }
+
+            if (sinceVersion.equals(version)) {
+                return new SessionOptions(sessionId, version, true, List.of());
+            }
+
+            List<Option> changed = optionRepository
+                    .findByVotingSessionIdAndChangeVersionGreaterThanOrderByVotesDesc(sessionId, sinceVersion);
+            return new SessionOptions(sessionId, version, true, changed);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching options for session {} since version {}: ", sessionId, sinceVersion, e);
+            throw new RuntimeException("Failed to fetch session options", e);
+        }
+    }
+
+    // Current version of a session, 0 when there is no such session
+    @Transactional(readOnly = true)
+    public long getSessionVersion(Long sessionId) {
+        return votingSessionRepository.findVersionById(sessionId).orElse(0L);
+    }
+
+    // Vote counts only, served from the tally cache when the session is warm
+    public List<OptionTally> getSessionTallies(Long sessionId) {
+        try {
+            if (sessionId == null || sessionId <= 0) {
+                throw new IllegalArgumentException("Invalid session ID: " + sessionId);
+            }
+
+            List<OptionTally> cached = tallyCache.getSessionTallies(sessionId);
+            if (cached != null) {
+                return cached;
+            }
+
+            long ticket = tallyCache.beginLoad();
+            List<OptionTally> loaded;
+            try {
+                loaded = optionRepository.findTalliesBySessionId(sessionId);
+            } catch (RuntimeException e) {
+                tallyCache.abortLoad();
+                throw e;
+            }
+
+            return tallyCache.completeLoad(sessionId, loaded, ticket);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching tallies for session {}: ", sessionId, e);
+            throw new RuntimeException("Failed to fetch session tallies", e);
+        }
+    }
+
+    // Highest ranked options of a session: most votes first, ties go to the option added first
+    public List<OptionTally> getTopOptions(Long sessionId, int k) {
+        try {
+            if (sessionId == null || sessionId <= 0) {
+                throw new IllegalArgumentException("Invalid session ID: " + sessionId);
+            }
+
+            if (k <= 0) {
+                throw new IllegalArgumentException("k must be positive");
+            }
+
+            // Seeded from the database: the tally cache only holds recently read sessions
+            return leaderboards.top(sessionId, k, () -> optionRepository.findTalliesBySessionId(sessionId));
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching top options for session {}: ", sessionId, e);
+            throw new RuntimeException("Failed to fetch top options", e);
+        }
+    }
+
     // For backward compatibility - add option without session
     public Option addOption(String name, String link) {
         try {
@@ -107,28 +276,32 @@ public class DinnerPickerService {
                 throw new IllegalArgumentException("Invalid session ID: " + sessionId);
             }
 
-            Optional<VotingSession> sessionOpt = votingSessionRepository.findById(sessionId);
-            if (sessionOpt.isEmpty()) {
-                throw new RuntimeException("Voting session not found with ID: " + sessionId);
-            }
-
-            VotingSession session = sessionOpt.get();
+            VoteAuthorization authorization = votingSessionRepository.findAuthorizationById(sessionId)
+                    .orElseThrow(() -> new RuntimeException("Voting session not found with ID: " + sessionId));
+            checkAuthorization(authorization, "add new options");
 
-            // Check if session is locked (handle null values properly)
-            if (Boolean.TRUE.equals(session.getLocked())) {
-                throw new RuntimeException("This voting session is locked. Cannot add new options.");
-            }
+            // Session row first, like every vote path; the new option carries the bumped version
+            votingSessionRepository.bumpVersion(sessionId);
+            Long version = votingSessionRepository.findVersionById(sessionId).orElse(0L);
 
+            // A reference is enough to set the foreign key - no need to load the session
             Option option = new Option(
                     name.trim(),
                     link.trim(),
                     imageUrl != null ? imageUrl.trim() : null,
                     cuisine,
                     priceRange,
-                    session
+                    votingSessionRepository.getReferenceById(sessionId)
             );
+            option.setChangeVersion(version);
 
             Option savedOption = optionRepository.save(option);
+            // Not before commit, or a concurrent reader could cache the tallies without this option
+            TransactionHooks.afterCommit(() -> {
+                tallyCache.evictSession(sessionId);
+                leaderboards.evictSession(sessionId);
+            });
+            eventPublisher.publishEvent(new TallyChangedEvent(sessionId, authorization.getGroupId()));
 
             logger.info("Successfully added option '{}' to session ID: {}", savedOption.getName(), sessionId);
             return savedOption;
@@ -142,7 +315,60 @@ public class DinnerPickerService {
         }
     }
 
-    public void vote(Long optionId, Integer delta) {
+    // Throws when the session does not exist or takes no new options right now
+    @Transactional(readOnly = true)
+    public void checkAcceptsOptions(Long sessionId) {
+        authorizeOptionWrites(sessionId);
+    }
+
+    // Batch form of addOptionToSession for imports: one authorization check and one version bump
+    // for all rows, which are saved together and sent as JDBC batches. Rows are validated already.
+    public int addOptionsToSession(Long sessionId, List<AddOptionRequest> rows) {
+        try {
+            VoteAuthorization authorization = authorizeOptionWrites(sessionId);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            votingSessionRepository.bumpVersion(sessionId);
+            Long version = votingSessionRepository.findVersionById(sessionId).orElse(0L);
+
+            VotingSession session = votingSessionRepository.getReferenceById(sessionId);
+            List<Option> options = new ArrayList<>(rows.size());
+            for (AddOptionRequest row : rows) {
+                Option option = new Option(
+                        row.getName().trim(),
+                        row.getLink().trim(),
+                        row.getImageUrl() != null ? row.getImageUrl().trim() : null,
+                        row.getCuisine(),
+                        row.getPriceRange(),
+                        session
+                );
+                option.setChangeVersion(version);
+                options.add(option);
+            }
+
+            optionRepository.saveAll(options);
+            // Not before commit, or a concurrent reader could cache the tallies without these options
+            TransactionHooks.afterCommit(() -> {
+                tallyCache.evictSession(sessionId);
+                leaderboards.evictSession(sessionId);
+            });
+            eventPublisher.publishEvent(new TallyChangedEvent(sessionId, authorization.getGroupId()));
+
+            logger.info("Added {} options to session ID: {}", options.size(), sessionId);
+            return options.size();
+
+        } catch (RuntimeException e) {
+            logger.warn("Business logic error adding options to session: ", e);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error adding options to session {}: ", sessionId, e);
+            throw new RuntimeException("Failed to add options to session", e);
+        }
+    }
+
+    public Integer vote(Long optionId, Integer delta) {
         try {
             // Validate inputs
             if (optionId == null || optionId <= 0) {
@@ -153,42 +379,216 @@ public class DinnerPickerService {
                 throw new IllegalArgumentException("Vote delta cannot be null");
             }
 
-            Optional<Option> optionOpt = optionRepository.findById(optionId);
-            if (optionOpt.isEmpty()) {
-                throw new RuntimeException("Option not found with ID: " + optionId);
+            VoteAuthorization authorization = optionRepository.findVoteAuthorization(optionId)
+                    .orElseThrow(() -> new RuntimeException("Option not found with ID: " + optionId));
+            checkAuthorization(authorization, "vote on options");
+
+            // Session row first, then the option row - the same order every vote path uses
+            if (authorization.getSessionId() != null) {
+                votingSessionRepository.bumpVersion(authorization.getSessionId());
             }
 
-            Option option = optionOpt.get();
+            // Single conditional UPDATE: the increment happens in the database and re-checks the
+            // session lock, so concurrent voters never overwrite each other's tallies
+            int updated = optionRepository.applyVoteDelta(optionId, delta, 0, now());
+            if (updated == 0) {
+                throw explainRejectedVote(optionId);
+            }
 
-            // Check if voting is locked (either globally or for this session)
-            if (isVotingLocked()) {
-                throw new RuntimeException("Voting is locked globally.");
+            Integer newVotes = optionRepository.findVotesById(optionId).orElse(0);
+            recordTally(authorization.getSessionId(), optionId, newVotes);
+            if (authorization.getSessionId() != null) {
+                eventPublisher.publishEvent(new TallyChangedEvent(authorization.getSessionId(), authorization.getGroupId()));
+            }
+
+            logger.info("Successfully applied delta {} to option ID: {}, new tally {}", delta, optionId, newVotes);
+            return newVotes;
+
+        } catch (RuntimeException e) {
+            logger.warn("Business logic error processing vote: ", e);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error processing vote for option {}: ", optionId, e);
+            throw new RuntimeException("Failed to process vote", e);
+        }
+    }
+
+    // Applies already-merged deltas in one transaction, in option id order so concurrent batches
+    // lock rows in the same order. Options whose vote was rejected are left out of the result.
+    public Map<Long, Integer> applyVoteDeltas(Map<Long, VoteDelta> deltas) {
+        Map<Long, Integer> tallies = new HashMap<>();
+        if (isVotingLocked()) {
+            return tallies;
+        }
+
+        // Locks the open sessions' rows first, as the single-vote path does. Locked and expired
+        // sessions keep their version: the option updates below reject their votes with the same
+        // guard and the same timestamp.
+        LocalDateTime now = now();
+        Set<Long> sortedSessionIds = new TreeSet<>(optionRepository.findSessionIdsByIdIn(deltas.keySet()));
+        if (!sortedSessionIds.isEmpty()) {
+            votingSessionRepository.bumpVersionsIfOpen(sortedSessionIds, now);
+        }
+
+        for (Map.Entry<Long, VoteDelta> entry : new TreeMap<>(deltas).entrySet()) {
+            VoteDelta delta = entry.getValue();
+            if (optionRepository.applyVoteDelta(entry.getKey(), delta.getDelta(), delta.getFloor(), now) == 1) {
+                Integer newVotes = optionRepository.findVotesById(entry.getKey()).orElse(0);
+                recordTally(null, entry.getKey(), newVotes);
+                tallies.put(entry.getKey(), newVotes);
+            }
+        }
+
+        Set<Long> changedSessionIds = tallies.isEmpty()
+                ? Set.of() : new TreeSet<>(optionRepository.findSessionIdsByIdIn(tallies.keySet()));
+        changedSessionIds.forEach(sessionId -> eventPublisher.publishEvent(new TallyChangedEvent(sessionId)));
+        // Rankings are not told which session each option belongs to here; rebuild them instead
+        TransactionHooks.afterCompletion(() -> changedSessionIds.forEach(leaderboards::evictSession));
+
+        logger.debug("Applied vote batch for {} options, {} rejected", deltas.size(), deltas.size() - tallies.size());
+        return tallies;
+    }
+
+    // Applies several votes on one session atomically with a single JDBC batch. Any invalid vote
+    // rolls the whole request back. Returns the touched tallies and the new session version.
+    public SessionTallies castVotes(Long sessionId, List<VoteRequest> votes) {
+        try {
+            if (sessionId == null || sessionId <= 0) {
+                throw new IllegalArgumentException("Invalid session ID: " + sessionId);
             }
 
-            if (option.getVotingSession() != null && Boolean.TRUE.equals(option.getVotingSession().getLocked())) {
+            if (votes == null || votes.isEmpty()) {
+                throw new IllegalArgumentException("At least one vote is required");
+            }
+
+            Set<Long> optionIds = new LinkedHashSet<>();
+            for (VoteRequest vote : votes) {
+                if (vote.getOptionId() == null || vote.getOptionId() <= 0) {
+                    throw new IllegalArgumentException("Invalid option ID: " + vote.getOptionId());
+                }
+                if (vote.getDelta() == null) {
+                    throw new IllegalArgumentException("Vote delta cannot be null");
+                }
+                optionIds.add(vote.getOptionId());
+            }
+
+            VoteAuthorization authorization = votingSessionRepository.findAuthorizationById(sessionId)
+                    .orElseThrow(() -> new RuntimeException("Voting session not found with ID: " + sessionId));
+            checkAuthorization(authorization, "vote on options");
+
+            // Re-checks the lock now that this transaction holds the session row
+            if (votingSessionRepository.bumpVersionIfUnlocked(sessionId) == 0) {
                 throw new RuntimeException("This voting session is locked. Cannot vote on options.");
             }
 
-            int currentVotes = option.getVotes() != null ? option.getVotes() : 0;
-            int newVotes = currentVotes + delta;
+            if (optionRepository.countByIdInAndSessionId(optionIds, sessionId) != optionIds.size()) {
+                throw new RuntimeException("All options must belong to voting session " + sessionId);
+            }
 
-            // Prevent negative votes
-            if (newVotes < 0) {
-                newVotes = 0;
+            Long version = votingSessionRepository.findVersionById(sessionId).orElse(0L);
+
+            // Stable sort keeps per-option order while locking rows in id order
+            List<VoteRequest> ordered = new ArrayList<>(votes);
+            ordered.sort(Comparator.comparing(VoteRequest::getOptionId));
+            int[] counts = voteBatchRepository.applyDeltas(sessionId, version, ordered, now());
+            for (int i = 0; i < counts.length; i++) {
+                // The deadline passed since the authorization check; rolls back the whole batch
+                if (counts[i] == 0) {
+                    throw explainRejectedVote(ordered.get(i).getOptionId());
+                }
             }
 
-            option.setVotes(newVotes);
-            optionRepository.save(option);
+            List<OptionTally> tallies = optionRepository.findTalliesByIdIn(optionIds);
+            tallies.forEach(tally -> recordTally(sessionId, tally.getId(), tally.getVotes()));
+            eventPublisher.publishEvent(new TallyChangedEvent(sessionId, authorization.getGroupId()));
 
-            logger.info("Successfully updated votes for option ID: {} from {} to {}", optionId, currentVotes, newVotes);
+            logger.info("Applied {} votes to session {}, now at version {}", votes.size(), sessionId, version);
+            return new SessionTallies(sessionId, version, tallies);
 
         } catch (RuntimeException e) {
-            logger.warn("Business logic error processing vote: ", e);
+            logger.warn("Business logic error processing vote batch: ", e);
             throw e;
         } catch (Exception e) {
-            logger.error("Error processing vote for option {}: ", optionId, e);
-            throw new RuntimeException("Failed to process vote", e);
+            logger.error("Error processing vote batch for session {}: ", sessionId, e);
+            throw new RuntimeException("Failed to process votes", e);
+        }
+    }
+
+    // Publishes a tally to the tally cache and the leaderboard only once the surrounding
+    // transaction commits, ordered by the sequence number taken under the row lock so a late
+    // afterCommit cannot overwrite a newer count. The tally cache is told about the write up front
+    // so a session load racing with it is not cached.
+    private void recordTally(Long sessionId, Long optionId, Integer votes) {
+        long sequence = leaderboards.nextSequence();
+        tallyCache.beginWrite(optionId);
+        TransactionHooks.afterCompletion(() -> {
+            tallyCache.commitWrite(optionId, votes, sequence);
+            if (sessionId != null) {
+                leaderboards.recordVote(sessionId, optionId, votes, sequence);
+            }
+        }, () -> tallyCache.abortWrite(optionId));
+    }
+
+    // Cheap primary key probe so the batched path can turn unknown options away before queueing
+    @Transactional(readOnly = true)
+    public boolean optionExists(Long optionId) {
+        return optionRepository.existsById(optionId);
+    }
+
+    // Works out why applyVoteDelta matched no row, so every vote path reports the same errors
+    public RuntimeException explainRejectedVote(Long optionId) {
+        Optional<VoteAuthorization> authorization = optionRepository.findVoteAuthorization(optionId);
+        if (authorization.isEmpty()) {
+            return new RuntimeException("Option not found with ID: " + optionId);
+        }
+
+        RuntimeException failure = authorizationFailure(authorization.get(), "vote on options");
+        if (failure != null) {
+            return failure;
+        }
+
+        return new RuntimeException("This voting session is locked. Cannot vote on options.");
+    }
+
+    private VoteAuthorization authorizeOptionWrites(Long sessionId) {
+        if (sessionId == null || sessionId <= 0) {
+            throw new IllegalArgumentException("Invalid session ID: " + sessionId);
+        }
+
+        VoteAuthorization authorization = votingSessionRepository.findAuthorizationById(sessionId)
+                .orElseThrow(() -> new RuntimeException("Voting session not found with ID: " + sessionId));
+        checkAuthorization(authorization, "add new options");
+        return authorization;
+    }
+
+    private void checkAuthorization(VoteAuthorization authorization, String action) {
+        RuntimeException failure = authorizationFailure(authorization, action);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // Same rules for every write: global lock (from the lock cache), then session lock, then
+    // session deadline
+    private RuntimeException authorizationFailure(VoteAuthorization authorization, String action) {
+        if (isVotingLocked()) {
+            return new WriteRejectedException("Voting is locked globally.");
         }
+
+        if (authorization.isSessionLocked()) {
+            return new WriteRejectedException("This voting session is locked. Cannot " + action + ".");
+        }
+
+        if (authorization.isDeadlinePassed(now())) {
+            return new WriteRejectedException("The deadline for this voting session has passed. Cannot " + action + ".");
+        }
+
+        return null;
+    }
+
+    // Deadlines are compared on the same clock that stamps them (see ClockConfig)
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
     }
 
     public void lockVoting(Boolean locked) {
@@ -207,7 +607,8 @@ public class DinnerPickerService {
                 config = new VotingConfig(locked);
             }
 
-            votingConfigRepository.save(config);
+            VotingConfig savedConfig = votingConfigRepository.saveAndFlush(config);
+            publishLockState(savedConfig);
             logger.info("Global voting lock set to: {}", locked);
 
         } catch (IllegalArgumentException e) {
@@ -218,10 +619,10 @@ public class DinnerPickerService {
         }
     }
 
+    // Served from GlobalLockCache; other instances' changes show up within voting.lock.refresh-ms
     public boolean isVotingLocked() {
         try {
-            Optional<VotingConfig> configOpt = votingConfigRepository.findById(1L);
-            boolean locked = configOpt.map(VotingConfig::getLocked).orElse(false);
+            boolean locked = lockCache.isLocked();
 
             logger.debug("Global voting lock status: {}", locked);
             return locked;
@@ -233,15 +634,34 @@ public class DinnerPickerService {
         }
     }
 
+    // How many voting_config reads the lock cache has saved since startup
+    public long getLockReadsAvoided() {
+        return lockCache.getReadsAvoided();
+    }
+
+    // Reused for a few seconds rather than counted on every status request
+    public long getTotalOptions() {
+        return optionCount.getCount();
+    }
+
+    // The cached lock only changes once the new state has committed
+    private void publishLockState(VotingConfig config) {
+        boolean locked = Boolean.TRUE.equals(config.getLocked());
+        Long version = config.getVersion();
+
+        TransactionHooks.afterCompletion(() -> lockCache.update(locked, version), lockCache::invalidate);
+    }
+
     public Option getWinner() {
         try {
-            List<Option> options = getAllOptions();
-            if (options.isEmpty()) {
+            // Single row off the (votes, id) index; ties go to the option added first
+            Optional<Option> found = optionRepository.findFirstByOrderByVotesDescIdAsc();
+            if (found.isEmpty()) {
                 logger.info("No options found for winner determination");
                 return null;
             }
 
-            Option winner = options.get(0);
+            Option winner = found.get();
             logger.info("Winner determined: {} with {} votes", winner.getName(), winner.getVotes());
 
             return winner;
@@ -258,13 +678,15 @@ public class DinnerPickerService {
                 throw new IllegalArgumentException("Invalid session ID: " + sessionId);
             }
 
-            List<Option> options = getSessionOptions(sessionId);
-            if (options.isEmpty()) {
+            // Rank from the leaderboard, then load just that one option
+            List<OptionTally> top = getTopOptions(sessionId, 1);
+            Optional<Option> found = top.isEmpty() ? Optional.empty() : optionRepository.findById(top.get(0).getId());
+            if (found.isEmpty()) {
                 logger.info("No options found for session {} winner determination", sessionId);
                 return null;
             }
 
-            Option winner = options.get(0);
+            Option winner = found.get();
             logger.info("Session {} winner determined: {} with {} votes", sessionId, winner.getName(), winner.getVotes());
 
             return winner;
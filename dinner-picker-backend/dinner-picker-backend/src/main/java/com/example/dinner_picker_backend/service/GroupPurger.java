@@ -0,0 +1,143 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.cache.SessionLeaderboards;
+import com.example.dinner_picker_backend.cache.SessionTallyCache;
+import com.example.dinner_picker_backend.repository.GroupPurgeRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Deletes a group and its whole voting history a chunk of sessions at a time, with one DELETE
+ * per table per chunk. {@link #purge} runs in the caller's transaction; {@link #purgeInBackground}
+ * commits every chunk on its own on a single purge thread, so a group with years of sessions
+ * never holds one long transaction. In the background the group row goes last, which keeps the
+ * group visible until its history is gone.
+ *
+ * Background purges live only in memory. One still queued or running at shutdown is abandoned
+ * and logged; every committed chunk stays deleted, so deleting the group again resumes the purge
+ * where it stopped. The same goes for a purge that failed.
+ */
+@Component
+public class GroupPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupPurger.class);
+
+    @Autowired
+    private GroupPurgeRepository groupPurgeRepository;
+
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+
+    @Autowired
+    private SessionTallyCache tallyCache;
+
+    @Autowired
+    private SessionLeaderboards leaderboards;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${groups.purge.chunk-size:500}")
+    private int chunkSize = 500;
+
+    private ExecutorService executor;
+
+    // Groups whose background purge is queued or running
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "group-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+        if (!pending.isEmpty()) {
+            logger.warn("Background purge of groups {} did not finish; delete them again to resume", pending);
+        }
+    }
+
+    // Returns false when the group was already gone
+    public boolean purge(Long groupId) {
+        int deleted;
+        do {
+            deleted = deleteSessionChunk(groupId);
+        } while (deleted > 0);
+
+        return groupPurgeRepository.deleteGroup(groupId, () -> resourceVersions.groupCommitted(groupId));
+    }
+
+    public Future<?> purgeInBackground(Long groupId) {
+        pending.add(groupId);
+        return executor.submit(() -> {
+            try {
+                while (transactionTemplate.execute(status -> deleteSessionChunk(groupId)) > 0) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        logger.warn("Purge of group {} interrupted; the group and its remaining sessions are kept", groupId);
+                        return;
+                    }
+                }
+
+                boolean deleted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    // A session started while the history was being removed keeps the group
+                    if (votingSessionRepository.existsByGroupIdAndLockedFalse(groupId)) {
+                        logger.warn("Group {} gained an active voting session during its purge; not deleted", groupId);
+                        return false;
+                    }
+                    return purge(groupId);
+                }));
+                if (deleted) {
+                    logger.info("Purged group {} in the background", groupId);
+                }
+            } catch (Exception e) {
+                logger.error("Error purging group {} in the background; delete it again to resume: ", groupId, e);
+            } finally {
+                pending.remove(groupId);
+            }
+        });
+    }
+
+    public Set<Long> getPendingPurges() {
+        return Set.copyOf(pending);
+    }
+
+    private int deleteSessionChunk(Long groupId) {
+        List<Long> sessionIds = groupPurgeRepository.findLockedSessionIds(groupId, chunkSize);
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+
+        // Only once the deletes commit, or a concurrent reader could cache the sessions again
+        groupPurgeRepository.deleteSessions(sessionIds, () -> {
+            sessionIds.forEach(sessionId -> {
+                tallyCache.evictSession(sessionId);
+                leaderboards.evictSession(sessionId);
+            });
+            resourceVersions.groupCommitted(groupId);
+        });
+        return sessionIds.size();
+    }
+}
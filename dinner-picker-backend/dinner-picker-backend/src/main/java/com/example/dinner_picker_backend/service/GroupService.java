@@ -1,18 +1,40 @@
 package com.example.dinner_picker_backend.service;
 
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.dto.BulkMembersResult;
+import com.example.dinner_picker_backend.dto.CursorPage;
+import com.example.dinner_picker_backend.dto.GroupDetail;
+import com.example.dinner_picker_backend.dto.GroupSummary;
+import com.example.dinner_picker_backend.dto.MemberSummary;
+import com.example.dinner_picker_backend.dto.PageCursor;
 import com.example.dinner_picker_backend.entity.Group;
 import com.example.dinner_picker_backend.entity.User;
+import com.example.dinner_picker_backend.repository.GroupMemberRepository;
 import com.example.dinner_picker_backend.repository.GroupRepository;
 import com.example.dinner_picker_backend.repository.UserRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -20,21 +42,64 @@ public class GroupService {
 
     private static final Logger logger = LoggerFactory.getLogger(GroupService.class);
 
+    private static final int MAX_BULK_MEMBERS = 100_000;
+    // Ids or emails per IN list when resolving a bulk import
+    private static final int LOOKUP_CHUNK = 1000;
+
+    // Unique key on (normalized_name, created_by), see V4
+    private static final String NAME_KEY = "uk_groups_name_created_by";
+
     @Autowired
     private GroupRepository groupRepository;
 
     @Autowired
     private UserRepository userRepository;
 
-    public List<Group> getAllGroups() {
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private GroupPurger groupPurger;
+
+    public List<GroupSummary> getAllGroups() {
         try {
-            return groupRepository.findAllOrderByCreatedAtDesc();
+            return groupRepository.findAllSummaries();
         } catch (Exception e) {
             logger.error("Error fetching all groups: ", e);
             throw new RuntimeException("Failed to fetch groups", e);
         }
     }
 
+    // Newest first, one page at a time; cursor is null for the first page
+    public CursorPage<GroupSummary> getGroupsPage(String cursor, int size) {
+        CursorPage.checkSize(size);
+        try {
+            Limit limit = Limit.of(size + 1);
+            List<GroupSummary> rows;
+            if (cursor == null) {
+                rows = groupRepository.findSummaryPage(limit);
+            } else {
+                PageCursor after = PageCursor.decodeCreatedAt(cursor);
+                rows = groupRepository.findSummaryPageAfter(after.getCreatedAt(), after.getId(), limit);
+            }
+            return CursorPage.of(rows, size, group -> PageCursor.afterCreatedAt(group.getCreatedAt(), group.getId()));
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching page of groups: ", e);
+            throw new RuntimeException("Failed to fetch groups", e);
+        }
+    }
+
     public Optional<Group> getGroupById(Long id) {
         try {
             if (id == null || id <= 0) {
@@ -68,15 +133,9 @@ public class GroupService {
                 throw new IllegalArgumentException("Description must be less than 200 characters");
             }
 
-            // Check if group with same name exists for this user
-            if (userId != null) {
-                List<Group> existingGroups = groupRepository.findByMembersId(userId);
-                boolean nameExists = existingGroups.stream()
-                        .anyMatch(group -> group.getName().equalsIgnoreCase(name.trim()));
-
-                if (nameExists) {
-                    throw new IllegalArgumentException("You already have a group with this name");
-                }
+            // Names are unique per creator; groups the user only joined do not count
+            if (userId != null && groupRepository.existsByCreatedByAndNormalizedName(userId, Group.normalizeName(name))) {
+                throw new IllegalArgumentException("You already have a group with this name");
             }
 
             // Create the group
@@ -85,20 +144,31 @@ public class GroupService {
             group.setDescription(description != null ? description.trim() : null);
             group.setEmojiIcon(emojiIcon != null ? emojiIcon : "🍽️");
             group.setColorTheme(colorTheme != null ? colorTheme : "#667eea");
-            group.setCreatedAt(LocalDateTime.now());
+            group.setCreatedAt(LocalDateTime.now(clock));
 
             // Add current user to the group
             if (userId != null) {
                 Optional<User> userOpt = userRepository.findById(userId);
                 if (userOpt.isPresent()) {
                     group.getMembers().add(userOpt.get());
+                    group.setCreatedBy(userId);
                     logger.info("Added user {} to group {}", userId, group.getName());
                 } else {
                     logger.warn("User with ID {} not found when creating group", userId);
                 }
             }
 
-            Group savedGroup = groupRepository.save(group);
+            // A concurrent create of the same name by the same user loses on the unique key
+            Group savedGroup;
+            try {
+                savedGroup = groupRepository.saveAndFlush(group);
+            } catch (DataIntegrityViolationException e) {
+                if (!isDuplicateName(e)) {
+                    throw e;
+                }
+                throw new IllegalArgumentException("You already have a group with this name");
+            }
+            resourceVersions.groupChanged(savedGroup.getId());
             logger.info("Successfully created group: {} with ID: {}", savedGroup.getName(), savedGroup.getId());
 
             return savedGroup;
@@ -112,13 +182,29 @@ public class GroupService {
         }
     }
 
-    public List<Group> getUserGroups(Long userId) {
+    // Header and member list only: two statements whatever the size of the group
+    public Optional<GroupDetail> getGroupDetail(Long id) {
+        try {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("Invalid group ID: " + id);
+            }
+            return groupRepository.findSummaryById(id)
+                    .map(summary -> new GroupDetail(summary, groupRepository.findMembersByGroupId(id)));
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching group with ID {}: ", id, e);
+            throw new RuntimeException("Failed to fetch group", e);
+        }
+    }
+
+    public List<GroupSummary> getUserGroups(Long userId) {
         try {
             if (userId == null || userId <= 0) {
                 throw new IllegalArgumentException("Invalid user ID: " + userId);
             }
 
-            return groupRepository.findByMembersId(userId);
+            return groupRepository.findSummariesByMembersId(userId);
         } catch (IllegalArgumentException e) {
             throw e;
         } catch (Exception e) {
@@ -127,6 +213,30 @@ public class GroupService {
         }
     }
 
+    public CursorPage<GroupSummary> getUserGroupsPage(Long userId, String cursor, int size) {
+        CursorPage.checkSize(size);
+        try {
+            if (userId == null || userId <= 0) {
+                throw new IllegalArgumentException("Invalid user ID: " + userId);
+            }
+
+            Limit limit = Limit.of(size + 1);
+            List<GroupSummary> rows;
+            if (cursor == null) {
+                rows = groupRepository.findSummaryPageByMembersId(userId, limit);
+            } else {
+                PageCursor after = PageCursor.decodeCreatedAt(cursor);
+                rows = groupRepository.findSummaryPageByMembersIdAfter(userId, after.getCreatedAt(), after.getId(), limit);
+            }
+            return CursorPage.of(rows, size, group -> PageCursor.afterCreatedAt(group.getCreatedAt(), group.getId()));
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error fetching page of groups for user {}: ", userId, e);
+            throw new RuntimeException("Failed to fetch user groups", e);
+        }
+    }
+
     public Group joinGroup(Long groupId, Long userId) {
         try {
             if (groupId == null || groupId <= 0) {
@@ -138,29 +248,30 @@ public class GroupService {
             }
 
             Optional<Group> groupOpt = groupRepository.findById(groupId);
-            Optional<User> userOpt = userRepository.findById(userId);
 
             if (groupOpt.isEmpty()) {
                 throw new RuntimeException("Group not found with ID: " + groupId);
             }
 
-            if (userOpt.isEmpty()) {
+            if (!userRepository.existsById(userId)) {
                 throw new RuntimeException("User not found with ID: " + userId);
             }
 
-            Group group = groupOpt.get();
-            User user = userOpt.get();
-
-            // Check if user is already a member
-            if (group.getMembers().contains(user)) {
+            // Key lookups on group_members; the member list itself is never loaded
+            if (groupMemberRepository.isMember(groupId, userId)) {
                 throw new IllegalArgumentException("User is already a member of this group");
             }
 
-            group.getMembers().add(user);
-            Group savedGroup = groupRepository.save(group);
+            try {
+                groupMemberRepository.addMember(groupId, userId);
+            } catch (DuplicateKeyException e) {
+                // Lost a race with a concurrent join of the same user
+                throw new IllegalArgumentException("User is already a member of this group");
+            }
+            resourceVersions.groupChanged(groupId);
 
             logger.info("User {} joined group {}", userId, groupId);
-            return savedGroup;
+            return groupOpt.get();
 
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid input for joining group: ", e);
@@ -171,33 +282,90 @@ public class GroupService {
         }
     }
 
-    public boolean deleteGroup(Long groupId) {
+    // Adds many users at once by id and/or email. Both are resolved in chunks of LOOKUP_CHUNK
+    // without loading User entities, and the memberships go in as JDBC batches that skip users
+    // who are already members. Empty when the group does not exist.
+    public Optional<BulkMembersResult> addMembersBulk(Long groupId, List<Long> userIds, List<String> emails) {
         try {
             if (groupId == null || groupId <= 0) {
                 throw new IllegalArgumentException("Invalid group ID: " + groupId);
             }
 
-            Optional<Group> groupOpt = groupRepository.findById(groupId);
-
-            if (groupOpt.isEmpty()) {
-                logger.warn("Attempted to delete non-existent group with ID: {}", groupId);
-                return false;
+            List<Long> ids = userIds != null ? userIds.stream().distinct().toList() : List.of();
+            List<String> addresses = emails != null ? distinctEmails(emails) : List.of();
+            if (ids.isEmpty() && addresses.isEmpty()) {
+                throw new IllegalArgumentException("At least one user ID or email is required");
+            }
+            if (ids.size() + addresses.size() > MAX_BULK_MEMBERS) {
+                throw new IllegalArgumentException("At most " + MAX_BULK_MEMBERS + " users can be added per request");
+            }
+            for (Long id : ids) {
+                if (id == null || id <= 0) {
+                    throw new IllegalArgumentException("Invalid user ID: " + id);
+                }
             }
 
-            Group group = groupOpt.get();
+            if (!groupRepository.existsById(groupId)) {
+                return Optional.empty();
+            }
 
-            // Check if group has active voting sessions
-            if (group.getVotingSessions() != null && !group.getVotingSessions().isEmpty()) {
-                boolean hasActiveSessions = group.getVotingSessions().stream()
-                        .anyMatch(session -> !Boolean.TRUE.equals(session.getLocked()));
+            Set<Long> resolved = new LinkedHashSet<>();
+            List<Long> unknownUserIds = new ArrayList<>();
+            for (List<Long> chunk : chunks(ids)) {
+                Set<Long> existing = new HashSet<>(userRepository.findExistingIds(chunk));
+                for (Long id : chunk) {
+                    if (existing.contains(id)) {
+                        resolved.add(id);
+                    } else {
+                        unknownUserIds.add(id);
+                    }
+                }
+            }
 
-                if (hasActiveSessions) {
-                    throw new IllegalArgumentException("Cannot delete group with active voting sessions");
+            List<String> unknownEmails = new ArrayList<>();
+            for (List<String> chunk : chunks(addresses)) {
+                // Keyed in lower case: the column collation may match case-insensitively
+                Map<String, Long> found = new HashMap<>();
+                for (MemberSummary user : userRepository.findSummariesByEmailIn(chunk)) {
+                    found.put(user.getEmail().toLowerCase(Locale.ROOT), user.getId());
+                }
+                for (String email : chunk) {
+                    Long id = found.get(email.toLowerCase(Locale.ROOT));
+                    if (id != null) {
+                        resolved.add(id);
+                    } else {
+                        unknownEmails.add(email);
+                    }
                 }
             }
 
-            groupRepository.delete(group);
-            logger.info("Successfully deleted group: {} with ID: {}", group.getName(), groupId);
+            int added = groupMemberRepository.addMembers(groupId, new ArrayList<>(resolved));
+            if (added > 0) {
+                resourceVersions.groupChanged(groupId);
+            }
+
+            logger.info("Bulk import into group {}: {} added, {} already members, {} unknown",
+                    groupId, added, resolved.size() - added, unknownUserIds.size() + unknownEmails.size());
+            return Optional.of(new BulkMembersResult(added, resolved.size() - added, unknownUserIds, unknownEmails));
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid input for bulk member import: ", e);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error importing members into group {}: ", groupId, e);
+            throw new RuntimeException("Failed to import members", e);
+        }
+    }
+
+    // Set-based: one indexed probe for active sessions, then chunked deletes of the history
+    public boolean deleteGroup(Long groupId) {
+        try {
+            if (!checkDeletable(groupId)) {
+                return false;
+            }
+
+            groupPurger.purge(groupId);
+            logger.info("Successfully deleted group with ID: {}", groupId);
 
             return true;
 
@@ -210,6 +378,44 @@ public class GroupService {
         }
     }
 
+    // Same checks as deleteGroup, but the history is removed on the purge thread in its own short
+    // transactions; the group stays visible until it is gone
+    public boolean deleteGroupInBackground(Long groupId) {
+        try {
+            if (!checkDeletable(groupId)) {
+                return false;
+            }
+
+            groupPurger.purgeInBackground(groupId);
+            logger.info("Scheduled background deletion of group with ID: {}", groupId);
+
+            return true;
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid input for deleting group: ", e);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error scheduling deletion of group with ID {}: ", groupId, e);
+            throw new RuntimeException("Failed to delete group", e);
+        }
+    }
+
+    private boolean checkDeletable(Long groupId) {
+        if (groupId == null || groupId <= 0) {
+            throw new IllegalArgumentException("Invalid group ID: " + groupId);
+        }
+
+        if (!groupRepository.existsById(groupId)) {
+            logger.warn("Attempted to delete non-existent group with ID: {}", groupId);
+            return false;
+        }
+
+        if (votingSessionRepository.existsByGroupIdAndLockedFalse(groupId)) {
+            throw new IllegalArgumentException("Cannot delete group with active voting sessions");
+        }
+        return true;
+    }
+
     public Group updateGroup(Long groupId, String name, String description, String emojiIcon, String colorTheme) {
         try {
             if (groupId == null || groupId <= 0) {
@@ -247,7 +453,18 @@ public class GroupService {
                 group.setColorTheme(colorTheme);
             }
 
-            Group updatedGroup = groupRepository.save(group);
+            // The unique key on (normalized_name, created_by) also covers renames; flushed here so a
+            // clash with another group of the same creator is reported as such
+            Group updatedGroup;
+            try {
+                updatedGroup = groupRepository.saveAndFlush(group);
+            } catch (DataIntegrityViolationException e) {
+                if (!isDuplicateName(e)) {
+                    throw e;
+                }
+                throw new IllegalArgumentException("The group's creator already has a group with this name");
+            }
+            resourceVersions.groupChanged(groupId);
             logger.info("Successfully updated group: {} with ID: {}", updatedGroup.getName(), groupId);
 
             return updatedGroup;
@@ -260,4 +477,34 @@ public class GroupService {
             throw new RuntimeException("Failed to update group", e);
         }
     }
-}
\ No newline at end of file
+
+    // Only a violation of the name key is a duplicate name; anything else is a real failure
+    private static boolean isDuplicateName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(NAME_KEY);
+            }
+        }
+        return false;
+    }
+
+    // Trimmed, blanks dropped, one entry per address whatever its case
+    private static List<String> distinctEmails(List<String> emails) {
+        Map<String, String> byKey = new LinkedHashMap<>();
+        for (String email : emails) {
+            if (email != null && !email.isBlank()) {
+                String trimmed = email.trim();
+                byKey.putIfAbsent(trimmed.toLowerCase(Locale.ROOT), trimmed);
+            }
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += LOOKUP_CHUNK) {
+            chunks.add(values.subList(from, Math.min(from + LOOKUP_CHUNK, values.size())));
+        }
+        return chunks;
+    }
+}
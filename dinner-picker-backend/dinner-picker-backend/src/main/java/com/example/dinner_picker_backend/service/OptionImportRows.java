@@ -0,0 +1,253 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.dto.AddOptionRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads restaurant rows one at a time from a CSV or NDJSON body, so nothing beyond the current
+ * row is held in memory. A row that cannot be parsed comes back with an error instead of a
+ * request, and reading carries on with the next one. Rows are numbered by the line they start on.
+ */
+abstract class OptionImportRows {
+
+    // Anything longer is consumed but not kept, and reported as a row error
+    static final int MAX_ROW_CHARS = 8192;
+
+    static final class Row {
+        private final int line;
+        private final AddOptionRequest request;
+        private final String error;
+
+        private Row(int line, AddOptionRequest request, String error) {
+            this.line = line;
+            this.request = request;
+            this.error = error;
+        }
+
+        int getLine() { return line; }
+
+        AddOptionRequest getRequest() { return request; }
+
+        String getError() { return error; }
+    }
+
+    protected final BufferedReader reader;
+    protected int line = 1;
+
+    private OptionImportRows(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    // Null once the body is exhausted; blank lines are skipped
+    abstract Row next() throws IOException;
+
+    static OptionImportRows csv(BufferedReader reader) throws IOException {
+        return new Csv(reader);
+    }
+
+    static OptionImportRows ndjson(BufferedReader reader, ObjectReader rowReader) {
+        return new Ndjson(reader, rowReader);
+    }
+
+    private static String tooLong() {
+        return "Row is longer than " + MAX_ROW_CHARS + " characters";
+    }
+
+    // RFC 4180: a header row naming the columns, comma separated, fields optionally double-quoted
+    // with "" for a quote; quoted fields may span lines
+    private static final class Csv extends OptionImportRows {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+        private int rowStart;
+        private int rowChars;
+        private String rowError;
+
+        private Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> header = readRecord();
+            while (header != null && isBlank(header)) {
+                header = readRecord();
+            }
+            if (header == null) {
+                throw new IllegalArgumentException("The CSV body is empty");
+            }
+
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i);
+                // Byte order mark written by spreadsheet exports
+                if (i == 0 && name.startsWith("\uFEFF")) {
+                    name = name.substring(1);
+                }
+                columns.putIfAbsent(name.trim().replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("name") || !columns.containsKey("link")) {
+                throw new IllegalArgumentException("The CSV header must have name and link columns");
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            List<String> record;
+            do {
+                record = readRecord();
+            } while (record != null && isBlank(record));
+
+            if (record == null) {
+                return null;
+            }
+            if (rowError != null) {
+                return new Row(rowStart, null, rowError);
+            }
+
+            AddOptionRequest request = new AddOptionRequest(field(record, "name"), field(record, "link"));
+            request.setImageUrl(field(record, "imageurl"));
+            request.setCuisine(field(record, "cuisine"));
+            request.setPriceRange(field(record, "pricerange"));
+            return new Row(rowStart, request, null);
+        }
+
+        // Missing and empty fields are null
+        private String field(List<String> record, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+                return null;
+            }
+            return record.get(index);
+        }
+
+        private static boolean isBlank(List<String> record) {
+            return record.size() == 1 && record.get(0).isBlank();
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            rowStart = line;
+            rowChars = 0;
+            rowError = null;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        rowError = "Unterminated quoted field";
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            append(field, '"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        append(field, (char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r' || c == -1) {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    append(field, (char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        private void append(StringBuilder field, char c) {
+            if (++rowChars > MAX_ROW_CHARS) {
+                rowError = tooLong();
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    // One JSON object per line with the AddOptionRequest fields
+    private static final class Ndjson extends OptionImportRows {
+
+        private final ObjectReader rowReader;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean atEnd;
+
+        private Ndjson(BufferedReader reader, ObjectReader rowReader) {
+            super(reader);
+            this.rowReader = rowReader;
+        }
+
+        @Override
+        Row next() throws IOException {
+            while (true) {
+                int rowLine = line;
+                boolean truncated = readLine();
+                if (truncated) {
+                    return new Row(rowLine, null, tooLong());
+                }
+                if (buffer.length() == 0 && atEnd) {
+                    return null;
+                }
+                if (buffer.toString().isBlank()) {
+                    continue;
+                }
+
+                try {
+                    return new Row(rowLine, rowReader.readValue(buffer.toString()), null);
+                } catch (JsonProcessingException e) {
+                    return new Row(rowLine, null, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        }
+
+        // Fills buffer with the next line; true when it was cut off at MAX_ROW_CHARS
+        private boolean readLine() throws IOException {
+            buffer.setLength(0);
+            boolean truncated = false;
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n') {
+                if (buffer.length() < MAX_ROW_CHARS) {
+                    buffer.append((char) c);
+                } else {
+                    truncated = true;
+                }
+            }
+            if (c == -1) {
+                atEnd = true;
+            } else {
+                line++;
+            }
+            return truncated;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.dto.AddOptionRequest;
+import com.example.dinner_picker_backend.dto.OptionImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports restaurants into a session from a CSV or NDJSON stream. Rows are validated against the
+ * AddOptionRequest rules as they are read, and valid ones are added BATCH_SIZE at a time, each
+ * batch in its own transaction, so neither memory nor transaction length grows with the body.
+ * Invalid rows are reported and skipped; the import stops if the session stops taking options.
+ */
+@Service
+public class OptionImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptionImportService.class);
+
+    // Rows per transaction; a tenth of a block of pooled option ids (see Option)
+    static final int BATCH_SIZE = 500;
+
+    public enum Format { CSV, NDJSON }
+
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Throws before reading the body when the session does not exist or takes no new options
+    public OptionImportResult importOptions(Long sessionId, InputStream body, Format format) throws IOException {
+        dinnerPickerService.checkAcceptsOptions(sessionId);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        OptionImportRows rows = format == Format.CSV
+                ? OptionImportRows.csv(reader)
+                : OptionImportRows.ndjson(reader, objectMapper.readerFor(AddOptionRequest.class));
+
+        OptionImportResult result = new OptionImportResult();
+        List<AddOptionRequest> batch = new ArrayList<>(BATCH_SIZE);
+        OptionImportRows.Row row;
+        while ((row = rows.next()) != null) {
+            String error = row.getError() != null ? row.getError() : validate(row.getRequest());
+            if (error != null) {
+                result.reject(row.getLine(), error);
+                continue;
+            }
+
+            batch.add(row.getRequest());
+            if (batch.size() == BATCH_SIZE && !addBatch(sessionId, batch, result)) {
+                return result;
+            }
+        }
+        addBatch(sessionId, batch, result);
+
+        logger.info("Imported {} options into session {}, rejected {}", result.getImported(), sessionId, result.getRejected());
+        return result;
+    }
+
+    // False when the session stopped taking options; the rest of the body is then left unread.
+    // Anything else, database errors and shed work included, fails the request.
+    private boolean addBatch(Long sessionId, List<AddOptionRequest> batch, OptionImportResult result) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        try {
+            result.addImported(dinnerPickerService.addOptionsToSession(sessionId, batch));
+            return true;
+        } catch (WriteRejectedException e) {
+            logger.warn("Import into session {} stopped after {} options: {}", sessionId, result.getImported(), e.getMessage());
+            result.setStoppedReason(e.getMessage());
+            return false;
+        } finally {
+            batch.clear();
+        }
+    }
+
+    // Null when the row is valid, else its violations in field order
+    private String validate(AddOptionRequest request) {
+        Set<ConstraintViolation<AddOptionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+    }
+}
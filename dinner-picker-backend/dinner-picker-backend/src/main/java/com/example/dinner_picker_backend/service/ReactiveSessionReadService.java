@@ -0,0 +1,123 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.cache.SessionTallyCache;
+import com.example.dinner_picker_backend.config.DatabaseBusyException;
+import com.example.dinner_picker_backend.config.ReactivePoolMetrics;
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.dto.SessionDetail;
+import com.example.dinner_picker_backend.dto.SessionOptions;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.repository.ReactiveSessionReadRepository;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Non-blocking versions of the hottest session reads in DinnerPickerService and
+ * VotingSessionService, with the same results. Writes still go through JPA; their version
+ * bumps and cache evictions are what these reads rely on.
+ */
+@Service
+public class ReactiveSessionReadService {
+
+    @Autowired
+    private ReactiveSessionReadRepository reactiveSessionReadRepository;
+
+    @Autowired
+    private SessionTallyCache tallyCache;
+
+    @Autowired
+    private ReactivePoolMetrics reactivePoolMetrics;
+
+    // As DinnerPickerService.getSessionOptions. There is no read-only transaction here, but the
+    // version is still read first, so a change racing with this call is at worst sent twice.
+    public Mono<SessionOptions> getSessionOptions(Long sessionId, Long sinceVersion) {
+        if (sessionId == null || sessionId <= 0) {
+            return Mono.error(new IllegalArgumentException("Invalid session ID: " + sessionId));
+        }
+
+        if (sinceVersion != null && sinceVersion < 0) {
+            return Mono.error(new IllegalArgumentException("Invalid version: " + sinceVersion));
+        }
+
+        return reactiveSessionReadRepository.findVersionById(sessionId)
+                .defaultIfEmpty(0L)
+                .flatMap(version -> {
+                    // A client ahead of us (e.g. after a database reset) has to start over
+                    if (sinceVersion == null || sinceVersion > version) {
+                        return reactiveSessionReadRepository.findOptionsBySessionId(sessionId).collectList()
+                                .map(options -> new SessionOptions(sessionId, version, false, options));
+                    }
+
+                    if (sinceVersion.equals(version)) {
+                        return Mono.just(new SessionOptions(sessionId, version, true, List.of()));
+                    }
+
+                    return reactiveSessionReadRepository.findOptionsChangedSince(sessionId, sinceVersion).collectList()
+                            .map(changed -> new SessionOptions(sessionId, version, true, changed));
+                })
+                .onErrorMap(ReactiveSessionReadService::isPoolExhausted, this::busy);
+    }
+
+    // Current version of a session, 0 when there is no such session
+    public Mono<Long> getSessionVersion(Long sessionId) {
+        return reactiveSessionReadRepository.findVersionById(sessionId)
+                .defaultIfEmpty(0L)
+                .onErrorMap(ReactiveSessionReadService::isPoolExhausted, this::busy);
+    }
+
+    // Every option of a session, emitted as the client takes them
+    public Flux<Option> streamSessionOptions(Long sessionId) {
+        if (sessionId == null || sessionId <= 0) {
+            return Flux.error(new IllegalArgumentException("Invalid session ID: " + sessionId));
+        }
+
+        return reactiveSessionReadRepository.findOptionsBySessionId(sessionId)
+                .onErrorMap(ReactiveSessionReadService::isPoolExhausted, this::busy);
+    }
+
+    // Served from the tally cache when the session is warm, and fills it the same way otherwise
+    public Mono<List<OptionTally>> getSessionTallies(Long sessionId) {
+        if (sessionId == null || sessionId <= 0) {
+            return Mono.error(new IllegalArgumentException("Invalid session ID: " + sessionId));
+        }
+
+        return Mono.defer(() -> {
+            List<OptionTally> cached = tallyCache.getSessionTallies(sessionId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            long ticket = tallyCache.beginLoad();
+            return reactiveSessionReadRepository.findTalliesBySessionId(sessionId).collectList()
+                    .map(loaded -> tallyCache.completeLoad(sessionId, loaded, ticket))
+                    .doOnError(e -> tallyCache.abortLoad())
+                    .doOnCancel(tallyCache::abortLoad);
+        }).onErrorMap(ReactiveSessionReadService::isPoolExhausted, this::busy);
+    }
+
+    public Mono<SessionDetail> getSessionDetail(Long sessionId) {
+        return reactiveSessionReadRepository.findDetailById(sessionId)
+                .onErrorMap(ReactiveSessionReadService::isPoolExhausted, this::busy);
+    }
+
+    // No pooled connection freed up within spring.r2dbc.pool.max-acquire-time
+    private static boolean isPoolExhausted(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof R2dbcTimeoutException && cause.getCause() instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Throwable busy(Throwable e) {
+        reactivePoolMetrics.recordShed();
+        return new DatabaseBusyException("The database is busy, try again shortly", e);
+    }
+}
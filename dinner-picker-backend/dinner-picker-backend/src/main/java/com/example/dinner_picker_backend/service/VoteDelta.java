@@ -0,0 +1,38 @@
+package com.example.dinner_picker_backend.service;
+
+/**
+ * Several votes on one option folded into a single update that gives the same tally as applying
+ * them one by one with the per-vote floor at zero: votes = max(votes + delta, floor).
+ *
+ * Folding keeps that shape: applying (a, b) and then a vote d gives max(votes + a + d, b + d, 0),
+ * i.e. (a + d, max(b + d, 0)). So +1 then -1 on an option with no votes nets to 0, not -1 floored.
+ */
+public final class VoteDelta {
+
+    public static final VoteDelta NONE = new VoteDelta(0, 0);
+
+    private final int delta;
+    private final int floor;
+
+    private VoteDelta(int delta, int floor) {
+        this.delta = delta;
+        this.floor = floor;
+    }
+
+    public static VoteDelta of(int delta) {
+        return NONE.then(delta);
+    }
+
+    public VoteDelta then(int vote) {
+        return new VoteDelta(delta + vote, Math.max(floor + vote, 0));
+    }
+
+    public int getDelta() { return delta; }
+
+    public int getFloor() { return floor; }
+
+    // The tally this delta leaves behind on an option that had the given votes
+    public int applyTo(int votes) {
+        return Math.max(votes + delta, floor);
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.config.DbPermitLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Entry point for votes coming in over HTTP.
+ *
+ * In the default "sync" mode every vote is its own transaction in {@link DinnerPickerService}.
+ * In "batched" mode votes go onto a bounded queue and a single writer thread merges the
+ * deltas per option and commits them together every few milliseconds, so the commit rate
+ * stops being the ceiling under bursty load. Callers still get the final tally back.
+ *
+ * Votes are folded in arrival order into a {@link VoteDelta}, so a batch ends on the same tally
+ * as the sync path applying each vote with its own floor at zero.
+ *
+ * A caller that gives up waiting withdraws its vote unless the writer has already taken it, so an
+ * error response never hides a vote that is still counted later; a vote already being written is
+ * waited for to the end.
+ */
+@Service
+public class VoteIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteIngestionService.class);
+
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+
+    @Value("${voting.ingestion.mode:sync}")
+    private String mode;
+
+    @Value("${voting.ingestion.batch-size:256}")
+    private int batchSize;
+
+    @Value("${voting.ingestion.flush-interval-ms:5}")
+    private long flushIntervalMs;
+
+    @Value("${voting.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${voting.ingestion.response-timeout-ms:10000}")
+    private long responseTimeoutMs = 10_000;
+
+    private BlockingQueue<PendingVote> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!isBatched()) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "vote-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        logger.info("Batched vote ingestion enabled (batch size {}, flush interval {} ms, queue capacity {})",
+                batchSize, flushIntervalMs, queueCapacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (writer == null) {
+            return;
+        }
+
+        running = false;
+        writer.interrupt();
+
+        List<PendingVote> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(vote -> vote.result.completeExceptionally(
+                new RuntimeException("Vote ingestion is shutting down")));
+    }
+
+    public boolean isBatched() {
+        return "batched".equalsIgnoreCase(mode);
+    }
+
+    public Integer vote(Long optionId, Integer delta) {
+        if (!isBatched()) {
+            return dinnerPickerService.vote(optionId, delta);
+        }
+
+        PendingVote vote = enqueue(optionId, delta);
+        try {
+            try {
+                return vote.result.get(responseTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (vote.withdraw()) {
+                    queue.remove(vote);
+                    throw new RuntimeException("Timed out waiting for vote to be applied; it was not counted", e);
+                }
+                return vote.result.get();
+            }
+        } catch (ExecutionException e) {
+            DbPermitLimiter.rethrowIfShed(e.getCause());
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Failed to process vote", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for vote to be applied", e);
+        }
+    }
+
+    // Validates and enqueues a vote. Throws RejectedExecutionException when the queue is full
+    // so callers can shed load instead of piling up behind the writer.
+    public CompletableFuture<Integer> submit(Long optionId, Integer delta) {
+        return enqueue(optionId, delta).result;
+    }
+
+    private PendingVote enqueue(Long optionId, Integer delta) {
+        if (optionId == null || optionId <= 0) {
+            throw new IllegalArgumentException("Invalid option ID: " + optionId);
+        }
+
+        if (delta == null) {
+            throw new IllegalArgumentException("Vote delta cannot be null");
+        }
+
+        if (!running) {
+            throw new IllegalStateException("Batched vote ingestion is not enabled");
+        }
+
+        // Same error as the sync path, rather than a queue slot spent on a vote that cannot land
+        if (!dinnerPickerService.optionExists(optionId)) {
+            throw new RuntimeException("Option not found with ID: " + optionId);
+        }
+
+        PendingVote vote = new PendingVote(optionId, delta);
+        if (!queue.offer(vote)) {
+            throw new RejectedExecutionException("Too many votes in flight. Please try again.");
+        }
+
+        return vote;
+    }
+
+    private void writeLoop() {
+        List<PendingVote> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                PendingVote first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+                // Collect until the batch is full or the flush interval has passed
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+
+                    PendingVote next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(vote -> vote.result.completeExceptionally(
+                        new RuntimeException("Vote ingestion is shutting down")));
+                return;
+            } catch (Exception e) {
+                // Never let the writer die - fail this batch and keep going
+                logger.error("Unexpected error in vote writer: ", e);
+                batch.forEach(vote -> vote.result.completeExceptionally(
+                        new RuntimeException("Failed to process vote", e)));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingVote> batch) {
+        batch.removeIf(vote -> !vote.take());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, VoteDelta> deltas = new HashMap<>();
+        for (PendingVote vote : batch) {
+            deltas.merge(vote.optionId, VoteDelta.of(vote.delta), (merged, next) -> merged.then(vote.delta));
+        }
+
+        Map<Long, Integer> tallies;
+        try {
+            tallies = dinnerPickerService.applyVoteDeltas(deltas);
+        } catch (Exception e) {
+            logger.error("Error applying vote batch of {} votes: ", batch.size(), e);
+            batch.forEach(vote -> vote.result.completeExceptionally(
+                    new RuntimeException("Failed to process vote", e)));
+            return;
+        }
+
+        Map<Long, RuntimeException> rejections = new HashMap<>();
+        for (PendingVote vote : batch) {
+            Integer tally = tallies.get(vote.optionId);
+            if (tally != null) {
+                vote.result.complete(tally);
+            } else {
+                vote.result.completeExceptionally(rejections.computeIfAbsent(
+                        vote.optionId, dinnerPickerService::explainRejectedVote));
+            }
+        }
+
+        logger.debug("Flushed {} votes across {} options", batch.size(), deltas.size());
+    }
+
+    private static class PendingVote {
+        private final Long optionId;
+        private final Integer delta;
+        private final CompletableFuture<Integer> result = new CompletableFuture<>();
+        // Set by whichever comes first: the writer taking the vote or its caller withdrawing it
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private PendingVote(Long optionId, Integer delta) {
+            this.optionId = optionId;
+            this.delta = delta;
+        }
+
+        private boolean take() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        private boolean withdraw() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
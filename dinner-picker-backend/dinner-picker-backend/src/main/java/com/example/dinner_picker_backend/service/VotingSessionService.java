@@ -1,12 +1,22 @@
 package com.example.dinner_picker_backend.service;
 
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.cache.SessionLeaderboards;
+import com.example.dinner_picker_backend.cache.SessionTallyCache;
+import com.example.dinner_picker_backend.config.TransactionHooks;
+import com.example.dinner_picker_backend.dto.CursorPage;
+import com.example.dinner_picker_backend.dto.PageCursor;
+import com.example.dinner_picker_backend.dto.SessionDetail;
 import com.example.dinner_picker_backend.entity.Group;
 import com.example.dinner_picker_backend.entity.VotingSession;
 import com.example.dinner_picker_backend.repository.GroupRepository;
 import com.example.dinner_picker_backend.repository.VotingSessionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -20,14 +30,45 @@ public class VotingSessionService {
     @Autowired
     private GroupRepository groupRepository;
 
+    @Autowired
+    private SessionTallyCache tallyCache;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private SessionLeaderboards leaderboards;
+
+    @Autowired
+    private Clock clock;
+
     public List<VotingSession> getGroupSessions(Long groupId) {
-        return votingSessionRepository.findByGroupIdOrderByCreatedAtDesc(groupId);
+        return votingSessionRepository.findWithOptionsByGroupIdOrderByCreatedAtDesc(groupId);
+    }
+
+    // Newest first, one page at a time; cursor is null for the first page
+    public CursorPage<VotingSession> getGroupSessionsPage(Long groupId, String cursor, int size) {
+        CursorPage.checkSize(size);
+        Limit limit = Limit.of(size + 1);
+        List<Long> ids;
+        if (cursor == null) {
+            ids = votingSessionRepository.findPageIdsByGroupId(groupId, limit);
+        } else {
+            PageCursor after = PageCursor.decodeCreatedAt(cursor);
+            ids = votingSessionRepository.findPageIdsByGroupIdAfter(groupId, after.getCreatedAt(), after.getId(), limit);
+        }
+        List<VotingSession> rows = ids.isEmpty() ? List.of() : votingSessionRepository.findWithOptionsByIdIn(ids);
+        return CursorPage.of(rows, size, session -> PageCursor.afterCreatedAt(session.getCreatedAt(), session.getId()));
     }
 
     public Optional<VotingSession> getSessionById(Long id) {
         return votingSessionRepository.findById(id);
     }
 
+    public Optional<SessionDetail> getSessionDetail(Long id) {
+        return votingSessionRepository.findDetailById(id);
+    }
+
     public VotingSession createSession(String title, String description, Long groupId, LocalDateTime deadline) {
         Optional<Group> groupOpt = groupRepository.findById(groupId);
         if (groupOpt.isEmpty()) {
@@ -35,19 +76,37 @@ public class VotingSessionService {
         }
 
         VotingSession session = new VotingSession(title, description, groupOpt.get());
+        session.setCreatedAt(LocalDateTime.now(clock));
         session.setDeadline(deadline);
 
-        return votingSessionRepository.save(session);
+        VotingSession savedSession = votingSessionRepository.save(session);
+        resourceVersions.sessionChanged(savedSession.getId(), groupId);
+        return savedSession;
     }
 
+    // One transaction, so save() updates the fetched session in place instead of merging it into a
+    // copy loaded from the second-level cache (whose options are not initialized)
+    @Transactional
     public VotingSession lockSession(Long sessionId, Boolean locked) {
-        Optional<VotingSession> sessionOpt = votingSessionRepository.findById(sessionId);
+        // Session row first, like every vote path; the new version changes the session's ETag
+        if (votingSessionRepository.bumpVersion(sessionId) == 0) {
+            throw new RuntimeException("Session not found");
+        }
+
+        // The response renders the options too
+        Optional<VotingSession> sessionOpt = votingSessionRepository.findWithOptionsById(sessionId);
         if (sessionOpt.isEmpty()) {
             throw new RuntimeException("Session not found");
         }
 
         VotingSession session = sessionOpt.get();
         session.setLocked(locked);
-        return votingSessionRepository.save(session);
-    }
-}
\ No newline at end of file
+        VotingSession savedSession = votingSessionRepository.save(session);
+        // Only once the lock is visible, so a concurrent reader cannot re-cache the old state
+        TransactionHooks.afterCommit(() -> {
+            tallyCache.evictSession(sessionId);
+            leaderboards.evictSession(sessionId);
+        });
+        resourceVersions.sessionChanged(sessionId, session.getGroup() != null ? session.getGroup().getId() : null);
+        return savedSession;
+    }}
@@ -0,0 +1,9 @@
+package com.example.dinner_picker_backend.service;
+
+// A write refused because voting is locked, the session is locked or its deadline has passed
+public class WriteRejectedException extends RuntimeException {
+
+    public WriteRejectedException(String message) {
+        super(message);
+    }
+}
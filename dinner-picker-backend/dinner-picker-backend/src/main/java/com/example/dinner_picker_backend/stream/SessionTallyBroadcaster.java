@@ -0,0 +1,341 @@
+package com.example.dinner_picker_backend.stream;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.dto.SessionTallies;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import com.example.dinner_picker_backend.service.DinnerPickerService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes live tallies to clients of GET /api/sessions/{sessionId}/stream.
+ *
+ * Committed writes only mark their session dirty. Every coalescing window a single flusher
+ * thread reads each dirty session once (from the tally cache), serializes it once and hands the
+ * same frame to every subscriber, so a burst of votes becomes one event per window no matter
+ * how many votes or clients there are. Sender threads write frames out; open connections are
+ * parked as async requests and hold no thread while idle.
+ *
+ * Writes block, so a client that stops reading pins its sender thread. The sender pool keeps a
+ * few threads but grows (up to stream.max-sender-threads) rather than queueing behind a stuck
+ * write, and a subscriber whose write has been blocked for longer than stream.send-timeout-ms is
+ * dropped: it gets no more frames, and its thread comes back once the container's write timeout
+ * fails the write. With virtual threads enabled every drain has its own virtual thread.
+ *
+ * Only writes made on this instance are seen; with several instances clients still catch up
+ * on the next local write or by reloading.
+ */
+@Component
+public class SessionTallyBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionTallyBroadcaster.class);
+
+    static final String TALLIES_EVENT = "tallies";
+
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${stream.coalesce-ms:100}")
+    private long coalesceMs = 100;
+
+    @Value("${stream.client-queue-capacity:4}")
+    private int clientQueueCapacity = 4;
+
+    @Value("${stream.sender-threads:4}")
+    private int senderThreads = 4;
+
+    @Value("${stream.max-sender-threads:64}")
+    private int maxSenderThreads = 64;
+
+    @Value("${stream.send-timeout-ms:5000}")
+    private long sendTimeoutMs = 5000;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads = false;
+
+    @Value("${stream.heartbeat-seconds:20}")
+    private long heartbeatSeconds = 20;
+
+    @Value("${stream.timeout-minutes:30}")
+    private long timeoutMinutes = 30;
+
+    private final Map<Long, Set<TallySubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Long> dirtySessions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder framesDropped = new LongAdder();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder slowSubscribersDropped = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService senders;
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemon("tally-stream-flush"));
+        senders = virtualThreads && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)
+                ? Executors.newCachedThreadPool(new VirtualThreadTaskExecutor("tally-stream-send-").getVirtualThreadFactory())
+                : new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, maxSenderThreads),
+                        30, TimeUnit.SECONDS, new SynchronousQueue<>(), daemon("tally-stream-send"));
+
+        long reapMs = Math.max(1, sendTimeoutMs / 2);
+        scheduler.scheduleWithFixedDelay(this::flush, coalesceMs, coalesceMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        scheduler.scheduleWithFixedDelay(this::dropStalledSubscribers, reapMs, reapMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (senders != null) {
+            senders.shutdownNow();
+        }
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.getEmitter().complete()));
+        subscribers.clear();
+    }
+
+    // Opens a stream for a session; the first frame is the current snapshot
+    public SseEmitter subscribe(Long sessionId) {
+        if (sessionId == null || sessionId <= 0) {
+            throw new IllegalArgumentException("Invalid session ID: " + sessionId);
+        }
+
+        if (!votingSessionRepository.existsById(sessionId)) {
+            throw new RuntimeException("Voting session not found with ID: " + sessionId);
+        }
+
+        return subscribe(sessionId, new SseEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes)));
+    }
+
+    SseEmitter subscribe(long sessionId, SseEmitter emitter) {
+        TallySubscriber subscriber = new TallySubscriber(sessionId, emitter, clientQueueCapacity);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        subscribers.compute(sessionId, (id, sessionSubscribers) -> {
+            Set<TallySubscriber> set = sessionSubscribers != null ? sessionSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+
+        TallyFrame snapshot = snapshot(sessionId);
+        if (snapshot != null) {
+            enqueue(subscriber, snapshot);
+        }
+
+        logger.debug("Subscriber added to session {} ({} open streams)", sessionId, subscriberCount.get());
+        return emitter;
+    }
+
+    // Runs after commit; rolled back writes never reach clients
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTallyChanged(TallyChangedEvent event) {
+        Long sessionId = event.getSessionId();
+        if (sessionId != null && subscribers.containsKey(sessionId)) {
+            dirtySessions.add(sessionId);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getFramesDropped() {
+        return framesDropped.sum();
+    }
+
+    public long getFramesSent() {
+        return framesSent.sum();
+    }
+
+    public long getSlowSubscribersDropped() {
+        return slowSubscribersDropped.sum();
+    }
+
+    // One read and one serialization per dirty session per window, shared by all its subscribers
+    void flush() {
+        try {
+            for (Long sessionId : dirtySessions) {
+                dirtySessions.remove(sessionId);
+
+                Set<TallySubscriber> sessionSubscribers = subscribers.get(sessionId);
+                if (sessionSubscribers == null || sessionSubscribers.isEmpty()) {
+                    continue;
+                }
+
+                TallyFrame frame = snapshot(sessionId);
+                if (frame == null) {
+                    continue;
+                }
+
+                for (TallySubscriber subscriber : sessionSubscribers) {
+                    enqueue(subscriber, frame);
+                }
+            }
+        } catch (Exception e) {
+            // Never let an exception cancel the scheduled flush
+            logger.error("Error flushing tally stream: ", e);
+        }
+    }
+
+    // Keeps proxies from closing idle streams and finds clients that went away
+    void heartbeat() {
+        try {
+            subscribers.values().forEach(set -> set.forEach(subscriber -> enqueue(subscriber, TallyFrame.HEARTBEAT)));
+        } catch (Exception e) {
+            logger.error("Error sending tally stream heartbeat: ", e);
+        }
+    }
+
+    // Stops feeding clients stuck in a write. The emitter is left alone: its methods share a
+    // monitor with the blocked send, so completing it here would block this thread too.
+    void dropStalledSubscribers() {
+        try {
+            long now = System.nanoTime();
+            long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+            subscribers.values().forEach(set -> set.forEach(subscriber -> {
+                if (subscriber.isSendStalled(now, timeoutNanos)) {
+                    logger.info("Dropping subscriber of session {}: write blocked for over {} ms",
+                            subscriber.getSessionId(), sendTimeoutMs);
+                    slowSubscribersDropped.increment();
+                    unsubscribe(subscriber);
+                }
+            }));
+        } catch (Exception e) {
+            logger.error("Error dropping stalled tally stream subscribers: ", e);
+        }
+    }
+
+    private TallyFrame snapshot(long sessionId) {
+        try {
+            // Version first, so the tallies are at least as new as the version sent with them
+            Long version = votingSessionRepository.findVersionById(sessionId).orElse(0L);
+            List<OptionTally> tallies = dinnerPickerService.getSessionTallies(sessionId);
+            String json = objectMapper.writeValueAsString(new SessionTallies(sessionId, version, tallies));
+            return new TallyFrame(TALLIES_EVENT, String.valueOf(version), json);
+        } catch (JsonProcessingException e) {
+            logger.error("Error serializing tallies for session {}: ", sessionId, e);
+            return null;
+        } catch (Exception e) {
+            logger.warn("Error reading tallies for session {}: ", sessionId, e);
+            return null;
+        }
+    }
+
+    private void enqueue(TallySubscriber subscriber, TallyFrame frame) {
+        if (subscriber.isClosed()) {
+            return;
+        }
+
+        if (subscriber.offer(frame) > 0) {
+            framesDropped.increment();
+        }
+
+        if (subscriber.tryStartDrain()) {
+            if (senders == null) {
+                drain(subscriber);
+            } else {
+                try {
+                    senders.execute(() -> drain(subscriber));
+                } catch (RejectedExecutionException e) {
+                    // Every sender is busy; the frame stays queued for the next flush or heartbeat
+                    subscriber.finishDrain();
+                }
+            }
+        }
+    }
+
+    private void drain(TallySubscriber subscriber) {
+        do {
+            TallyFrame frame;
+            while (!subscriber.isClosed() && (frame = subscriber.poll()) != null) {
+                if (!send(subscriber, frame)) {
+                    subscriber.finishDrain();
+                    return;
+                }
+            }
+            subscriber.finishDrain();
+            // A frame offered after the last poll but before finishDrain would otherwise sit there
+        } while (!subscriber.isClosed() && subscriber.hasPending() && subscriber.tryStartDrain());
+    }
+
+    private boolean send(TallySubscriber subscriber, TallyFrame frame) {
+        subscriber.sendStarted();
+        try {
+            if (frame.isHeartbeat()) {
+                subscriber.getEmitter().send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                subscriber.getEmitter().send(SseEmitter.event()
+                        .name(frame.getName())
+                        .id(frame.getId())
+                        .data(frame.getJson(), MediaType.APPLICATION_JSON));
+                framesSent.increment();
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping subscriber of session {}: {}", subscriber.getSessionId(), e.getMessage());
+            // The container reports the broken connection itself; just stop writing to it
+            unsubscribe(subscriber);
+            return false;
+        } finally {
+            subscriber.sendFinished();
+        }
+    }
+
+    private void unsubscribe(TallySubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(subscriber.getSessionId(), (id, sessionSubscribers) -> {
+            if (sessionSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return sessionSubscribers.isEmpty() ? null : sessionSubscribers;
+        });
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.dinner_picker_backend.stream;
+
+// Published by every write that changes a session's tallies; delivered once the write has committed.
+// groupId is null when the writer does not know it.
+public class TallyChangedEvent {
+    private final Long sessionId;
+    private final Long groupId;
+
+    public TallyChangedEvent(Long sessionId) {
+        this(sessionId, null);
+    }
+
+    public TallyChangedEvent(Long sessionId, Long groupId) {
+        this.sessionId = sessionId;
+        this.groupId = groupId;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+}
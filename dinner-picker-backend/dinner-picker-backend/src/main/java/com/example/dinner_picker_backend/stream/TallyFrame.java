@@ -0,0 +1,33 @@
+package com.example.dinner_picker_backend.stream;
+
+// A pre-serialized event, shared by every subscriber of a session. A null name is a heartbeat.
+class TallyFrame {
+
+    static final TallyFrame HEARTBEAT = new TallyFrame(null, null, null);
+
+    private final String name;
+    private final String id;
+    private final String json;
+
+    TallyFrame(String name, String id, String json) {
+        this.name = name;
+        this.id = id;
+        this.json = json;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getJson() {
+        return json;
+    }
+
+    boolean isHeartbeat() {
+        return name == null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.dinner_picker_backend.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open stream. Frames wait in a small bounded queue; when a slow client falls behind, the
+ * oldest frames are dropped. Every tally frame is a full snapshot, so skipping intermediate
+ * ones only loses states the client would have overwritten anyway.
+ *
+ * The start of the write in progress is kept so a client that stops reading can be spotted
+ * and dropped.
+ */
+class TallySubscriber {
+
+    private final long sessionId;
+    private final SseEmitter emitter;
+    private final int capacity;
+
+    private final ArrayDeque<TallyFrame> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile long sendStartedNanos;
+    private long dropped;
+
+    TallySubscriber(long sessionId, SseEmitter emitter, int capacity) {
+        this.sessionId = sessionId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    long getSessionId() {
+        return sessionId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    // Returns the number of frames dropped to make room (0 or 1)
+    synchronized int offer(TallyFrame frame) {
+        int droppedNow = 0;
+        if (queue.size() >= capacity) {
+            queue.pollFirst();
+            dropped++;
+            droppedNow = 1;
+        }
+        queue.addLast(frame);
+        return droppedNow;
+    }
+
+    synchronized TallyFrame poll() {
+        return queue.pollFirst();
+    }
+
+    synchronized boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    synchronized long getDropped() {
+        return dropped;
+    }
+
+    // Only one sender drains a subscriber at a time, which keeps its frames in order
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    void sendStarted() {
+        // 0 means idle, so never store it as a start time
+        sendStartedNanos = System.nanoTime() | 1;
+    }
+
+    void sendFinished() {
+        sendStartedNanos = 0;
+    }
+
+    // True while a single write has been blocked for longer than the timeout
+    boolean isSendStalled(long nowNanos, long timeoutNanos) {
+        long started = sendStartedNanos;
+        return started != 0 && nowNanos - started > timeoutNanos;
+    }
+}
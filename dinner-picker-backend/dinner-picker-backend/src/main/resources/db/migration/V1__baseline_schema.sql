@@ -0,0 +1,61 @@
+-- Schema as it stood before migrations were introduced. Databases created by Hibernate before
+-- then already have it and are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    avatar VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE dinner_groups (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    emoji_icon VARCHAR(255),
+    color_theme VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE group_members (
+    group_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (group_id, user_id),
+    CONSTRAINT fk_group_members_group FOREIGN KEY (group_id) REFERENCES dinner_groups (id),
+    CONSTRAINT fk_group_members_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE voting_sessions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    locked BIT NOT NULL,
+    created_at DATETIME(6),
+    deadline DATETIME(6),
+    group_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_voting_sessions_group FOREIGN KEY (group_id) REFERENCES dinner_groups (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE options (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    link VARCHAR(255) NOT NULL,
+    image_url VARCHAR(255),
+    cuisine VARCHAR(255),
+    price_range VARCHAR(255),
+    votes INTEGER NOT NULL,
+    created_at DATETIME(6),
+    voting_session_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_options_voting_session FOREIGN KEY (voting_session_id) REFERENCES voting_sessions (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE voting_config (
+    id BIGINT NOT NULL,
+    locked BIT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
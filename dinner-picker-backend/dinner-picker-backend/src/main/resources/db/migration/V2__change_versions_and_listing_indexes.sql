@@ -0,0 +1,11 @@
+-- Change counters behind incremental reads and cached lock state, and the indexes behind the
+-- winner query and the keyset listings.
+
+ALTER TABLE voting_sessions ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE voting_config ADD COLUMN version BIGINT DEFAULT 0;
+ALTER TABLE options ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_options_session_change_version ON options (voting_session_id, change_version);
+CREATE INDEX idx_options_votes ON options (votes DESC, id);
+CREATE INDEX idx_groups_created_at ON dinner_groups (created_at, id);
+CREATE INDEX idx_sessions_group_created_at ON voting_sessions (group_id, created_at, id);
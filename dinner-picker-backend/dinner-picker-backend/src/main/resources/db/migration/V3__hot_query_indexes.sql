@@ -0,0 +1,13 @@
+-- Composite indexes for the per-session, per-group and per-user reads (see QueryPlanTest).
+
+-- Options of a session by votes: OptionRepository.findByVotingSessionIdOrderByVotesDesc,
+-- findTalliesBySessionId, findWinnersBySessionId
+CREATE INDEX idx_options_session_votes ON options (voting_session_id, votes DESC, id);
+
+-- Open sessions of a group, newest first: VotingSessionRepository.findActiveSessionsByGroupId
+-- and the active session count in GroupRepository.SUMMARY
+CREATE INDEX idx_sessions_group_locked_created_at ON voting_sessions (group_id, locked, created_at);
+
+-- Groups of a user: GroupRepository.findByMembersId and the member-filtered summaries. The
+-- primary key leads with group_id, so it cannot serve lookups by user.
+CREATE INDEX idx_group_members_user ON group_members (user_id, group_id);
@@ -0,0 +1,10 @@
+-- Duplicate group names are checked with an index probe on the normalized name, and made
+-- race-free per creator by a unique key. Existing groups have no recorded creator.
+
+ALTER TABLE dinner_groups ADD COLUMN normalized_name VARCHAR(255);
+ALTER TABLE dinner_groups ADD COLUMN created_by BIGINT;
+UPDATE dinner_groups SET normalized_name = LOWER(TRIM(name));
+ALTER TABLE dinner_groups MODIFY normalized_name VARCHAR(255) NOT NULL;
+
+ALTER TABLE dinner_groups ADD CONSTRAINT fk_dinner_groups_created_by FOREIGN KEY (created_by) REFERENCES users (id);
+CREATE UNIQUE INDEX uk_groups_name_created_by ON dinner_groups (normalized_name, created_by);
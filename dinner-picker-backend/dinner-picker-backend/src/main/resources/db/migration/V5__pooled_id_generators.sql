@@ -0,0 +1,20 @@
+-- dinner_groups, voting_sessions and options take their ids from blocks reserved in id_generators
+-- (Hibernate's pooled table generator) instead of AUTO_INCREMENT, so their inserts can be sent
+-- as JDBC batches. Each row is seeded one block (the entity's allocationSize) past the current
+-- maximum id, so the first block starts right after the existing rows. AUTO_INCREMENT stays on
+-- the columns, but rows in these tables must be inserted through Hibernate from now on.
+
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'dinner_groups', COALESCE(MAX(id), 0) + 50 FROM dinner_groups;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'voting_sessions', COALESCE(MAX(id), 0) + 50 FROM voting_sessions;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'options', COALESCE(MAX(id), 0) + 500 FROM options;
@@ -0,0 +1,13 @@
+-- Since V5, dinner_groups, voting_sessions and options take their ids from blocks Hibernate
+-- reserves in id_generators. AUTO_INCREMENT would hand an INSERT without an id a value from a
+-- block another instance may already hold, so it is dropped: such an insert now fails instead.
+-- The columns are referenced by foreign keys, which MySQL checks while they are redefined.
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE dinner_groups MODIFY id BIGINT NOT NULL;
+ALTER TABLE voting_sessions MODIFY id BIGINT NOT NULL;
+ALTER TABLE options MODIFY id BIGINT NOT NULL;
+SET FOREIGN_KEY_CHECKS = 1;
+
+-- Options now reserve 5000 ids per block instead of 500 (see Option), so the stored value moves
+-- on by the difference and the next, larger block still starts past every id handed out so far.
+UPDATE id_generators SET next_val = next_val + 4500 WHERE sequence_name = 'options';
@@ -0,0 +1,22 @@
+-- Duplicate group names are checked per creator, the same rule as uk_groups_name_created_by.
+-- V4 left created_by NULL on existing groups, so neither the check nor the key covered them.
+-- Each such group is attributed to its lowest member id, unless that would clash with a group of
+-- the same name the member already owns (or an earlier group given to them here); those, and
+-- groups without members, stay without a creator.
+
+CREATE TABLE group_creator_backfill AS
+SELECT g.id AS group_id, g.normalized_name, g.created_by IS NOT NULL AS has_creator,
+       COALESCE(g.created_by, (SELECT MIN(m.user_id) FROM group_members m WHERE m.group_id = g.id)) AS user_id
+FROM dinner_groups g;
+
+UPDATE dinner_groups
+SET created_by = (SELECT b.user_id FROM group_creator_backfill b WHERE b.group_id = dinner_groups.id)
+WHERE id IN (
+    SELECT b.group_id FROM group_creator_backfill b
+    WHERE b.has_creator = FALSE AND b.user_id IS NOT NULL
+      AND NOT EXISTS (
+          SELECT 1 FROM group_creator_backfill o
+          WHERE o.normalized_name = b.normalized_name AND o.user_id = b.user_id
+            AND (o.has_creator = TRUE OR o.group_id < b.group_id)));
+
+DROP TABLE group_creator_backfill;
@@ -0,0 +1,78 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.entity.VotingConfig;
+import com.example.dinner_picker_backend.repository.VotingConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class GlobalLockCacheTest {
+
+    private VotingConfigRepository votingConfigRepository;
+    private GlobalLockCache cache;
+
+    @BeforeEach
+    void setUp() {
+        votingConfigRepository = mock(VotingConfigRepository.class);
+        cache = new GlobalLockCache(votingConfigRepository);
+    }
+
+    @Test
+    @DisplayName("Reads inside the refresh window never touch the database")
+    public void testReadsAvoidedWithinWindow() {
+        ReflectionTestUtils.setField(cache, "refreshMs", 60_000L);
+        when(votingConfigRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+        when(votingConfigRepository.findById(1L)).thenReturn(Optional.of(new VotingConfig(true)));
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(cache.isLocked());
+        }
+
+        verify(votingConfigRepository, times(1)).findVersionById(1L);
+        verify(votingConfigRepository, times(1)).findById(1L);
+        assertEquals(999, cache.getReadsAvoided());
+        assertEquals(2, cache.getDatabaseReads());
+    }
+
+    @Test
+    @DisplayName("Another instance's change is picked up once the version moves")
+    public void testConvergesOnVersionChange() {
+        ReflectionTestUtils.setField(cache, "refreshMs", 0L);
+        when(votingConfigRepository.findVersionById(1L)).thenReturn(Optional.of(1L), Optional.of(1L), Optional.of(2L));
+        when(votingConfigRepository.findById(1L))
+                .thenReturn(Optional.of(new VotingConfig(false)), Optional.of(new VotingConfig(true)));
+
+        assertFalse(cache.isLocked());
+        assertFalse(cache.isLocked());
+        assertTrue(cache.isLocked());
+
+        // The full row is only read when the version changed
+        verify(votingConfigRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Local lock changes apply immediately")
+    public void testUpdateAppliesImmediately() {
+        ReflectionTestUtils.setField(cache, "refreshMs", 60_000L);
+
+        cache.update(true, 5L);
+
+        assertTrue(cache.isLocked());
+        verifyNoInteractions(votingConfigRepository);
+    }
+
+    @Test
+    @DisplayName("A missing config row means voting is unlocked")
+    public void testMissingRow() {
+        when(votingConfigRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertFalse(cache.isLocked());
+        verify(votingConfigRepository, never()).findById(1L);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupListResponseCacheTest {
+
+    private GroupListResponseCache cache;
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new GroupListResponseCache(new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("A body is serialized once per version")
+    public void testReusedWithinVersion() throws Exception {
+        GroupListResponseCache.CachedBody first = cache.get("v1", () -> body("Pizza"));
+        for (int i = 0; i < 100; i++) {
+            assertSame(first, cache.get("v1", () -> body("Pizza")));
+        }
+
+        assertEquals(1, serializations.get());
+        assertEquals(1, cache.getBuilds());
+        assertEquals(100, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("A new version or an expired body is serialized again")
+    public void testRebuiltOnNewVersionOrExpiry() throws Exception {
+        cache.get("v1", () -> body("Pizza"));
+        GroupListResponseCache.CachedBody second = cache.get("v2", () -> body("Sushi"));
+        assertEquals("{\"name\":\"Sushi\"}", new String(second.getJson()));
+
+        ReflectionTestUtils.setField(cache, "ttlMs", 0L);
+        cache.get("v3", () -> body("Tacos"));
+        cache.get("v3", () -> body("Tacos"));
+
+        assertEquals(4, serializations.get());
+    }
+
+    @Test
+    @DisplayName("The gzip variant decompresses to the JSON body")
+    public void testGzipMatchesJson() throws Exception {
+        GroupListResponseCache.CachedBody cached = cache.get("v1", () -> body("Pizza"));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.getGzip()))) {
+            assertArrayEquals(cached.getJson(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Tags follow the body, not the rebuild")
+    public void testEtagFollowsBody() throws Exception {
+        GroupListResponseCache.CachedBody first = cache.get("v1", () -> body("Pizza"));
+        GroupListResponseCache.CachedBody same = cache.get("v2", () -> body("Pizza"));
+        GroupListResponseCache.CachedBody changed = cache.get("v3", () -> body("Sushi"));
+
+        assertEquals(first.getEtag(), same.getEtag());
+        assertNotEquals(first.getEtag(), changed.getEtag());
+        assertNotEquals(first.getEtag(), first.getGzipEtag());
+    }
+
+    private Object body(String name) {
+        serializations.incrementAndGet();
+        return Map.of("name", name);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.dinner_picker_backend.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("Put, get, overwrite and remove")
+    public void testBasicOperations() {
+        LongIntHashMap map = new LongIntHashMap();
+
+        map.put(1L, 10);
+        map.put(2L, 20);
+        map.put(1L, 11);
+
+        assertEquals(2, map.size());
+        assertEquals(11, map.get(1L, -1));
+        assertEquals(20, map.get(2L, -1));
+        assertEquals(-1, map.get(3L, -1));
+
+        assertTrue(map.remove(1L));
+        assertFalse(map.remove(1L));
+        assertFalse(map.containsKey(1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Key 0 is reserved")
+    public void testZeroKeyRejected() {
+        LongIntHashMap map = new LongIntHashMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1));
+        assertFalse(map.containsKey(0L));
+    }
+
+    @Test
+    @DisplayName("Matches HashMap under random puts and removes across resizes")
+    public void testMatchesHashMap() {
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                int value = random.nextInt(1000);
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 20_000; key++) {
+            Integer value = expected.get(key);
+            assertEquals(value != null ? value : -1, map.get(key, -1));
+        }
+    }
+}
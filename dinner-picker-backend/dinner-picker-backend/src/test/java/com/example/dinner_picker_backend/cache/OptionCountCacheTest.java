@@ -0,0 +1,46 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class OptionCountCacheTest {
+
+    private OptionRepository optionRepository;
+    private OptionCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        optionRepository = mock(OptionRepository.class);
+        cache = new OptionCountCache(optionRepository);
+    }
+
+    @Test
+    @DisplayName("The count is reused within its window")
+    public void testCountReusedWithinWindow() {
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        when(optionRepository.count()).thenReturn(3_000_000L);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(3_000_000L, cache.getCount());
+        }
+
+        verify(optionRepository, times(1)).count();
+        assertEquals(1, cache.getDatabaseReads());
+    }
+
+    @Test
+    @DisplayName("The count is refreshed once the window has passed")
+    public void testCountRefreshedAfterWindow() {
+        ReflectionTestUtils.setField(cache, "ttlMs", 0L);
+        when(optionRepository.count()).thenReturn(5L, 6L);
+
+        assertEquals(5L, cache.getCount());
+        assertEquals(6L, cache.getCount());
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionLeaderboardTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionLeaderboardTest.class);
+
+    @Test
+    @DisplayName("Options are ranked by votes, ties going to the lower option id")
+    public void testRankingAndTieBreak() {
+        SessionLeaderboard leaderboard = new SessionLeaderboard();
+        leaderboard.update(12L, 3);
+        leaderboard.update(10L, 3);
+        leaderboard.update(11L, 5);
+        leaderboard.update(13L, 0);
+
+        assertEquals(List.of(11L, 10L, 12L), ids(leaderboard.top(3)));
+        assertEquals(4, leaderboard.top(10).size());
+    }
+
+    @Test
+    @DisplayName("Updates move an option instead of duplicating it")
+    public void testUpdateMovesOption() {
+        SessionLeaderboard leaderboard = new SessionLeaderboard();
+        leaderboard.update(10L, 1);
+        leaderboard.update(11L, 2);
+
+        leaderboard.update(10L, 4);
+        leaderboard.update(10L, 4);
+
+        List<OptionTally> top = leaderboard.top(5);
+        assertEquals(List.of(10L, 11L), ids(top));
+        assertEquals(4, top.get(0).getVotes());
+        assertEquals(2, leaderboard.size());
+    }
+
+    @Test
+    @DisplayName("Seeding never overwrites a vote recorded since the snapshot")
+    public void testUpdateIfAbsent() {
+        SessionLeaderboard leaderboard = new SessionLeaderboard();
+        leaderboard.update(10L, 7);
+
+        leaderboard.updateIfAbsent(10L, 6);
+        leaderboard.updateIfAbsent(11L, 2);
+
+        assertEquals(7, leaderboard.top(1).get(0).getVotes());
+        assertEquals(2, leaderboard.size());
+    }
+
+    @Test
+    @DisplayName("Leaderboards load once, follow votes and rebuild after eviction")
+    public void testLoadAndEvict() {
+        SessionLeaderboards leaderboards = new SessionLeaderboards();
+        AtomicInteger loads = new AtomicInteger();
+        List<OptionTally> snapshot = List.of(new OptionTally(10L, 1), new OptionTally(11L, 2));
+
+        leaderboards.recordVote(1L, 10L, 9);
+        assertEquals(List.of(11L, 10L), ids(leaderboards.top(1L, 2, () -> count(loads, snapshot))));
+
+        leaderboards.recordVote(1L, 10L, 3);
+        assertEquals(List.of(10L), ids(leaderboards.top(1L, 1, () -> count(loads, snapshot))));
+        assertEquals(1, loads.get());
+
+        leaderboards.evictSession(1L);
+        assertEquals(List.of(11L), ids(leaderboards.top(1L, 1, () -> count(loads, snapshot))));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("A vote committed late never overwrites a newer one")
+    public void testOutOfOrderCommits() {
+        SessionLeaderboard leaderboard = new SessionLeaderboard();
+        leaderboard.update(10L, 6, 2);
+        leaderboard.update(10L, 5, 1);
+
+        assertEquals(6, leaderboard.top(1).get(0).getVotes());
+    }
+
+    @Test
+    @DisplayName("Leaderboards are published only once seeded, with votes committed during the build replayed")
+    public void testVotesDuringLoadAreReplayed() {
+        SessionLeaderboards leaderboards = new SessionLeaderboards();
+        List<OptionTally> snapshot = List.of(new OptionTally(10L, 1), new OptionTally(11L, 2));
+
+        List<OptionTally> top = leaderboards.top(1L, 2, () -> {
+            // Not visible until the build is complete
+            assertEquals(0, leaderboards.size());
+            leaderboards.recordVote(1L, 10L, 4, leaderboards.nextSequence());
+            return snapshot;
+        });
+
+        assertEquals(List.of(10L, 11L), ids(top));
+        assertEquals(1, leaderboards.size());
+    }
+
+    @Test
+    @DisplayName("A build racing an eviction is served once but not published")
+    public void testEvictDuringLoad() {
+        SessionLeaderboards leaderboards = new SessionLeaderboards();
+        AtomicInteger loads = new AtomicInteger();
+        List<OptionTally> snapshot = List.of(new OptionTally(10L, 1));
+
+        leaderboards.top(1L, 1, () -> {
+            leaderboards.evictSession(1L);
+            return count(loads, snapshot);
+        });
+        assertEquals(0, leaderboards.size());
+
+        leaderboards.top(1L, 1, () -> count(loads, snapshot));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Leaderboards are rebuilt once older than the TTL")
+    public void testTtl() {
+        SessionLeaderboards leaderboards = new SessionLeaderboards();
+        AtomicInteger loads = new AtomicInteger();
+        List<OptionTally> snapshot = List.of(new OptionTally(10L, 1));
+
+        leaderboards.top(1L, 1, () -> count(loads, snapshot));
+        leaderboards.top(1L, 1, () -> count(loads, snapshot));
+        assertEquals(1, loads.get());
+
+        ReflectionTestUtils.setField(leaderboards, "ttlSeconds", 0L);
+        leaderboards.top(1L, 1, () -> count(loads, snapshot));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Least recently read sessions are dropped past capacity")
+    public void testCapacityEviction() {
+        SessionLeaderboards leaderboards = new SessionLeaderboards();
+        ReflectionTestUtils.setField(leaderboards, "maxSessions", 10);
+
+        for (long sessionId = 1; sessionId <= 11; sessionId++) {
+            leaderboards.top(sessionId, 1, List::of);
+        }
+
+        assertEquals(9, leaderboards.size());
+    }
+
+    // Run with: mvn test -Pbenchmark
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Top-k reads and votes against sorting the whole session")
+    public void reportLeaderboardVersusSort() {
+        final int options = 5_000;
+        final int rounds = 20_000;
+        Random random = new Random(42);
+
+        SessionLeaderboard leaderboard = new SessionLeaderboard();
+        int[] votes = new int[options];
+        for (int i = 0; i < options; i++) {
+            votes[i] = random.nextInt(50);
+            leaderboard.update(i + 1, votes[i]);
+        }
+
+        long sink = 0;
+        for (int warmup = 0; warmup < 3; warmup++) {
+            sink += run(leaderboard, votes, random, rounds, 1, false);
+            sink += run(leaderboard, votes, random, rounds / 10, 1, true);
+        }
+
+        for (int k : new int[] {1, 10}) {
+            long leaderboardNanos = time(() -> run(leaderboard, votes, random, rounds, k, false));
+            long sortNanos = time(() -> run(leaderboard, votes, random, rounds / 10, k, true)) * 10;
+            logger.info(String.format("%d options, top %d after each vote: leaderboard %.2f us/op, sort everything %.2f us/op",
+                    options, k, leaderboardNanos / 1000.0 / rounds, sortNanos / 1000.0 / rounds));
+        }
+
+        assertEquals(options, leaderboard.size());
+        assertTrue(sink != 0);
+    }
+
+    // One vote then one top-k read per round, either from the leaderboard or by sorting a copy
+    private static long run(SessionLeaderboard leaderboard, int[] votes, Random random, int rounds, int k, boolean sort) {
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            int option = random.nextInt(votes.length);
+            votes[option]++;
+            leaderboard.update(option + 1, votes[option]);
+
+            List<OptionTally> top;
+            if (sort) {
+                List<OptionTally> all = new ArrayList<>(votes.length);
+                for (int i = 0; i < votes.length; i++) {
+                    all.add(new OptionTally((long) i + 1, votes[i]));
+                }
+                all.sort(Comparator.comparing(OptionTally::getVotes).reversed().thenComparing(OptionTally::getId));
+                top = all.subList(0, k);
+            } else {
+                top = leaderboard.top(k);
+            }
+            sink += top.get(0).getId();
+        }
+        return sink;
+    }
+
+    private static long time(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    private static List<OptionTally> count(AtomicInteger loads, List<OptionTally> snapshot) {
+        loads.incrementAndGet();
+        return snapshot;
+    }
+
+    private static List<Long> ids(List<OptionTally> tallies) {
+        return tallies.stream().map(OptionTally::getId).toList();
+    }
+}
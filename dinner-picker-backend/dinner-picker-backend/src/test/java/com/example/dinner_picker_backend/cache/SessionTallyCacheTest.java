@@ -0,0 +1,203 @@
+package com.example.dinner_picker_backend.cache;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionTallyCacheTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionTallyCacheTest.class);
+
+    private SessionTallyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SessionTallyCache();
+    }
+
+    @Test
+    @DisplayName("Loaded sessions are served from memory, ordered by votes")
+    public void testLoadAndRead() {
+        assertNull(cache.getSessionTallies(1L));
+
+        load(1L, List.of(new OptionTally(10L, 1), new OptionTally(11L, 4)));
+
+        List<OptionTally> tallies = cache.getSessionTallies(1L);
+        assertEquals(2, tallies.size());
+        assertEquals(11L, tallies.get(0).getId());
+        assertEquals(4, tallies.get(0).getVotes());
+    }
+
+    @Test
+    @DisplayName("Votes keep cached tallies coherent and ignore uncached options")
+    public void testRecordVote() {
+        load(1L, List.of(new OptionTally(10L, 1), new OptionTally(11L, 4)));
+
+        cache.recordVote(10L, 7, 1);
+        cache.recordVote(99L, 3, 2);
+
+        assertEquals(10L, cache.getSessionTallies(1L).get(0).getId());
+        assertEquals(7, cache.getSessionTallies(1L).get(0).getVotes());
+        assertEquals(2, cache.cachedOptionCount());
+    }
+
+    @Test
+    @DisplayName("Votes that land during a load are replayed over the snapshot")
+    public void testVoteDuringLoad() {
+        long ticket = cache.beginLoad();
+        cache.recordVote(10L, 5, 1);
+
+        List<OptionTally> result = cache.completeLoad(1L, List.of(new OptionTally(10L, 4)), ticket);
+
+        assertEquals(5, result.get(0).getVotes());
+        assertEquals(5, cache.getSessionTallies(1L).get(0).getVotes());
+    }
+
+    @Test
+    @DisplayName("A write is only visible once it commits")
+    public void testWriteVisibleAfterCommit() {
+        load(1L, List.of(new OptionTally(10L, 1)));
+
+        cache.beginWrite(10L);
+        assertEquals(1, cache.getSessionTallies(1L).get(0).getVotes());
+
+        cache.commitWrite(10L, 2, 1);
+        assertEquals(2, cache.getSessionTallies(1L).get(0).getVotes());
+    }
+
+    @Test
+    @DisplayName("A rolled-back write leaves the cached tally untouched")
+    public void testAbortedWrite() {
+        load(1L, List.of(new OptionTally(10L, 1)));
+
+        cache.beginWrite(10L);
+        cache.abortWrite(10L);
+
+        assertEquals(1, cache.getSessionTallies(1L).get(0).getVotes());
+    }
+
+    @Test
+    @DisplayName("Commits published out of order keep the newest tally")
+    public void testOutOfOrderCommits() {
+        load(1L, List.of(new OptionTally(10L, 1)));
+
+        cache.beginWrite(10L);
+        cache.beginWrite(10L);
+        cache.commitWrite(10L, 3, 2);
+        cache.commitWrite(10L, 2, 1);
+
+        assertEquals(3, cache.getSessionTallies(1L).get(0).getVotes());
+    }
+
+    @Test
+    @DisplayName("A load racing with an uncommitted write is returned but not cached")
+    public void testLoadDuringWrite() {
+        cache.beginWrite(10L);
+        long ticket = cache.beginLoad();
+
+        List<OptionTally> result = cache.completeLoad(1L, List.of(new OptionTally(10L, 4)), ticket);
+
+        assertEquals(4, result.get(0).getVotes());
+        assertNull(cache.getSessionTallies(1L));
+
+        cache.commitWrite(10L, 5, 1);
+        load(1L, List.of(new OptionTally(10L, 5)));
+        assertEquals(5, cache.getSessionTallies(1L).get(0).getVotes());
+    }
+
+    @Test
+    @DisplayName("A session evicted during its load is not cached with stale data")
+    public void testEvictDuringLoad() {
+        long ticket = cache.beginLoad();
+        cache.evictSession(1L);
+
+        cache.completeLoad(1L, List.of(new OptionTally(10L, 4)), ticket);
+
+        assertNull(cache.getSessionTallies(1L));
+    }
+
+    @Test
+    @DisplayName("Evicting an option forces its session to reload")
+    public void testEvictOption() {
+        load(1L, List.of(new OptionTally(10L, 1), new OptionTally(11L, 4)));
+
+        cache.evictOption(11L);
+
+        assertNull(cache.getSessionTallies(1L));
+        assertEquals(0, cache.cachedOptionCount());
+    }
+
+    @Test
+    @DisplayName("Least recently used sessions are evicted past capacity")
+    public void testCapacityEviction() {
+        ReflectionTestUtils.setField(cache, "maxSessions", 2);
+
+        load(1L, List.of(new OptionTally(10L, 1)));
+        load(2L, List.of(new OptionTally(20L, 1)));
+        cache.getSessionTallies(1L);
+        load(3L, List.of(new OptionTally(30L, 1)));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.getSessionTallies(1L));
+        assertNull(cache.getSessionTallies(2L));
+        assertEquals(2, cache.cachedOptionCount());
+    }
+
+    @Test
+    @DisplayName("Idle sessions are evicted")
+    public void testIdleEviction() {
+        ReflectionTestUtils.setField(cache, "idleTtlMinutes", -1L);
+
+        load(1L, List.of(new OptionTally(10L, 1)));
+
+        assertNull(cache.getSessionTallies(1L));
+        assertEquals(0, cache.cachedOptionCount());
+    }
+
+    // Run with: mvn test -Pbenchmark
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Heap footprint of 1M cached sessions")
+    public void reportHeapFootprint() {
+        final int sessions = 1_000_000;
+        final int optionsPerSession = 5;
+        ReflectionTestUtils.setField(cache, "maxSessions", sessions);
+
+        long before = usedHeap();
+        long optionId = 1;
+        for (long sessionId = 1; sessionId <= sessions; sessionId++) {
+            List<OptionTally> loaded = new ArrayList<>(optionsPerSession);
+            for (int i = 0; i < optionsPerSession; i++) {
+                loaded.add(new OptionTally(optionId++, i));
+            }
+            load(sessionId, loaded);
+        }
+        long after = usedHeap();
+
+        assertEquals(sessions, cache.size());
+        logger.info(String.format("Tally cache: %d sessions x %d options = %d MB (%d bytes/session)",
+                sessions, optionsPerSession, (after - before) / (1024 * 1024), (after - before) / sessions));
+    }
+
+    private void load(long sessionId, List<OptionTally> tallies) {
+        cache.completeLoad(sessionId, tallies, cache.beginLoad());
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.dinner_picker_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbPermitLimiterTest {
+
+    private DbPermitLimiter limiter;
+    private DataSource dataSource;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1");
+        // Two permits, one waiter, 200 ms of waiting
+        limiter = new DbPermitLimiter(true, 2, 0, 1, 200);
+        dataSource = (DataSource) limiter.postProcessAfterInitialization(h2, "dataSource");
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A waiter gets the permit a closed connection gives back")
+    public void testWaiterIsServedOnClose() throws Exception {
+        Connection first = dataSource.getConnection();
+        Connection second = openElsewhere();
+        assertEquals(0, limiter.getAvailablePermits());
+
+        Future<Boolean> waiter = executor.submit(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return connection.isValid(1);
+            }
+        });
+        Thread.sleep(50);
+        assertEquals(1, limiter.getQueued());
+
+        first.close();
+        assertTrue(waiter.get(1, TimeUnit.SECONDS));
+        second.close();
+        assertEquals(2, limiter.getAvailablePermits());
+        assertEquals(0, limiter.getShed());
+    }
+
+    @Test
+    @DisplayName("Work is shed when the queue is full or the wait times out")
+    public void testShedding() throws Exception {
+        Connection first = openElsewhere();
+        Connection second = openElsewhere();
+
+        CountDownLatch waiting = new CountDownLatch(1);
+        Future<?> timedOut = executor.submit(() -> {
+            waiting.countDown();
+            return dataSource.getConnection();
+        });
+        waiting.await();
+        Thread.sleep(50);
+
+        // The one queue slot is taken, so this is turned away without waiting
+        long start = System.nanoTime();
+        SQLException full = assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(150));
+        assertTrue(full.getMessage().contains("Too many requests"));
+
+        Exception expired = assertThrows(Exception.class, () -> timedOut.get(1, TimeUnit.SECONDS));
+        assertTrue(expired.getCause().getMessage().contains("busy"));
+        assertEquals(2, limiter.getShed());
+
+        first.close();
+        second.close();
+        // Closing twice gives nothing back twice
+        first.close();
+        assertEquals(2, limiter.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("A thread holding a permit opens further connections without queueing")
+    public void testNestedConnectionsShareThePermit() throws Exception {
+        try (Connection outer = dataSource.getConnection()) {
+            Connection other = openElsewhere();
+            try (Connection inner = dataSource.getConnection()) {
+                assertTrue(inner.isValid(1));
+                assertEquals(0, limiter.getAvailablePermits());
+            }
+            other.close();
+            assertEquals(1, limiter.getAvailablePermits());
+        }
+        assertEquals(2, limiter.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Shed work is recognised through Spring's exception wrapping")
+    public void testRethrowIfShed() {
+        Exception shedWork = new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                new RuntimeException(new DbPermitLimiter.PermitUnavailableException("The database is busy, try again shortly")));
+        assertThrows(DatabaseBusyException.class, () -> DbPermitLimiter.rethrowIfShed(shedWork));
+
+        assertDoesNotThrow(() -> DbPermitLimiter.rethrowIfShed(new RuntimeException("Voting session not found")));
+    }
+
+    @Test
+    @DisplayName("By default the pool keeps spare connections for permit holders opening a second one")
+    public void testDefaultPermitsLeaveReservedConnections() {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setMaximumPoolSize(10);
+        DbPermitLimiter byPoolSize = new DbPermitLimiter(true, 0, 2, 1, 200);
+        byPoolSize.postProcessAfterInitialization(pool, "dataSource");
+        assertEquals(8, byPoolSize.getPermits());
+
+        // Never fewer than one, however small the pool
+        HikariDataSource small = new HikariDataSource();
+        small.setMaximumPoolSize(2);
+        DbPermitLimiter bySmallPool = new DbPermitLimiter(true, 0, 2, 1, 200);
+        bySmallPool.postProcessAfterInitialization(small, "dataSource");
+        assertEquals(1, bySmallPool.getPermits());
+    }
+
+    // On a fresh thread, so it takes a permit of its own; closed later from the test thread
+    private Connection openElsewhere() throws Exception {
+        FutureTask<Connection> open = new FutureTask<>(() -> dataSource.getConnection());
+        new Thread(open).start();
+        return open.get(1, TimeUnit.SECONDS);
+    }
+}
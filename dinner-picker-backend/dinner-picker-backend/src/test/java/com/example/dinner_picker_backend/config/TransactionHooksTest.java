@@ -0,0 +1,66 @@
+package com.example.dinner_picker_backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionHooksTest {
+
+    private final List<String> ran = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Without a transaction the action runs at once")
+    public void testRunsWithoutTransaction() {
+        TransactionHooks.afterCommit(() -> ran.add("commit"));
+        TransactionHooks.afterCompletion(() -> ran.add("done"), () -> ran.add("rollback"));
+
+        assertEquals(List.of("commit", "done"), ran);
+    }
+
+    @Test
+    @DisplayName("Actions wait for the commit")
+    public void testRunsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionHooks.afterCommit(() -> ran.add("commit"));
+        TransactionHooks.afterCompletion(() -> ran.add("done"));
+        assertTrue(ran.isEmpty());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(List.of("commit", "done"), ran);
+    }
+
+    @Test
+    @DisplayName("A rollback skips commit actions and runs the rollback ones")
+    public void testRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionHooks.afterCommit(() -> ran.add("commit"));
+        TransactionHooks.afterCompletion(() -> ran.add("done"));
+        TransactionHooks.afterCompletion(() -> ran.add("committed"), () -> ran.add("rolled back"));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(List.of("done", "rolled back"), ran);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Cost of polling an unchanged resource with and without If-None-Match.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@Tag("benchmark")
+public class ConditionalGetBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConditionalGetBenchmarkTest.class);
+
+    private static final int GROUPS = 20;
+    private static final int SESSIONS_PER_GROUP = 3;
+    private static final int OPTIONS_PER_SESSION = 10;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Group> groups = new ArrayList<>();
+    private VotingSession firstSession;
+
+    @BeforeEach
+    void setUp() {
+        for (int g = 0; g < GROUPS; g++) {
+            Group group = groupRepository.save(new Group("Bench Group " + g, "Benchmark group", "🍜", "#667eea"));
+            groups.add(group);
+            for (int s = 0; s < SESSIONS_PER_GROUP; s++) {
+                VotingSession session = votingSessionRepository.save(new VotingSession("Session " + s, null, group));
+                if (firstSession == null) {
+                    firstSession = session;
+                }
+                for (int o = 0; o < OPTIONS_PER_SESSION; o++) {
+                    optionRepository.save(new Option("Option " + o, "https://example.com/" + o, session));
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        groups.forEach(group -> groupRepository.deleteById(group.getId()));
+    }
+
+    @Test
+    @DisplayName("Request cost of unchanged resources, 200 vs 304")
+    public void reportConditionalGetCost() throws Exception {
+        for (String url : new String[] {
+                "/api/groups",
+                "/api/groups/" + groups.get(0).getId(),
+                "/api/sessions/" + firstSession.getId(),
+                "/api/sessions/" + firstSession.getId() + "/options"}) {
+            MockHttpServletResponse first = mockMvc.perform(get(url)).andReturn().getResponse();
+            String etag = first.getHeader(HttpHeaders.ETAG);
+            assertNotNull(etag);
+
+            Result full = measure(get(url), 200);
+            Result conditional = measure(get(url).header(HttpHeaders.IF_NONE_MATCH, etag), 304);
+
+            logger.info(String.format("%-28s 200: %7.1f us, %4.1f statements, %6d bytes | 304: %5.1f us, %.1f statements",
+                    url, full.micros, full.statements, first.getContentAsByteArray().length,
+                    conditional.micros, conditional.statements));
+            assertEquals(0.0, conditional.statements);
+        }
+    }
+
+    private Result measure(MockHttpServletRequestBuilder request, int expectedStatus) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            assertEquals(expectedStatus, mockMvc.perform(request).andReturn().getResponse().getStatus());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mockMvc.perform(request);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(elapsed / 1000.0 / ITERATIONS, (double) statistics.getPrepareStatementCount() / ITERATIONS);
+    }
+
+    private record Result(double micros, double statements) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.cache.GroupListResponseCache;
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import com.example.dinner_picker_backend.service.DinnerPickerService;
+import com.example.dinner_picker_backend.service.GroupService;
+import com.example.dinner_picker_backend.service.VotingSessionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private VotingSessionService votingSessionService;
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private GroupListResponseCache groupListCache;
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    private Statistics statistics;
+    private Group group;
+    private VotingSession session;
+    private Option option;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        group = groupRepository.save(new Group("Etag Eaters", "Conditional GET test group", "🏷️", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Tag Night", null, group));
+        option = optionRepository.save(new Option("Bao House", "https://baohouse.com", session));
+    }
+
+    @AfterEach
+    void tearDown() {
+        optionRepository.deleteAll(optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()));
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("An unchanged group is answered with 304 without any SQL, a session with one query")
+    public void testNotModifiedSkipsDatabase() throws Exception {
+        // The list is checked against its cached body, which the test properties expire at once
+        ReflectionTestUtils.setField(groupListCache, "ttlMs", 60_000L);
+        try {
+            assertNotModified("/api/groups", 0);
+        } finally {
+            ReflectionTestUtils.setField(groupListCache, "ttlMs", 0L);
+        }
+        assertNotModified("/api/groups/" + group.getId(), 0);
+        // Session tags follow the persisted version, so they cost a single-row read
+        assertNotModified("/api/sessions/" + session.getId(), 1);
+        assertNotModified("/api/sessions/" + session.getId() + "/options", 1);
+    }
+
+    @Test
+    @DisplayName("Every instance hands out the same session tag for the same version")
+    public void testSessionEtagsComeFromTheDatabase() throws Exception {
+        String etag = fetchEtag("/api/sessions/" + session.getId() + "/options");
+        long version = votingSessionRepository.findVersionById(session.getId()).orElseThrow();
+
+        // A fresh ResourceVersions stands in for another instance that saw none of our writes
+        assertEquals(new ResourceVersions().sessionEtag(session.getId(), version), etag);
+    }
+
+    @Test
+    @DisplayName("Group tags roll over once their window ends")
+    public void testGroupEtagsExpire() throws Exception {
+        ResourceVersions versions = new ResourceVersions();
+        ReflectionTestUtils.setField(versions, "groupTtlSeconds", 1L);
+
+        String etag = versions.groupEtag(group.getId());
+        Thread.sleep(1100);
+
+        assertNotEquals(etag, versions.groupEtag(group.getId()));
+    }
+
+    @Test
+    @DisplayName("The gzipped and plain groups list carry different tags")
+    public void testGroupListEtagPerEncoding() throws Exception {
+        String plain = fetchEtag("/api/groups");
+        String gzipped = mockMvc.perform(get("/api/groups").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(plain, gzipped);
+        // A tag only matches the encoding it was issued for
+        assertModified("/api/groups", gzipped);
+    }
+
+    @Test
+    @DisplayName("An invalid session id is rejected before any tag is computed")
+    public void testInvalidSessionId() throws Exception {
+        mockMvc.perform(get("/api/sessions/0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Votes change the session, its options and its group, but not the groups list")
+    public void testVoteChangesEtags() throws Exception {
+        String groupsEtag = fetchEtag("/api/groups");
+        String groupEtag = fetchEtag("/api/groups/" + group.getId());
+        String sessionEtag = fetchEtag("/api/sessions/" + session.getId());
+        String optionsEtag = fetchEtag("/api/sessions/" + session.getId() + "/options");
+        long groupListVersion = resourceVersions.groupListVersion();
+
+        dinnerPickerService.vote(option.getId(), 1);
+
+        mockMvc.perform(get("/api/groups").header(HttpHeaders.IF_NONE_MATCH, groupsEtag))
+                .andExpect(status().isNotModified());
+        assertEquals(groupListVersion, resourceVersions.groupListVersion());
+        assertModified("/api/groups/" + group.getId(), groupEtag);
+        assertModified("/api/sessions/" + session.getId(), sessionEtag);
+        assertModified("/api/sessions/" + session.getId() + "/options", optionsEtag);
+    }
+
+    @Test
+    @DisplayName("Group and session writes change their ETags")
+    public void testWritesChangeEtags() throws Exception {
+        String groupsEtag = fetchEtag("/api/groups");
+        String groupEtag = fetchEtag("/api/groups/" + group.getId());
+        groupService.updateGroup(group.getId(), null, "Renamed description", null, null);
+        assertModified("/api/groups", groupsEtag);
+        assertModified("/api/groups/" + group.getId(), groupEtag);
+
+        String sessionEtag = fetchEtag("/api/sessions/" + session.getId());
+        groupEtag = fetchEtag("/api/groups/" + group.getId());
+        votingSessionService.lockSession(session.getId(), true);
+        assertModified("/api/sessions/" + session.getId(), sessionEtag);
+        assertModified("/api/groups/" + group.getId(), groupEtag);
+    }
+
+    private void assertNotModified(String url, int statements) throws Exception {
+        String etag = fetchEtag(url);
+
+        statistics.clear();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        assertEquals(statements, statistics.getPrepareStatementCount(), url);
+    }
+
+    private String fetchEtag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag, url);
+        return etag;
+    }
+
+    private void assertModified(String url, String staleEtag) throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+                .andExpect(status().isOk());
+    }
+}
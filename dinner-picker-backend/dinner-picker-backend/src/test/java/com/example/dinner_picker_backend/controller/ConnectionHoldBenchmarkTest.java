@@ -0,0 +1,118 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.config.ConnectionHoldMetrics;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Run with: mvn test -Pbenchmark
+// Connection hold time for a large session list, with open-in-view switched back on through
+// its filter versus the application's default (off)
+@SpringBootTest
+@Tag("benchmark")
+public class ConnectionHoldBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionHoldBenchmarkTest.class);
+
+    private static final int SESSIONS = 300;
+    private static final int OPTIONS_PER_SESSION = 10;
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ConnectionHoldMetrics connectionHoldMetrics;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+
+    private Group group;
+    private final List<VotingSession> sessions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Hold Time", "Connection hold benchmark", "⏱️", "#667eea"));
+        for (int s = 0; s < SESSIONS; s++) {
+            VotingSession session = votingSessionRepository.save(new VotingSession("Session " + s, "A session with plenty of options", group));
+            sessions.add(session);
+            List<Option> options = new ArrayList<>();
+            for (int o = 0; o < OPTIONS_PER_SESSION; o++) {
+                options.add(new Option("Option " + o, "https://option" + o + ".example.com", session));
+            }
+            optionRepository.saveAll(options);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (VotingSession session : sessions) {
+            optionRepository.deleteAll(optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()));
+            votingSessionRepository.deleteById(session.getId());
+        }
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("Connection hold time per request with and without open-in-view")
+    public void reportConnectionHoldTime() throws Exception {
+        MockMvc withoutOpenInView = MockMvcBuilders.webAppContextSetup(context).build();
+        MockMvc withOpenInView = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(new OpenEntityManagerInViewFilter() {
+                    @Override
+                    protected EntityManagerFactory lookupEntityManagerFactory(HttpServletRequest request) {
+                        return entityManagerFactory;
+                    }
+                })
+                .build();
+
+        String url = "/api/sessions/group/" + group.getId();
+        run(withOpenInView, url, 20);
+        run(withoutOpenInView, url, 20);
+
+        double on = run(withOpenInView, url, REQUESTS);
+        double off = run(withoutOpenInView, url, REQUESTS);
+
+        logger.info(String.format("GET %s (%d sessions x %d options): connection held %.2f ms/request with open-in-view, %.2f ms/request without",
+                url, SESSIONS, OPTIONS_PER_SESSION, on, off));
+        assertTrue(off <= on);
+    }
+
+    // Average milliseconds of connection hold per request
+    private double run(MockMvc mockMvc, String url, int requests) throws Exception {
+        long heldBefore = connectionHoldMetrics.getTotalHoldMillis();
+        for (int i = 0; i < requests; i++) {
+            mockMvc.perform(get(url)).andExpect(status().isOk());
+        }
+        return (double) (connectionHoldMetrics.getTotalHoldMillis() - heldBefore) / requests;
+    }
+}
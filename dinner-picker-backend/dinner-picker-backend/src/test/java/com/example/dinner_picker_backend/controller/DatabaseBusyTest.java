@@ -0,0 +1,124 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.config.DbPermitLimiter;
+import com.example.dinner_picker_backend.config.ReactivePoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"db.limiter.permits=2", "db.limiter.queue-timeout-ms=100",
+        "spring.r2dbc.pool.initial-size=1", "spring.r2dbc.pool.max-size=1", "spring.r2dbc.pool.max-acquire-time=100ms"})
+@AutoConfigureMockMvc
+public class DatabaseBusyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private DbPermitLimiter dbPermitLimiter;
+    @Autowired
+    private ConnectionFactory connectionFactory;
+    @Autowired
+    private ReactivePoolMetrics reactivePoolMetrics;
+
+    private final List<Connection> held = new ArrayList<>();
+    private final List<io.r2dbc.spi.Connection> heldReactive = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Connection connection : held) {
+            connection.close();
+        }
+        for (io.r2dbc.spi.Connection connection : heldReactive) {
+            Mono.from(connection.close()).block();
+        }
+    }
+
+    @Test
+    @DisplayName("With every permit taken, votes and option reads are shed with 503")
+    public void testShedRequestsGet503() throws Exception {
+        // Each from its own thread, as busy requests would
+        for (int i = 0; i < dbPermitLimiter.getPermits(); i++) {
+            FutureTask<Connection> open = new FutureTask<>(dataSource::getConnection);
+            new Thread(open).start();
+            held.add(open.get(5, TimeUnit.SECONDS));
+        }
+        long shedBefore = dbPermitLimiter.getShed();
+
+        mockMvc.perform(post("/api/options/1/vote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"delta\": 1}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.success").value(false));
+
+        mockMvc.perform(get("/api/sessions/1/options"))
+                .andExpect(status().isServiceUnavailable());
+
+        assertEquals(shedBefore + 2, dbPermitLimiter.getShed());
+    }
+
+    @Test
+    @DisplayName("Shed work answered by a controller's own 500 still goes out as 503")
+    public void testCaughtServerErrorsGet503() throws Exception {
+        for (int i = 0; i < dbPermitLimiter.getPermits(); i++) {
+            FutureTask<Connection> open = new FutureTask<>(dataSource::getConnection);
+            new Thread(open).start();
+            held.add(open.get(5, TimeUnit.SECONDS));
+        }
+
+        mockMvc.perform(get("/api/groups/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.error").value("The database is busy, try again shortly"));
+    }
+
+    @Test
+    @DisplayName("With the R2DBC pool exhausted, reactive reads are shed with 503")
+    public void testShedReactiveReadsGet503() throws Exception {
+        heldReactive.add(Mono.from(connectionFactory.create()).block(Duration.ofSeconds(5)));
+        long shedBefore = reactivePoolMetrics.getShed();
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/sessions/1/options"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.success").value(false));
+
+        // The R2DBC pool sits outside the permit limiter; /api/metrics reports it on its own
+        assertEquals(shedBefore + 1, reactivePoolMetrics.getShed());
+        mockMvc.perform(get("/api/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reactivePool.maxSize").value(1))
+                .andExpect(jsonPath("$.reactivePool.acquired").value(1));
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.dinner_picker_backend.controller;
 
+import com.example.dinner_picker_backend.cache.ResourceVersions;
 import com.example.dinner_picker_backend.service.DinnerPickerService;
+import com.example.dinner_picker_backend.service.OptionImportService;
+import com.example.dinner_picker_backend.service.VoteIngestionService;
+import com.example.dinner_picker_backend.stream.SessionTallyBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.web.servlet.MockMvc;
@@ -10,6 +14,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.dinner_picker_backend.entity.Option;
 import com.example.dinner_picker_backend.dto.AddOptionRequest;
+import com.example.dinner_picker_backend.dto.BatchVoteRequest;
+import com.example.dinner_picker_backend.dto.CursorPage;
+import com.example.dinner_picker_backend.dto.OptionSummary;
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.dto.SessionTallies;
+import com.example.dinner_picker_backend.dto.VoteRequest;
 import java.util.*;
 import org.springframework.http.MediaType;
 
@@ -29,10 +39,23 @@ public class DinnerPickerControllerTest {
     @MockBean
     private DinnerPickerService dinnerPickerService;
 
+    @MockBean
+    private VoteIngestionService voteIngestionService;
+
+    @MockBean
+    private SessionTallyBroadcaster tallyBroadcaster;
+
+    @MockBean
+    private ResourceVersions resourceVersions;
+
+    @MockBean
+    private OptionImportService optionImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private Option testOption;
+    private OptionSummary testOptionSummary;
     private AddOptionRequest addOptionRequest;
 
     @BeforeEach
@@ -45,6 +68,8 @@ public class DinnerPickerControllerTest {
         testOption.setCuisine("Italian");
         testOption.setPriceRange("$$");
 
+        testOptionSummary = new OptionSummary(1L, "Pizza Palace", "https://pizzapalace.com", null, "Italian", "$$", 5, null, null);
+
         addOptionRequest = new AddOptionRequest();
         addOptionRequest.setName("Pizza Palace");
         addOptionRequest.setLink("https://pizzapalace.com");
@@ -55,7 +80,7 @@ public class DinnerPickerControllerTest {
 
     @Test
     void getOptions_ShouldReturnAllOptions_WhenOptionsExist() throws Exception {
-        List<Option> options = Arrays.asList(testOption);
+        List<OptionSummary> options = Arrays.asList(testOptionSummary);
         when(dinnerPickerService.getAllOptions()).thenReturn(options);
 
         // Act & Assert
@@ -71,4 +96,68 @@ public class DinnerPickerControllerTest {
         verify(dinnerPickerService).getAllOptions();
     }
 
+    @Test
+    void castVotes_ShouldReturnTalliesAndVersion_WhenVotesAreValid() throws Exception {
+        BatchVoteRequest request = new BatchVoteRequest(List.of(new VoteRequest(1L, -1), new VoteRequest(2L, 1)));
+        when(dinnerPickerService.castVotes(eq(1L), anyList()))
+                .thenReturn(new SessionTallies(1L, 7L, List.of(new OptionTally(1L, 4), new OptionTally(2L, 3))));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/sessions/1/votes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.version").value(7))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[1].votes").value(3));
+    }
+
+    @Test
+    void castVotes_ShouldReturnBadRequest_WhenVotesAreMissing() throws Exception {
+        mockMvc.perform(post("/api/sessions/1/votes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"votes\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(dinnerPickerService, never()).castVotes(any(), any());
+    }
+
+
+    @Test
+    void getStatus_ShouldReportOnlyVotingState() throws Exception {
+        when(dinnerPickerService.isVotingLocked()).thenReturn(true);
+        when(dinnerPickerService.getTotalOptions()).thenReturn(12L);
+
+        mockMvc.perform(get("/api/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.locked").value(true))
+                .andExpect(jsonPath("$.totalOptions").value(12))
+                .andExpect(jsonPath("$.lockReadsAvoided").doesNotExist())
+                .andExpect(jsonPath("$.reactivePool").doesNotExist());
+
+        verify(dinnerPickerService, never()).getLockReadsAvoided();
+    }
+
+    @Test
+    public void testGetOptionsPage() throws Exception {
+        when(dinnerPickerService.getOptionsPage(null, 1)).thenReturn(new CursorPage<>(List.of(testOptionSummary), "abc"));
+
+        mockMvc.perform(get("/api/options").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor", is("abc")));
+
+        verify(dinnerPickerService, never()).getAllOptions();
+    }
+
+    @Test
+    public void testGetOptionsPageRejectsBadCursor() throws Exception {
+        when(dinnerPickerService.getOptionsPage("bogus", CursorPage.DEFAULT_SIZE)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/options").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Invalid cursor")));
+    }
 }
@@ -0,0 +1,124 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.User;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.UserRepository;
+import com.example.dinner_picker_backend.service.GroupService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class GroupBulkMembersTest {
+
+    private static final String EMAIL_PREFIX = "bulk-members-";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Group group;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 6; i++) {
+            users.add(userRepository.save(new User("Bulk " + i, EMAIL_PREFIX + i + "@example.com", "🧑")));
+        }
+        group = groupService.createGroup("Whole Department", null, null, null, users.get(0).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM group_members WHERE group_id = ?", group.getId());
+        groupRepository.deleteById(group.getId());
+        users.forEach(user -> userRepository.deleteById(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Ids and emails are resolved, existing members and unknown users are reported")
+    public void testImportSummary() throws Exception {
+        Map<String, Object> request = Map.of(
+                "userIds", List.of(users.get(0).getId(), users.get(1).getId(), users.get(1).getId(), Long.MAX_VALUE),
+                "emails", List.of(" " + EMAIL_PREFIX + "2@example.com ", EMAIL_PREFIX + "3@example.com",
+                        EMAIL_PREFIX + "1@example.com", "nobody@example.com"));
+
+        JsonNode data = importMembers(group.getId(), request, 200).get("data");
+
+        assertEquals(3, data.get("added").asInt());
+        assertEquals(1, data.get("alreadyMembers").asInt());
+        assertEquals(List.of(Long.MAX_VALUE), objectMapper.convertValue(data.get("unknownUserIds"), List.class)
+                .stream().map(id -> ((Number) id).longValue()).toList());
+        assertEquals("nobody@example.com", data.get("unknownEmails").get(0).asText());
+        assertEquals(4, groupRepository.findMembersByGroupId(group.getId()).size());
+
+        // Importing the same people again adds nobody
+        data = importMembers(group.getId(), request, 200).get("data");
+        assertEquals(0, data.get("added").asInt());
+        assertEquals(4, data.get("alreadyMembers").asInt());
+    }
+
+    @Test
+    @DisplayName("The statements an import issues do not grow with the number of users")
+    public void testStatementsPerImport() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        importMembers(group.getId(), Map.of("userIds", users.stream().map(User::getId).toList()), 200);
+
+        // Group probe and one id lookup; the membership batch goes through JDBC
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(users.size(), groupRepository.findMembersByGroupId(group.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Missing groups are 404 and empty or malformed imports are 400")
+    public void testRejectedImports() throws Exception {
+        importMembers(Long.MAX_VALUE, Map.of("userIds", List.of(users.get(1).getId())), 404);
+        importMembers(group.getId(), Map.of(), 400);
+        importMembers(group.getId(), Map.of("userIds", List.of(-1)), 400);
+    }
+
+    private JsonNode importMembers(Long groupId, Map<String, Object> request, int expectedStatus) throws Exception {
+        String body = mockMvc.perform(post("/api/groups/{id}/members:bulk", groupId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
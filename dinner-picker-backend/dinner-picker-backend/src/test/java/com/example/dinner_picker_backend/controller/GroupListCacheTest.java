@@ -0,0 +1,98 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.service.GroupService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Writes go through GroupService here, so the list version sees them and the cache can stay on
+@SpringBootTest(properties = "groups.response-cache-ttl-ms=60000")
+@AutoConfigureMockMvc
+public class GroupListCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        group = groupService.createGroup("Cached Cooks", "Response cache test group", "🍱", "#667eea", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (groupService.getGroupById(group.getId()).isPresent()) {
+            groupService.deleteGroup(group.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Repeat list requests are served from memory, gzipped when the client accepts it")
+    public void testServedFromMemory() throws Exception {
+        String plain = mockMvc.perform(get("/api/groups")).andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(plain.contains("Cached Cooks"));
+
+        statistics.clear();
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/api/groups")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")).andReturn().getResponse();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals("gzip", gzipped.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(gzipped.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+        assertEquals(plain, gunzip(gzipped.getContentAsByteArray()));
+
+        MockHttpServletResponse refused = mockMvc.perform(get("/api/groups")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity")).andReturn().getResponse();
+        assertNull(refused.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("Group writes replace the cached list")
+    public void testInvalidatedByWrites() throws Exception {
+        assertTrue(list().contains("Cached Cooks"));
+
+        groupService.updateGroup(group.getId(), "Cached Chefs", null, null, null);
+        assertTrue(list().contains("Cached Chefs"));
+
+        Group other = groupService.createGroup("Fresh Forks", null, null, null, null);
+        assertTrue(list().contains("Fresh Forks"));
+
+        groupService.deleteGroup(other.getId());
+        assertFalse(list().contains("Fresh Forks"));
+    }
+
+    private String list() throws Exception {
+        return mockMvc.perform(get("/api/groups")).andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private static String gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
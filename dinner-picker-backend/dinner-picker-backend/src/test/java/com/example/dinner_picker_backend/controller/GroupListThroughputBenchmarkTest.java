@@ -0,0 +1,138 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.cache.GroupListResponseCache;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Throughput of GET /api/groups from concurrent HTTP clients against the embedded server, with the
+// body rebuilt per request vs served from memory. MockMvc is not used: its response stream copies
+// byte by byte, which would swamp the difference.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "logging.level.com.example.dinner_picker_backend=WARN"})
+@Tag("benchmark")
+public class GroupListThroughputBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupListThroughputBenchmarkTest.class);
+
+    private static final int GROUPS = 100;
+    private static final int SESSIONS_PER_GROUP = 3;
+    private static final int CLIENTS = 8;
+    private static final int REQUESTS_PER_CLIENT = 1000;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private GroupListResponseCache groupListCache;
+
+    private final List<Group> groups = new ArrayList<>();
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @BeforeEach
+    void setUp() {
+        for (int g = 0; g < GROUPS; g++) {
+            Group group = groupRepository.save(new Group("Bench Group " + g, "Throughput benchmark group", "🍜", "#667eea"));
+            groups.add(group);
+            for (int s = 0; s < SESSIONS_PER_GROUP; s++) {
+                votingSessionRepository.save(new VotingSession("Session " + s, null, group));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        groups.forEach(group -> groupRepository.deleteById(group.getId()));
+    }
+
+    @Test
+    @DisplayName("Requests per second for the group list, uncached vs cached")
+    public void reportGroupListThroughput() throws Exception {
+        ReflectionTestUtils.setField(groupListCache, "ttlMs", 0L);
+        double uncached = requestsPerSecond(false);
+        double uncachedGzip = requestsPerSecond(true);
+
+        ReflectionTestUtils.setField(groupListCache, "ttlMs", 60_000L);
+        double cached = requestsPerSecond(false);
+        double cachedGzip = requestsPerSecond(true);
+
+        logger.info(String.format("GET /api/groups, %d groups, %d clients, %d bytes identity / %d bytes gzip",
+                GROUPS, CLIENTS, fetch(false).body().length, fetch(true).body().length));
+        logger.info(String.format("  rebuilt per request: %8.0f req/s identity, %8.0f req/s gzip", uncached, uncachedGzip));
+        logger.info(String.format("  served from memory:  %8.0f req/s identity, %8.0f req/s gzip", cached, cachedGzip));
+        assertTrue(cached > uncached);
+    }
+
+    private double requestsPerSecond(boolean gzip) throws Exception {
+        // Warm up with the same load first
+        runClients(gzip);
+        long start = System.nanoTime();
+        runClients(gzip);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return CLIENTS * REQUESTS_PER_CLIENT / seconds;
+    }
+
+    private void runClients(boolean gzip) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        assertEquals(200, fetch(gzip).statusCode());
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private HttpResponse<byte[]> fetch(boolean gzip) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/groups"));
+        if (gzip) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OptionImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Group group;
+    private VotingSession session;
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Import Crew", "Import test group", "🍜", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Imported Picks", "Import test", group));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM options WHERE voting_session_id = ?", session.getId());
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("CSV quoting, a byte order mark and loose header names are understood")
+    public void testCsvImport() throws Exception {
+        String csv = "\uFEFFName,Link,Image_URL,Price Range,cuisine\r\n"
+                + "\"Pho, Please\",https://pho.example,,$$,Vietnamese\r\n"
+                + "\"The \"\"Best\"\" Bagels\",https://bagels.example,https://bagels.example/b.png,$,\r\n"
+                + "\r\n"
+                + "\"Two\nLines\",https://lines.example,,,\n";
+
+        JsonNode data = importCsv(csv, 200).get("data");
+
+        assertEquals(3, data.get("imported").asInt());
+        assertEquals(0, data.get("rejected").asInt());
+
+        List<Option> options = optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId());
+        Option pho = find(options, "Pho, Please");
+        assertEquals("https://pho.example", pho.getLink());
+        assertNull(pho.getImageUrl());
+        assertEquals("$$", pho.getPriceRange());
+        assertEquals("Vietnamese", pho.getCuisine());
+        assertEquals("https://bagels.example/b.png", find(options, "The \"Best\" Bagels").getImageUrl());
+        assertEquals("https://lines.example", find(options, "Two\nLines").getLink());
+    }
+
+    @Test
+    @DisplayName("Invalid rows are skipped and reported by the line they start on")
+    public void testRowErrors() throws Exception {
+        String csv = "name,link\n"
+                + "Good One,https://good.example\n"
+                + ",https://noname.example\n"
+                + "\"Multi\nLine\",\n"
+                + "Long Link," + "x".repeat(300) + "\n"
+                + "Good Two,https://good2.example\n";
+
+        JsonNode data = importCsv(csv, 200).get("data");
+
+        assertEquals(2, data.get("imported").asInt());
+        assertEquals(3, data.get("rejected").asInt());
+        JsonNode errors = data.get("errors");
+        assertEquals(3, errors.get(0).get("row").asInt());
+        assertEquals("Name is required", errors.get(0).get("message").asText());
+        assertEquals(4, errors.get(1).get("row").asInt());
+        assertEquals("Link is required", errors.get(1).get("message").asText());
+        assertEquals(6, errors.get(2).get("row").asInt());
+        assertEquals("Link must be at most 255 characters", errors.get(2).get("message").asText());
+        assertEquals(2, optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()).size());
+    }
+
+    @Test
+    @DisplayName("NDJSON rows are imported and malformed lines rejected")
+    public void testNdjsonImport() throws Exception {
+        String ndjson = "{\"name\":\"Taco Town\",\"link\":\"https://tacos.example\",\"cuisine\":\"Mexican\"}\n"
+                + "{\"name\":\"Broken\",\n"
+                + "\n"
+                + "{\"name\":\"Sushi Spot\",\"link\":\"https://sushi.example\",\"priceRange\":\"$$$\"}\n";
+
+        JsonNode data = perform(post("/api/sessions/" + session.getId() + "/options:import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson), 200).get("data");
+
+        assertEquals(2, data.get("imported").asInt());
+        assertEquals(1, data.get("rejected").asInt());
+        assertEquals(2, data.get("errors").get(0).get("row").asInt());
+        assertTrue(data.get("errors").get(0).get("message").asText().startsWith("Malformed JSON"));
+        assertEquals("$$$", find(optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()), "Sushi Spot").getPriceRange());
+    }
+
+    @Test
+    @DisplayName("Bodies larger than one batch are imported completely")
+    public void testImportAcrossBatches() throws Exception {
+        int rows = 1203;
+        StringBuilder csv = new StringBuilder("name,link\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("Place ").append(i).append(",https://place").append(i).append(".example\n");
+        }
+
+        JsonNode data = importCsv(csv.toString(), 200).get("data");
+
+        assertEquals(rows, data.get("imported").asInt());
+        assertEquals(rows, optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()).size());
+    }
+
+    @Test
+    @DisplayName("A locked session or a CSV without name and link columns is rejected up front")
+    public void testRejectedImports() throws Exception {
+        JsonNode response = importCsv("title,url\nA,https://a.example\n", 400);
+        assertEquals("The CSV header must have name and link columns", response.get("error").asText());
+
+        session.setLocked(true);
+        votingSessionRepository.save(session);
+        response = importCsv("name,link\nA,https://a.example\n", 400);
+        assertTrue(response.get("error").asText().contains("This voting session is locked"));
+        assertTrue(optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Multipart uploads pick the format from the file and refuse other files")
+    public void testMultipartUpload() throws Exception {
+        MockMultipartFile csv = new MockMultipartFile("file", "places.csv", "application/vnd.ms-excel",
+                "name,link\nDumpling Den,https://dumplings.example\n".getBytes(StandardCharsets.UTF_8));
+        JsonNode data = perform(multipart("/api/sessions/" + session.getId() + "/options:import").file(csv), 200).get("data");
+        assertEquals(1, data.get("imported").asInt());
+
+        MockMultipartFile ndjson = new MockMultipartFile("file", "places.jsonl", "application/octet-stream",
+                "{\"name\":\"Falafel Fort\",\"link\":\"https://falafel.example\"}\n".getBytes(StandardCharsets.UTF_8));
+        data = perform(multipart("/api/sessions/" + session.getId() + "/options:import").file(ndjson), 200).get("data");
+        assertEquals(1, data.get("imported").asInt());
+
+        MockMultipartFile spreadsheet = new MockMultipartFile("file", "places.xlsx", "application/octet-stream", new byte[] {1, 2, 3});
+        perform(multipart("/api/sessions/" + session.getId() + "/options:import").file(spreadsheet), 400);
+
+        assertEquals(2, optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()).size());
+    }
+
+    private JsonNode importCsv(String csv, int expectedStatus) throws Exception {
+        return perform(post("/api/sessions/" + session.getId() + "/options:import")
+                .contentType("text/csv")
+                .content(csv.getBytes(StandardCharsets.UTF_8)), expectedStatus);
+    }
+
+    private JsonNode perform(RequestBuilder request, int expectedStatus) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(body);
+    }
+
+    private static Option find(List<Option> options, String name) {
+        return options.stream().filter(option -> option.getName().equals(name)).findFirst().orElseThrow();
+    }
+}
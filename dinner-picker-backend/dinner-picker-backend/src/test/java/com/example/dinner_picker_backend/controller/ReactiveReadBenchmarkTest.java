@@ -0,0 +1,232 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import com.sun.management.UnixOperatingSystemMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Threads and database connections held while ~10k readers wait on GET /sessions/{id}/options at
+// once, on the blocking endpoint and on its /api/reactive twin. Every reader has its own socket, so
+// the count is capped by this process's file descriptor limit (client and server share it).
+// r2dbc-h2 runs each query on the subscribing thread, so on H2 the reactive path still borrows a
+// Tomcat thread for the length of a query; what this shows is the connection and queueing side.
+// The thread savings need a driver with non-blocking I/O, such as r2dbc-mysql in production.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "logging.level.com.example.dinner_picker_backend=WARN",
+                "server.tomcat.accept-count=10000", "db.limiter.max-queued=10000"})
+@Tag("benchmark")
+public class ReactiveReadBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadBenchmarkTest.class);
+
+    private static final int READERS = 10_000;
+    private static final int WAVES = 3;
+    private static final int OPTIONS = 20;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ConnectionPool connectionPool;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+
+    private Group group;
+    private VotingSession session;
+
+    // A few client threads, so the JVM thread count is mostly the server's
+    private final ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(clientExecutor)
+            .connectTimeout(Duration.ofSeconds(60))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Crowd Readers", "Reactive read benchmark group", "📖", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Full House", "Reactive read benchmark", group));
+        List<Option> options = new ArrayList<>();
+        for (int i = 0; i < OPTIONS; i++) {
+            options.add(new Option("Place " + i, "https://place" + i + ".example", session));
+        }
+        optionRepository.saveAll(options);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientExecutor.shutdownNow();
+        optionRepository.deleteAll(optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()));
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("Threads and connections per concurrent reader, blocking vs reactive")
+    public void reportReadersPerResource() throws Exception {
+        int readers = READERS;
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof UnixOperatingSystemMXBean unix) {
+            readers = (int) Math.min(READERS, (unix.getMaxFileDescriptorCount() - 4000) / 2);
+        }
+
+        String base = "http://localhost:" + context.getWebServer().getPort();
+        String blockingUrl = base + "/api/sessions/" + session.getId() + "/options";
+        String reactiveUrl = base + "/api/reactive/sessions/" + session.getId() + "/options";
+
+        // Warm up both paths and open every socket first, so neither run pays for the connects
+        load(blockingUrl, readers);
+        load(reactiveUrl, readers);
+
+        logger.info(String.format("%d concurrent readers x %d waves, %d options per session", readers, WAVES, OPTIONS));
+        Result blocking = load(blockingUrl, readers);
+        Result reactive = load(reactiveUrl, readers);
+        print("blocking", blocking);
+        print("reactive", reactive);
+
+        assertEquals(0, blocking.failed.get());
+        assertEquals(0, reactive.failed.get());
+    }
+
+    private Result load(String url, int readers) throws Exception {
+        Result result = new Result(readers * WAVES);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        Thread sampler = new Thread(() -> sample(result), "reactive-bench-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+
+        AtomicInteger slot = new AtomicInteger();
+        long begin = System.nanoTime();
+        try {
+            for (int wave = 0; wave < WAVES; wave++) {
+                List<CompletableFuture<Void>> inFlight = new ArrayList<>(readers);
+                for (int r = 0; r < readers; r++) {
+                    long start = System.nanoTime();
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(120)).build();
+                    inFlight.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                            .handle((response, error) -> {
+                                result.nanos[slot.getAndIncrement()] = System.nanoTime() - start;
+                                if (error == null && response.statusCode() == 503) {
+                                    result.shed.incrementAndGet();
+                                } else if (error != null || response.statusCode() != 200) {
+                                    result.failed.incrementAndGet();
+                                }
+                                return null;
+                            }));
+                }
+                CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).get(10, TimeUnit.MINUTES);
+            }
+        } finally {
+            result.elapsedNanos = System.nanoTime() - begin;
+            sampler.interrupt();
+            sampler.join();
+        }
+
+        result.peakJvmThreads = threads.getPeakThreadCount();
+        return result;
+    }
+
+    private void sample(Result result) {
+        ThreadPoolExecutor tomcat = (ThreadPoolExecutor) ((TomcatWebServer) context.getWebServer())
+                .getTomcat().getConnector().getProtocolHandler().getExecutor();
+        HikariDataSource hikari;
+        try {
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        PoolMetrics r2dbc = connectionPool.getMetrics().orElseThrow();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            result.peakTomcatBusy = Math.max(result.peakTomcatBusy, tomcat.getActiveCount());
+            result.peakTomcatThreads = Math.max(result.peakTomcatThreads, tomcat.getPoolSize());
+            result.peakJdbcConnections = Math.max(result.peakJdbcConnections, hikari.getHikariPoolMXBean().getActiveConnections());
+            result.peakR2dbcConnections = Math.max(result.peakR2dbcConnections, r2dbc.acquiredSize());
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void print(String label, Result result) {
+        logger.info(String.format("  %s:", label));
+        logger.info(String.format("    %,8.0f req/s, p50 %7.1f ms, p99 %7.1f ms, %d shed with 503",
+                result.nanos.length / (result.elapsedNanos / 1e9), percentile(result.nanos, 50), percentile(result.nanos, 99),
+                result.shed.get()));
+        logger.info(String.format("    peak JVM threads %d, Tomcat threads busy %d of %d",
+                result.peakJvmThreads, result.peakTomcatBusy, result.peakTomcatThreads));
+        logger.info(String.format("    peak connections in use: JDBC %d, R2DBC %d",
+                result.peakJdbcConnections, result.peakR2dbcConnections));
+    }
+
+    private static double percentile(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static class Result {
+        final long[] nanos;
+        final AtomicInteger shed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        long elapsedNanos;
+        int peakJvmThreads;
+        volatile int peakTomcatBusy;
+        volatile int peakTomcatThreads;
+        volatile int peakJdbcConnections;
+        volatile int peakR2dbcConnections;
+
+        Result(int requests) {
+            nanos = new long[requests];
+        }
+    }
+}
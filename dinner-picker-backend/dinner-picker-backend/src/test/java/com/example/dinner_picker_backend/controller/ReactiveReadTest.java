@@ -0,0 +1,177 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import com.example.dinner_picker_backend.service.DinnerPickerService;
+import com.example.dinner_picker_backend.service.ReactiveSessionReadService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReactiveReadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+    @Autowired
+    private ReactiveSessionReadService reactiveSessionReadService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+
+    private Group group;
+    private VotingSession session;
+    private final List<Option> options = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Async Appetites", "Reactive read test group", "🌊", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Streaming Supper", "Reactive reads", group));
+        options.add(optionRepository.save(new Option("Noodle Bar", "https://noodlebar.com", session)));
+        options.add(optionRepository.save(new Option("Taco Stand", "https://tacostand.com", session)));
+        options.add(optionRepository.save(new Option("Curry Corner", "https://currycorner.com", session)));
+        dinnerPickerService.vote(options.get(1).getId(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        optionRepository.deleteAll(optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()));
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("Options, deltas, tallies and session details match the blocking endpoints")
+    public void testSamePayloadsAsBlockingEndpoints() throws Exception {
+        String sessionUrl = "/sessions/" + session.getId();
+        assertSameBody("/api" + sessionUrl + "/options", "/api/reactive" + sessionUrl + "/options");
+        assertSameBody("/api" + sessionUrl + "/tallies", "/api/reactive" + sessionUrl + "/tallies");
+        assertSameBody("/api" + sessionUrl, "/api/reactive" + sessionUrl);
+
+        long version = votingSessionRepository.findById(session.getId()).orElseThrow().getVersion();
+        dinnerPickerService.vote(options.get(2).getId(), 1);
+
+        String deltaUrl = sessionUrl + "/options?sinceVersion=" + version;
+        JsonNode delta = assertSameBody("/api" + deltaUrl, "/api/reactive" + deltaUrl);
+        assertTrue(delta.get("incremental").asBoolean());
+        assertEquals(1, delta.get("total").asInt());
+        assertEquals(options.get(2).getId(), delta.get("data").get(0).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("An unchanged session is answered with 304 and a missing one with 404")
+    public void testConditionalAndMissing() throws Exception {
+        for (String url : new String[] {
+                "/api/reactive/sessions/" + session.getId(),
+                "/api/reactive/sessions/" + session.getId() + "/options"}) {
+            String etag = perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertNotNull(etag, url);
+
+            perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+
+        perform(get("/api/reactive/sessions/" + Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Invalid ids and versions are rejected with 400")
+    public void testInvalidInput() throws Exception {
+        perform(get("/api/reactive/sessions/-1/options"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid session ID"));
+        perform(get("/api/reactive/sessions/" + session.getId() + "/options?sinceVersion=-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid version"));
+        perform(get("/api/reactive/sessions/0/tallies"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        perform(get("/api/reactive/sessions/0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid session ID"));
+    }
+
+    @Test
+    @DisplayName("The options stream sends one JSON line per option, most votes first")
+    public void testOptionsStream() throws Exception {
+        MvcResult result = perform(get("/api/reactive/sessions/" + session.getId() + "/options/stream")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        assertEquals(options.size(), lines.length);
+        assertEquals(options.get(1).getId(), objectMapper.readTree(lines[0]).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("The options stream emits only as many rows as have been requested")
+    public void testStreamBackpressure() {
+        StepVerifier.create(reactiveSessionReadService.streamSessionOptions(session.getId()), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(1)
+                .assertNext(option -> assertEquals(options.get(1).getId(), option.getId()))
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    private JsonNode assertSameBody(String blockingUrl, String reactiveUrl) throws Exception {
+        String blocking = mockMvc.perform(get(blockingUrl))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String reactive = perform(get(reactiveUrl))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode expected = objectMapper.readTree(blocking);
+        assertEquals(expected, objectMapper.readTree(reactive), reactiveUrl);
+        return expected;
+    }
+
+    // Mono and Flux results are written on an async dispatch once they complete
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.User;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.UserRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Read endpoints must issue the same number of statements however many groups, members,
+// sessions and options exist - no lazy loading per row, and with open-in-view off nothing can
+// be loaded while the response is written
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReadModelStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Group> groups = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Group group : groups) {
+            for (VotingSession session : votingSessionRepository.findByGroupIdOrderByCreatedAtDesc(group.getId())) {
+                optionRepository.deleteAll(optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()));
+                votingSessionRepository.deleteById(session.getId());
+            }
+            groupRepository.deleteById(group.getId());
+        }
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("Statements per read endpoint do not grow with the data")
+    public void testStatementCountIsConstant() throws Exception {
+        createGroups(1, "small");
+        Map<String, Long> small = measureEndpoints();
+
+        createGroups(15, "large");
+        addSessions(groups.get(0), 3);
+        Map<String, Long> large = measureEndpoints();
+
+        assertEquals(small, large);
+        large.forEach((url, statements) -> assertTrue(statements <= 2, url + " issued " + statements + " statements"));
+    }
+
+    @Test
+    @DisplayName("Entity responses are fully fetched before rendering")
+    public void testEntityResponsesWithoutOpenInView() throws Exception {
+        createGroups(1, "lock");
+        VotingSession session = votingSessionRepository.findByGroupIdOrderByCreatedAtDesc(groups.get(0).getId()).get(0);
+
+        mockMvc.perform(post("/api/sessions/" + session.getId() + "/lock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"locked\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.session.locked").value(true))
+                .andExpect(jsonPath("$.session.options", hasSize(4)));
+
+        mockMvc.perform(get("/api/sessions/group/" + groups.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].options", hasSize(4)));
+    }
+
+    private Map<String, Long> measureEndpoints() throws Exception {
+        Group group = groups.get(0);
+        VotingSession session = votingSessionRepository.findByGroupIdOrderByCreatedAtDesc(group.getId()).get(0);
+        Long userId = users.get(0).getId();
+
+        Map<String, Long> statements = new LinkedHashMap<>();
+        for (String url : new String[] {
+                "/api/groups",
+                "/api/groups?size=5",
+                "/api/groups/" + group.getId(),
+                "/api/groups/user/" + userId,
+                "/api/sessions/" + session.getId(),
+                "/api/sessions/group/" + group.getId(),
+                "/api/sessions/group/" + group.getId() + "?size=2",
+                "/api/options",
+                "/api/options?size=5"}) {
+            statistics.clear();
+            mockMvc.perform(get(url)).andExpect(status().isOk());
+            statements.put(url.replaceAll("/\\d+", "/{id}"), statistics.getPrepareStatementCount());
+        }
+        return statements;
+    }
+
+    // Every group gets the same three members, three sessions and four options per session
+    private void createGroups(int count, String label) {
+        while (users.size() < 3) {
+            int n = users.size();
+            users.add(userRepository.save(new User("Member " + n, "read-model-" + n + "@example.com", "🙂")));
+        }
+
+        for (int i = 0; i < count; i++) {
+            Group group = new Group(label + " group " + i, "Read model test group", "🍜", "#667eea");
+            group.getMembers().addAll(users);
+            group = groupRepository.save(group);
+            groups.add(group);
+
+            addSessions(group, 3);
+        }
+    }
+
+    private void addSessions(Group group, int count) {
+        for (int s = 0; s < count; s++) {
+            VotingSession session = votingSessionRepository.save(new VotingSession("Session " + s, null, group));
+            for (int o = 0; o < 4; o++) {
+                optionRepository.save(new Option("Option " + o, "https://option" + o + ".com", session));
+            }
+        }
+    }
+}
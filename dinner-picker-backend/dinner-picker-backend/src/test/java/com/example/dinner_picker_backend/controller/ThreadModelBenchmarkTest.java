@@ -0,0 +1,181 @@
+package com.example.dinner_picker_backend.controller;
+
+import com.example.dinner_picker_backend.DinnerPickerBackendApplication;
+import com.example.dinner_picker_backend.config.DbPermitLimiter;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// p50/p99 latency and throughput of POST /api/options/{id}/vote and GET /api/sessions/{id}/options
+// under many more concurrent clients than Tomcat has platform threads, served on platform threads
+// and then on virtual threads behind the DB permit limiter. Each mode gets its own application
+// context on the same database. The virtual run needs Java 21 and is skipped on older JVMs.
+// Run with: mvn test -Pbenchmark -Dtest=ThreadModelBenchmarkTest, with JAVA_HOME on a JDK 21
+@Tag("benchmark")
+public class ThreadModelBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadModelBenchmarkTest.class);
+
+    private static final int CLIENTS = 400;
+    private static final int ROUNDS_PER_CLIENT = 50;
+    private static final int OPTIONS = 20;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @Test
+    @DisplayName("Vote and session-options latency, platform vs virtual threads")
+    public void reportThreadModels() throws Exception {
+        logger.info(String.format("%d clients x %d rounds (one vote + one options read each), %d options",
+                CLIENTS, ROUNDS_PER_CLIENT, OPTIONS));
+        run(false);
+        if (Runtime.version().feature() >= 21) {
+            run(true);
+        } else {
+            logger.info(String.format("  virtual threads: skipped, running on Java %d", Runtime.version().feature()));
+        }
+    }
+
+    private void run(boolean virtualThreads) throws Exception {
+        // Command line arguments, so they override application.properties; builder properties
+        // would only be defaults
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(DinnerPickerBackendApplication.class)
+                .run("--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.example.dinner_picker_backend=WARN",
+                        "--logging.level." + ThreadModelBenchmarkTest.class.getName() + "=INFO",
+                        "--spring.threads.virtual.enabled=" + virtualThreads)) {
+            GroupRepository groupRepository = context.getBean(GroupRepository.class);
+            VotingSessionRepository votingSessionRepository = context.getBean(VotingSessionRepository.class);
+            OptionRepository optionRepository = context.getBean(OptionRepository.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            Group group = groupRepository.save(new Group("Load Test", "Thread model benchmark group", "⚡", "#667eea"));
+            VotingSession session = votingSessionRepository.save(new VotingSession("Rush Hour", "Thread model benchmark", group));
+            List<Long> optionIds = new ArrayList<>();
+            for (int i = 0; i < OPTIONS; i++) {
+                optionIds.add(optionRepository.save(new Option("Place " + i, "https://place" + i + ".example", session)).getId());
+            }
+
+            try {
+                String base = "http://localhost:" + context.getWebServer().getPort();
+                // Warm up with a tenth of the load first
+                load(base, session.getId(), optionIds, ROUNDS_PER_CLIENT / 10);
+                Result result = load(base, session.getId(), optionIds, ROUNDS_PER_CLIENT);
+
+                DbPermitLimiter limiter = context.getBean(DbPermitLimiter.class);
+                logger.info(String.format("  %s threads (%d DB permits):", virtualThreads ? "virtual" : "platform", limiter.getPermits()));
+                logger.info(String.format("    overall:  %,8.0f req/s, %d shed with 503", result.requestsPerSecond(), result.shed.get()));
+                logger.info(String.format("    vote:     p50 %6.1f ms, p99 %7.1f ms", percentile(result.voteNanos, 50), percentile(result.voteNanos, 99)));
+                logger.info(String.format("    options:  p50 %6.1f ms, p99 %7.1f ms", percentile(result.readNanos, 50), percentile(result.readNanos, 99)));
+                assertEquals(0, result.failed.get());
+            } finally {
+                jdbcTemplate.update("DELETE FROM options WHERE voting_session_id = ?", session.getId());
+                votingSessionRepository.deleteById(session.getId());
+                groupRepository.deleteById(group.getId());
+            }
+        }
+    }
+
+    private Result load(String base, Long sessionId, List<Long> optionIds, int rounds) throws Exception {
+        Result result = new Result(CLIENTS * rounds);
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        AtomicInteger slot = new AtomicInteger();
+
+        try {
+            for (int c = 0; c < CLIENTS; c++) {
+                final int client = c;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < rounds; i++) {
+                        int index = slot.getAndIncrement();
+                        Long optionId = optionIds.get((client + i) % optionIds.size());
+                        result.voteNanos[index] = timed(result, HttpRequest.newBuilder(URI.create(base + "/api/options/" + optionId + "/vote"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"delta\": 1}")));
+                        result.readNanos[index] = timed(result, HttpRequest.newBuilder(URI.create(base + "/api/sessions/" + sessionId + "/options")));
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.MINUTES);
+            }
+            result.elapsedNanos = System.nanoTime() - begin;
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long timed(Result result, HttpRequest.Builder request) throws Exception {
+        long start = System.nanoTime();
+        int status = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        long elapsed = System.nanoTime() - start;
+        if (status == 503) {
+            result.shed.incrementAndGet();
+        } else if (status != 200) {
+            result.failed.incrementAndGet();
+        }
+        return elapsed;
+    }
+
+    private static double percentile(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static class Result {
+        final long[] voteNanos;
+        final long[] readNanos;
+        final AtomicInteger shed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        long elapsedNanos;
+
+        Result(int rounds) {
+            voteNanos = new long[rounds];
+            readNanos = new long[rounds];
+        }
+
+        double requestsPerSecond() {
+            return 2.0 * voteNanos.length / (elapsedNanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.dinner_picker_backend.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class GroupMemberRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private GroupMemberRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repository = new GroupMemberRepository();
+        ReflectionTestUtils.setField(repository, "jdbcTemplate", jdbcTemplate);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class, RETURNS_DEEP_STUBS);
+        when(entityManagerFactory.getCache().unwrap(Cache.class)).thenReturn(mock(Cache.class));
+        ReflectionTestUtils.setField(repository, "entityManagerFactory", entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("One multi-row insert per chunk, whose update count is the number added")
+    public void testCountsInsertedRows() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(2);
+
+        assertEquals(2, repository.addMembers(7L, List.of(1L, 2L, 3L)));
+        verify(jdbcTemplate).update(endsWith("VALUES (?, ?), (?, ?), (?, ?)"), eq(7L), eq(1L), eq(7L), eq(2L), eq(7L), eq(3L));
+    }
+
+    @Test
+    @DisplayName("Large imports are split into chunks and their counts summed")
+    public void testSumsChunks() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1000, 1);
+        List<Long> userIds = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        assertEquals(1001, repository.addMembers(7L, userIds));
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Nothing is sent for an empty list")
+    public void testEmptyList() {
+        assertEquals(0, repository.addMembers(7L, List.of()));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -1,11 +1,66 @@
 package com.example.dinner_picker_backend.repository;
+
+import com.example.dinner_picker_backend.dto.CursorPage;
+import com.example.dinner_picker_backend.dto.GroupSummary;
+import com.example.dinner_picker_backend.dto.PageCursor;
+import com.example.dinner_picker_backend.entity.Group;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 @SpringBootTest
 @Transactional
 public class GroupRepositoryTest {
     @Autowired
     private GroupRepository groupRepository;
+
+    @Test
+    @DisplayName("Test keyset pages over (created_at, id) with cursors, including groups created together")
+    public void testFindPageAfter() {
+        groupRepository.deleteAll();
+        groupRepository.flush();
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 18, 30);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Group group = new Group("Group " + i, null, "🍽️", "#667eea");
+            // Pairs of groups share a timestamp, so the id has to break the tie
+            group.setCreatedAt(createdAt.plusMinutes(i / 2));
+            expected.add(0, groupRepository.save(group).getId());
+        }
+        groupRepository.flush();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageCursor after = cursor == null ? null : PageCursor.decodeCreatedAt(cursor);
+            List<GroupSummary> rows = after == null
+                    ? groupRepository.findSummaryPage(Limit.of(3))
+                    : groupRepository.findSummaryPageAfter(after.getCreatedAt(), after.getId(), Limit.of(3));
+            CursorPage<GroupSummary> page = CursorPage.of(rows, 2, group -> PageCursor.afterCreatedAt(group.getCreatedAt(), group.getId()));
+            page.getItems().forEach(group -> walked.add(group.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    @DisplayName("Test cursors of the wrong kind or garbage are rejected")
+    public void testInvalidCursor() {
+        String votesCursor = PageCursor.afterVotes(3, 10L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeCreatedAt(votesCursor));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeCreatedAt("not a cursor"));
+        assertEquals(10L, PageCursor.decodeVotes(votesCursor).getId());
+    }
 }
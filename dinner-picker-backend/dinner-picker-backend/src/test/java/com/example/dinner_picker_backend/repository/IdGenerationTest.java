@@ -0,0 +1,128 @@
+package com.example.dinner_picker_backend.repository;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Groups, sessions and options take pooled ids from id_generators, so their inserts are batched.
+// JdbcCounter counts what each session actually sends: Hibernate prepares a batched insert once,
+// so the prepared statement count in the statistics cannot tell batches from single rows.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session.events.auto=" +
+        "com.example.dinner_picker_backend.repository.IdGenerationTest$JdbcCounter")
+public class IdGenerationTest {
+
+    private static final int OPTIONS = 1000;
+
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Group group;
+    private VotingSession session;
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Id Givers", "Id generation test group", "🔢", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Dinner", null, group));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM options WHERE voting_session_id = ?", session.getId());
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("New ids continue after the rows already in the table")
+    public void testIdsContinuePastExistingRows() {
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM options", Long.class);
+
+        Option option = optionRepository.save(new Option("Next Place", "https://nextplace.com", session));
+
+        assertTrue(option.getId() > maxId);
+        assertTrue(jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE sequence_name = 'options'", Long.class) >= option.getId());
+    }
+
+    @Test
+    @DisplayName("Rows inserted without an id are refused rather than numbered by the database")
+    public void testInsertWithoutIdFails() {
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO options (name, link, votes, voting_session_id) VALUES ('Raw', 'https://raw.example.com', 0, ?)",
+                session.getId()));
+
+        // The same row with an id of its own goes in
+        assertEquals(1, jdbcTemplate.update(
+                "INSERT INTO options (id, name, link, votes, voting_session_id) VALUES (?, 'Raw', 'https://raw.example.com', 0, ?)",
+                Long.MAX_VALUE, session.getId()));
+    }
+
+    @Test
+    @DisplayName("Saving many options sends a handful of batched statements")
+    public void testOptionInsertsAreBatched() {
+        List<Option> options = new ArrayList<>();
+        for (int i = 0; i < OPTIONS; i++) {
+            options.add(new Option("Place " + i, "https://place" + i + ".example.com", session));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        JdbcCounter.reset();
+
+        optionRepository.saveAll(options);
+
+        assertEquals(OPTIONS, statistics.getEntityInsertCount());
+        // hibernate.jdbc.batch_size is 50
+        assertEquals(OPTIONS / 50, JdbcCounter.batches.get());
+        // Only the generator's select and update for each block of 500 ids go out on their own
+        assertTrue(JdbcCounter.statements.get() <= 2 * (OPTIONS / 500 + 1));
+        assertEquals(OPTIONS, (int) jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM options WHERE voting_session_id = ?", Integer.class, session.getId()));
+    }
+
+    public static class JdbcCounter extends BaseSessionEventListener {
+
+        static final AtomicInteger batches = new AtomicInteger();
+        static final AtomicInteger statements = new AtomicInteger();
+
+        static void reset() {
+            batches.set(0);
+            statements.set(0);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batches.incrementAndGet();
+        }
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            statements.incrementAndGet();
+        }
+    }
+}
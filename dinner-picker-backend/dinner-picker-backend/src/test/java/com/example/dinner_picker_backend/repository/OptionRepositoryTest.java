@@ -1,11 +1,13 @@
 package com.example.dinner_picker_backend.repository;
 
+import com.example.dinner_picker_backend.dto.OptionSummary;
 import com.example.dinner_picker_backend.entity.VotingSession;
 import com.example.dinner_picker_backend.entity.Group;
 import com.example.dinner_picker_backend.entity.Option;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -142,4 +144,35 @@ public class OptionRepositoryTest {
         assertEquals(5, options.get(0).getVotes());
 
     }
+
+    @Test
+    @DisplayName("Test keyset pages over (votes, id) visit every option once")
+    public void testFindPageAfter() {
+        optionRepository.deleteAll();
+        optionRepository.flush();
+
+        int[] votes = {4, 7, 4, 0, 7, 4, 1};
+        for (int i = 0; i < votes.length; i++) {
+            Option option = new Option();
+            option.setName("Option " + i);
+            option.setVotes(votes[i]);
+            option.setLink("https://option" + i + ".com");
+            optionRepository.save(option);
+        }
+        optionRepository.flush();
+
+        List<OptionSummary> walked = new ArrayList<>();
+        List<OptionSummary> page = optionRepository.findSummaryPage(Limit.of(3));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            OptionSummary last = page.get(page.size() - 1);
+            page = optionRepository.findSummaryPageAfter(last.getVotes(), last.getId(), Limit.of(3));
+        }
+
+        assertEquals(optionRepository.findAllOrderByVotesDesc().stream().map(Option::getVotes).toList(),
+                walked.stream().map(OptionSummary::getVotes).toList());
+        assertEquals(votes.length, walked.stream().map(OptionSummary::getId).distinct().count());
+        // Ties are ordered by id
+        assertTrue(walked.get(0).getId() < walked.get(1).getId());
+    }
 }
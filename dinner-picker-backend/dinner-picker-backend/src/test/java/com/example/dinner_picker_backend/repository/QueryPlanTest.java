@@ -0,0 +1,124 @@
+package com.example.dinner_picker_backend.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// EXPLAINs the SQL behind the hot repository queries and fails when one of them stops using the
+// index the migrations create for it, e.g. falling back to a full scan. Works against the H2 test
+// database and against MySQL; each statement mirrors what Hibernate generates for the method.
+@SpringBootTest
+public class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Options of a session are read by session and votes")
+    public void testOptionsBySession() throws Exception {
+        // findByVotingSessionIdOrderByVotesDesc, findTalliesBySessionId
+        assertUsesIndex("SELECT options.id, options.votes FROM options WHERE options.voting_session_id = 1 " +
+                "ORDER BY options.votes DESC", "options", "idx_options_session_votes");
+        // findWinnersBySessionId
+        assertUsesIndex("SELECT options.id FROM options WHERE options.voting_session_id = 1 AND options.votes > 0 " +
+                "ORDER BY options.votes DESC", "options", "idx_options_session_votes");
+        // findByVotingSessionIdAndChangeVersionGreaterThanOrderByVotesDesc
+        assertUsesIndex("SELECT options.id FROM options WHERE options.voting_session_id = 1 " +
+                "AND options.change_version > 5 ORDER BY options.votes DESC", "options", "idx_options_session_change_version");
+    }
+
+    @Test
+    @DisplayName("The overall winner and option pages walk the votes index")
+    public void testOptionsByVotes() throws Exception {
+        // findFirstByOrderByVotesDescIdAsc, findSummaryPage
+        assertUsesIndex("SELECT options.id FROM options ORDER BY options.votes DESC, options.id ASC LIMIT 1",
+                "options", "idx_options_votes");
+        // findSummaryPageAfter
+        assertUsesIndex("SELECT options.id FROM options WHERE options.votes <= 10 " +
+                "AND (options.votes < 10 OR (options.votes = 10 AND options.id > 100)) " +
+                "ORDER BY options.votes DESC, options.id ASC LIMIT 21", "options", "idx_options_votes");
+    }
+
+    @Test
+    @DisplayName("Sessions of a group are read by group, lock state and creation time")
+    public void testSessionsByGroup() throws Exception {
+        // findActiveSessionsByGroupId
+        assertUsesIndex("SELECT voting_sessions.id FROM voting_sessions WHERE voting_sessions.group_id = 1 " +
+                "AND voting_sessions.locked = false ORDER BY voting_sessions.created_at DESC",
+                "voting_sessions", "idx_sessions_group_locked_created_at");
+        // findPageIdsByGroupIdAfter
+        assertUsesIndex("SELECT voting_sessions.id FROM voting_sessions WHERE voting_sessions.group_id = 1 " +
+                "AND voting_sessions.created_at <= '2030-01-01 00:00:00' AND (voting_sessions.created_at < '2030-01-01 00:00:00' OR (voting_sessions.created_at = '2030-01-01 00:00:00' " +
+                "AND voting_sessions.id < 100)) ORDER BY voting_sessions.created_at DESC, voting_sessions.id DESC LIMIT 21",
+                "voting_sessions", "idx_sessions_group_created_at");
+        // existsByGroupIdAndLockedFalse and GroupPurgeRepository.findLockedSessionIds
+        assertUsesIndex("SELECT voting_sessions.id FROM voting_sessions WHERE voting_sessions.group_id = 1 " +
+                "AND voting_sessions.locked = false FETCH FIRST 1 ROWS ONLY",
+                "voting_sessions", "idx_sessions_group_locked_created_at");
+        assertUsesIndex("SELECT id FROM voting_sessions WHERE group_id = 1 AND locked = TRUE LIMIT 500",
+                "voting_sessions", "idx_sessions_group_locked_created_at");
+    }
+
+    @Test
+    @DisplayName("Groups of a user are found through the member index")
+    public void testGroupsByMember() throws Exception {
+        // findByMembersId, findSummariesByMembersId
+        assertUsesIndex("SELECT dinner_groups.id FROM dinner_groups JOIN group_members " +
+                "ON group_members.group_id = dinner_groups.id WHERE group_members.user_id = 1",
+                "group_members", "idx_group_members_user");
+    }
+
+    @Test
+    @DisplayName("The duplicate group name check probes the normalized name")
+    public void testGroupNameProbe() throws Exception {
+        // existsByCreatedByAndNormalizedName
+        assertUsesIndex("SELECT dinner_groups.id FROM dinner_groups WHERE dinner_groups.created_by = 1 " +
+                "AND dinner_groups.normalized_name = 'friday lunch' LIMIT 1",
+                "dinner_groups", "uk_groups_name_created_by");
+    }
+
+    @Test
+    @DisplayName("Group pages walk the creation time index")
+    public void testGroupsByCreationTime() throws Exception {
+        // findSummaryPageAfter
+        assertUsesIndex("SELECT dinner_groups.id FROM dinner_groups WHERE dinner_groups.created_at <= '2030-01-01 00:00:00' " +
+                "AND (dinner_groups.created_at < '2030-01-01 00:00:00' OR (dinner_groups.created_at = '2030-01-01 00:00:00' AND dinner_groups.id < 100)) " +
+                "ORDER BY dinner_groups.created_at DESC, dinner_groups.id DESC LIMIT 21",
+                "dinner_groups", "idx_groups_created_at");
+    }
+
+    private void assertUsesIndex(String sql, String table, String index) throws Exception {
+        if (isMySql()) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            Map<String, Object> row = rows.stream()
+                    .filter(r -> table.equals(r.get("table")))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No plan row for " + table + ": " + rows));
+            assertNotEquals("ALL", row.get("type"), "Full scan of " + table + ": " + rows);
+            assertEquals(index, row.get("key"), "Unexpected index for " + table + ": " + rows);
+        } else {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase(Locale.ROOT);
+            assertFalse(plan.contains("public." + table + ".tablescan"), "Full scan of " + table + ":\n" + plan);
+            assertTrue(plan.contains("/* public." + index + ":") || plan.contains("/* public." + index + " */"),
+                    "Expected " + index + " for " + table + ":\n" + plan);
+        }
+    }
+
+    private boolean isMySql() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.example.dinner_picker_backend.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +14,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import com.example.dinner_picker_backend.cache.GlobalLockCache;
+import com.example.dinner_picker_backend.cache.OptionCountCache;
+import com.example.dinner_picker_backend.cache.SessionLeaderboards;
+import com.example.dinner_picker_backend.cache.SessionTallyCache;
+import com.example.dinner_picker_backend.dto.SessionOptions;
+import com.example.dinner_picker_backend.dto.VoteAuthorization;
 import com.example.dinner_picker_backend.entity.Group;
 import com.example.dinner_picker_backend.entity.Option;
 import com.example.dinner_picker_backend.entity.VotingSession;
@@ -51,7 +61,8 @@ public class DinnerPickerServiceTest {
     votingSession.setGroup(group);
 
     // Mock the repository to return the locked session
-    when(votingSessionRepository.findById(sessionId)).thenReturn(Optional.of(votingSession));
+    when(votingSessionRepository.findAuthorizationById(sessionId))
+        .thenReturn(Optional.of(new VoteAuthorization(sessionId, 1L, true, null)));
 
     // Act & Assert
     RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -64,6 +75,26 @@ public class DinnerPickerServiceTest {
     verify(optionRepository, never()).save(any(Option.class));
   }
 
+  @Test
+  void addOption_ShouldCheckDeadlineOnInjectedClock() {
+    // Arrange: 12:00 local time at UTC+3, an hour past the session's 11:00 deadline
+    Long sessionId = 1L;
+    Clock clock = Clock.fixed(Instant.parse("2030-01-01T09:00:00Z"), ZoneOffset.ofHours(3));
+    DinnerPickerService service = new DinnerPickerService(optionRepository, votingSessionRepository, votingConfigRepository,
+        new SessionTallyCache(), new GlobalLockCache(votingConfigRepository), new SessionLeaderboards(),
+        new OptionCountCache(optionRepository), event -> {}, clock);
+
+    when(votingSessionRepository.findAuthorizationById(sessionId))
+        .thenReturn(Optional.of(new VoteAuthorization(sessionId, 1L, false, LocalDateTime.of(2030, 1, 1, 11, 0))));
+
+    // Act & Assert
+    RuntimeException exception = assertThrows(RuntimeException.class, () ->
+        service.addOptionToSession("Pizza Palace", "https://pizzapalace.com", null, "Italian", "$$", sessionId));
+
+    assertThat(exception.getMessage()).contains("deadline for this voting session has passed");
+    verify(optionRepository, never()).save(any(Option.class));
+  }
+
    @Test
    void addOptionToSession_ShouldSucceed_WhenSessionIsUnlocked() {
      // Arrange
@@ -87,7 +118,9 @@ public class DinnerPickerServiceTest {
      expectedOption.setId(1L);
 
      // Mock the repositories
-     when(votingSessionRepository.findById(sessionId)).thenReturn(Optional.of(votingSession));
+     when(votingSessionRepository.findAuthorizationById(sessionId))
+         .thenReturn(Optional.of(new VoteAuthorization(sessionId, 1L, false, null)));
+     when(votingSessionRepository.getReferenceById(sessionId)).thenReturn(votingSession);
      when(optionRepository.save(any(Option.class))).thenReturn(expectedOption);
 
      // Act
@@ -102,6 +135,7 @@ public class DinnerPickerServiceTest {
      assertThat(result.getPriceRange()).isEqualTo(priceRange);
     
      verify(optionRepository).save(any(Option.class));
+     verify(votingSessionRepository, never()).findById(sessionId);
    }
 
   @Test
@@ -112,7 +146,7 @@ public class DinnerPickerServiceTest {
     String optionLink = "https://pizzapalace.com";
 
     // Mock the repository to return empty
-    when(votingSessionRepository.findById(sessionId)).thenReturn(Optional.empty());
+    when(votingSessionRepository.findAuthorizationById(sessionId)).thenReturn(Optional.empty());
 
     // Act & Assert
     RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -165,6 +199,55 @@ public class DinnerPickerServiceTest {
      assertThat(result.get(1).getVotes()).isEqualTo(3);
    }
 
+  @Test
+  void getSessionOptionsSince_ShouldReturnOnlyChangedOptions_WhenVersionIsKnown() {
+    // Arrange
+    Long sessionId = 1L;
+    Option changed = new Option();
+    changed.setId(2L);
+    changed.setVotes(4);
+
+    when(votingSessionRepository.findVersionById(sessionId)).thenReturn(Optional.of(7L));
+    when(optionRepository.findByVotingSessionIdAndChangeVersionGreaterThanOrderByVotesDesc(sessionId, 5L))
+        .thenReturn(List.of(changed));
+
+    // Act
+    SessionOptions result = dinnerPickerService.getSessionOptions(sessionId, 5L);
+
+    // Assert
+    assertThat(result.isIncremental()).isTrue();
+    assertThat(result.getVersion()).isEqualTo(7L);
+    assertThat(result.getOptions()).containsExactly(changed);
+    verify(optionRepository, never()).findByVotingSessionIdOrderByVotesDesc(sessionId);
+  }
+
+  @Test
+  void getSessionOptionsSince_ShouldSkipQuery_WhenNothingChanged() {
+    // Arrange
+    when(votingSessionRepository.findVersionById(1L)).thenReturn(Optional.of(7L));
+
+    // Act
+    SessionOptions result = dinnerPickerService.getSessionOptions(1L, 7L);
+
+    // Assert
+    assertThat(result.getOptions()).isEmpty();
+    verifyNoInteractions(optionRepository);
+  }
+
+  @Test
+  void getSessionOptionsSince_ShouldReturnEverything_WhenClientIsAhead() {
+    // Arrange
+    when(votingSessionRepository.findVersionById(1L)).thenReturn(Optional.of(7L));
+    when(optionRepository.findByVotingSessionIdOrderByVotesDesc(1L)).thenReturn(List.of(new Option()));
+
+    // Act
+    SessionOptions result = dinnerPickerService.getSessionOptions(1L, 9L);
+
+    // Assert
+    assertThat(result.isIncremental()).isFalse();
+    assertThat(result.getOptions()).hasSize(1);
+  }
+
     
 }
  
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.dto.BulkMembersResult;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Onboarding a 50k-person department through addMembersBulk, half by id and half by email,
+// into a group that already holds a tenth of them.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Tag("benchmark")
+public class GroupBulkImportBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupBulkImportBenchmarkTest.class);
+
+    private static final String EMAIL_PREFIX = "bulk-bench-";
+    private static final int MEMBERS = 50_000;
+
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Group group;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM group_members WHERE group_id = ?", group.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", EMAIL_PREFIX + "%");
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("Import of 50k members by id and email")
+    public void reportImportCost() {
+        group = groupRepository.save(new Group("Department", "Bulk import benchmark group", "🏢", "#667eea"));
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            users.add(new Object[] {"Member " + i, EMAIL_PREFIX + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email) VALUES (?, ?)", users);
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE ? ORDER BY id", Long.class, EMAIL_PREFIX + "%");
+        int existing = MEMBERS / 10;
+        jdbcTemplate.update("INSERT INTO group_members (group_id, user_id) SELECT ?, id FROM users " +
+                "WHERE email LIKE ? AND id <= ?", group.getId(), EMAIL_PREFIX + "%", userIds.get(existing - 1));
+
+        List<Long> byId = userIds.subList(0, MEMBERS / 2);
+        List<String> byEmail = new ArrayList<>();
+        for (int i = MEMBERS / 2; i < MEMBERS; i++) {
+            byEmail.add(EMAIL_PREFIX + i + "@example.com");
+        }
+
+        long start = System.nanoTime();
+        BulkMembersResult result = groupService.addMembersBulk(group.getId(), byId, byEmail).orElseThrow();
+        double elapsedMs = (System.nanoTime() - start) / 1e6;
+
+        logger.info(String.format("%,d users (%,d already members) imported in %,.0f ms: %,d added, %,.0f users/s",
+                MEMBERS, existing, elapsedMs, result.getAdded(), MEMBERS / (elapsedMs / 1000)));
+        assertEquals(MEMBERS - existing, result.getAdded());
+        assertEquals(existing, result.getAlreadyMembers());
+        assertEquals(MEMBERS, (int) jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM group_members WHERE group_id = ?", Integer.class, group.getId()));
+    }
+}
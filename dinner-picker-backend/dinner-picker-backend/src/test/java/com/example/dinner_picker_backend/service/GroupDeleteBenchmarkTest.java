@@ -0,0 +1,98 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Deleting a group with years of weekly sessions: the cascade through the loaded entity graph
+// (the previous deleteGroup) vs the indexed active-session probe and chunked set-based deletes.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Tag("benchmark")
+public class GroupDeleteBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupDeleteBenchmarkTest.class);
+
+    private static final int SESSIONS = 2_000;
+    private static final int OPTIONS_PER_SESSION = 5;
+
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Delete latency for a group with 2k sessions and 10k options")
+    public void reportDeleteCost() {
+        Group cascaded = createGroupWithHistory("Cascade");
+        long start = System.nanoTime();
+        legacyDelete(cascaded.getId());
+        double cascadeMs = (System.nanoTime() - start) / 1e6;
+
+        Group purged = createGroupWithHistory("Set-based");
+        start = System.nanoTime();
+        assertTrue(groupService.deleteGroup(purged.getId()));
+        double setBasedMs = (System.nanoTime() - start) / 1e6;
+
+        logger.info(String.format("%,d sessions, %,d options | cascade: %,8.0f ms | set-based: %,6.0f ms",
+                SESSIONS, SESSIONS * OPTIONS_PER_SESSION, cascadeMs, setBasedMs));
+        for (Group group : List.of(cascaded, purged)) {
+            assertEquals(0, (int) jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM voting_sessions WHERE group_id = ?", Integer.class, group.getId()));
+        }
+        assertTrue(setBasedMs < cascadeMs);
+    }
+
+    // Through Hibernate, which batches the inserts; rows in these tables need ids from id_generators
+    private Group createGroupWithHistory(String name) {
+        Group group = groupRepository.save(new Group(name, "Delete benchmark group", "📚", "#667eea"));
+        transactionTemplate.executeWithoutResult(status -> {
+            Group managed = entityManager.getReference(Group.class, group.getId());
+            for (int i = 0; i < SESSIONS; i++) {
+                VotingSession session = new VotingSession("Week " + i, null, managed);
+                session.setLocked(true);
+                entityManager.persist(session);
+                for (int j = 0; j < OPTIONS_PER_SESSION; j++) {
+                    entityManager.persist(new Option("Place " + j, "https://place" + j + ".example.com", session));
+                }
+                if (i % 200 == 199) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    managed = entityManager.getReference(Group.class, group.getId());
+                }
+            }
+        });
+        return group;
+    }
+
+    // What deleteGroup did before: check every session's lock through the collection, then let
+    // CascadeType.ALL load and delete sessions and options row by row
+    private void legacyDelete(Long groupId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Group group = groupRepository.findById(groupId).orElseThrow();
+            assertTrue(group.getVotingSessions().stream().allMatch(session -> Boolean.TRUE.equals(session.getLocked())));
+            groupRepository.delete(group);
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.cache.ResourceVersions;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: background purges commit on their own thread. A small chunk size makes
+// every delete here span several chunks.
+@SpringBootTest(properties = "groups.purge.chunk-size=3")
+public class GroupDeleteTest {
+
+    private static final int SESSIONS = 10;
+
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private GroupPurger groupPurger;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ResourceVersions resourceVersions;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Group group;
+    private final List<VotingSession> sessions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Long History", "Group delete test group", "📚", "#667eea"));
+        for (int i = 0; i < SESSIONS; i++) {
+            VotingSession session = new VotingSession("Week " + i, null, group);
+            session.setLocked(true);
+            sessions.add(votingSessionRepository.save(session));
+            optionRepository.save(new Option("Place " + i, "https://place" + i + ".example.com", session));
+            optionRepository.save(new Option("Other " + i, "https://other" + i + ".example.com", session));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM options WHERE voting_session_id IN (SELECT id FROM voting_sessions WHERE group_id = ?)", group.getId());
+        jdbcTemplate.update("DELETE FROM voting_sessions WHERE group_id = ?", group.getId());
+        jdbcTemplate.update("DELETE FROM dinner_groups WHERE id = ?", group.getId());
+    }
+
+    @Test
+    @DisplayName("Deleting removes every session and option without loading any entity")
+    public void testDeleteIsSetBased() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertTrue(groupService.deleteGroup(group.getId()));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertHistoryGone();
+        assertTrue(groupService.getGroupById(group.getId()).isEmpty());
+        assertFalse(groupService.deleteGroup(group.getId()));
+    }
+
+    @Test
+    @DisplayName("A group with an active session is not deleted")
+    public void testActiveSessionBlocksDelete() {
+        VotingSession active = sessions.get(SESSIONS - 1);
+        active.setLocked(false);
+        votingSessionRepository.save(active);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> groupService.deleteGroup(group.getId()));
+        assertEquals("Cannot delete group with active voting sessions", exception.getMessage());
+        assertEquals(SESSIONS, countSessions());
+    }
+
+    @Test
+    @DisplayName("Background purges commit chunk by chunk and remove the group last")
+    public void testBackgroundPurge() throws Exception {
+        assertTrue(groupService.deleteGroupInBackground(group.getId()));
+
+        // Waits for the purge by queueing behind it on the single purge thread
+        groupPurger.purgeInBackground(Long.MAX_VALUE).get(30, TimeUnit.SECONDS);
+
+        assertHistoryGone();
+        assertTrue(groupRepository.findById(group.getId()).isEmpty());
+        assertTrue(groupPurger.getPendingPurges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("A purge that rolls back leaves the group list version alone")
+    public void testRolledBackPurge() {
+        long version = resourceVersions.groupListVersion();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(groupService.deleteGroup(group.getId()));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(version, resourceVersions.groupListVersion());
+        assertEquals(SESSIONS, countSessions());
+    }
+
+    @Test
+    @DisplayName("A background purge keeps the group when a session is reopened meanwhile")
+    public void testBackgroundPurgeKeepsReopenedGroup() throws Exception {
+        VotingSession reopened = sessions.get(0);
+        reopened.setLocked(false);
+        votingSessionRepository.save(reopened);
+
+        groupPurger.purgeInBackground(group.getId()).get(30, TimeUnit.SECONDS);
+
+        assertEquals(1, countSessions());
+        assertTrue(groupRepository.findById(group.getId()).isPresent());
+    }
+
+    private void assertHistoryGone() {
+        assertEquals(0, countSessions());
+        for (VotingSession session : sessions) {
+            assertTrue(votingSessionRepository.findById(session.getId()).isEmpty());
+            assertEquals(0, (int) jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM options WHERE voting_session_id = ?", Integer.class, session.getId()));
+        }
+    }
+
+    private int countSessions() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM voting_sessions WHERE group_id = ?", Integer.class, group.getId());
+    }
+}
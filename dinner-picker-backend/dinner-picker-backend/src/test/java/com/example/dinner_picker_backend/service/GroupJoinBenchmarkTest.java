@@ -0,0 +1,112 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.User;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Cost of one join into a large group: loading the member set to call contains() and add()
+// (the previous joinGroup) vs the key probe and direct insert.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Tag("benchmark")
+public class GroupJoinBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupJoinBenchmarkTest.class);
+
+    private static final String EMAIL_PREFIX = "join-bench-";
+    private static final int JOINS = 5;
+
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Group group;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM group_members WHERE group_id = ?", group.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", EMAIL_PREFIX + "%");
+        groupRepository.deleteById(group.getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000})
+    @DisplayName("Join latency into a group of 10k and 100k members")
+    public void reportJoinCost(int members) {
+        group = groupRepository.save(new Group("Company " + members, "Join benchmark group", "🏢", "#667eea"));
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < members + 2 * JOINS; i++) {
+            users.add(new Object[] {"Member " + i, EMAIL_PREFIX + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email) VALUES (?, ?)", users);
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE ? ORDER BY id", Long.class, EMAIL_PREFIX + "%");
+        jdbcTemplate.update("INSERT INTO group_members (group_id, user_id) SELECT ?, id FROM users " +
+                "WHERE email LIKE ? AND id <= ?", group.getId(), EMAIL_PREFIX + "%", userIds.get(members - 1));
+        List<Long> joiners = userIds.subList(members, members + 2 * JOINS);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (Long userId : joiners.subList(0, JOINS)) {
+            legacyJoin(group.getId(), userId);
+        }
+        double legacyMs = (System.nanoTime() - start) / 1e6 / JOINS;
+        long legacyEntities = statistics.getEntityLoadCount() / JOINS;
+
+        statistics.clear();
+        start = System.nanoTime();
+        for (Long userId : joiners.subList(JOINS, 2 * JOINS)) {
+            groupService.joinGroup(group.getId(), userId);
+        }
+        double directMs = (System.nanoTime() - start) / 1e6 / JOINS;
+        long directEntities = statistics.getEntityLoadCount() / JOINS;
+
+        logger.info(String.format("%,7d members | members set: %8.1f ms/join, %,7d entities loaded | probe + insert: %5.2f ms/join, %d entities loaded",
+                members, legacyMs, legacyEntities, directMs, directEntities));
+        assertEquals(members + 2 * JOINS, (int) jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM group_members WHERE group_id = ?", Integer.class, group.getId()));
+        assertTrue(directMs < legacyMs);
+    }
+
+    // What joinGroup did before: initialize the members set, contains(), add() and save
+    private void legacyJoin(Long groupId, Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Group loaded = groupRepository.findById(groupId).orElseThrow();
+            User user = userRepository.findById(userId).orElseThrow();
+            assertFalse(loaded.getMembers().contains(user));
+            loaded.getMembers().add(user);
+            groupRepository.save(loaded);
+        });
+    }
+}
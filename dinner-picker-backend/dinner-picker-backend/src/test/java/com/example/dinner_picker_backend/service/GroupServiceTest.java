@@ -0,0 +1,189 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.dto.BulkMembersResult;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.User;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: the concurrent creates have to commit on their own connections
+@SpringBootTest
+public class GroupServiceTest {
+
+    private static final int CREATORS = 8;
+
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private User otherUser;
+    private final List<Long> createdGroupIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Nina", "nina.names@example.com", "🧑"));
+        otherUser = userRepository.save(new User("Omar", "omar.names@example.com", "🧑"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdGroupIds.forEach(groupRepository::deleteById);
+        userRepository.deleteById(user.getId());
+        userRepository.deleteById(otherUser.getId());
+    }
+
+    @Test
+    @DisplayName("A user cannot create a second group with the same name, whatever its case or padding")
+    public void testDuplicateNameRejected() {
+        createdGroupIds.add(groupService.createGroup("Taco Tuesday", null, null, null, user.getId()).getId());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> groupService.createGroup("  taco TUESDAY ", null, null, null, user.getId()));
+        assertEquals("You already have a group with this name", exception.getMessage());
+
+        createdGroupIds.add(groupService.createGroup("Taco Tuesday", null, null, null, otherUser.getId()).getId());
+    }
+
+    @Test
+    @DisplayName("Names are unique per creator, so joining a group does not reserve its name")
+    public void testJoinedGroupNameIsFree() {
+        Group group = groupService.createGroup("Curry Club", null, null, null, otherUser.getId());
+        createdGroupIds.add(group.getId());
+        groupService.joinGroup(group.getId(), user.getId());
+
+        createdGroupIds.add(groupService.createGroup("curry club", null, null, null, user.getId()).getId());
+    }
+
+    @Test
+    @DisplayName("Integrity errors other than the name key are not reported as duplicate names")
+    public void testOtherIntegrityErrorsPropagate() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> groupService.createGroup("Long Colours", null, null, "#".repeat(300), user.getId()));
+        assertFalse(exception instanceof IllegalArgumentException);
+        assertEquals("Failed to create group", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("The duplicate check is a single query however many groups the user is in")
+    public void testDuplicateCheckIsOneProbe() {
+        for (int i = 0; i < 20; i++) {
+            createdGroupIds.add(groupService.createGroup("Club " + i, null, null, null, user.getId()).getId());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> groupService.createGroup("club 7", null, null, null, user.getId()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Joining checks and inserts the membership without loading the member list")
+    public void testJoinGroup() {
+        Group group = groupService.createGroup("Sushi Circle", null, null, null, user.getId());
+        createdGroupIds.add(group.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Group joined = groupService.joinGroup(group.getId(), otherUser.getId());
+
+        assertFalse(Hibernate.isInitialized(joined.getMembers()));
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(2, groupRepository.findMembersByGroupId(group.getId()).size());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> groupService.joinGroup(group.getId(), otherUser.getId()));
+        assertEquals("User is already a member of this group", exception.getMessage());
+        assertThrows(RuntimeException.class, () -> groupService.joinGroup(group.getId(), Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Concurrent bulk imports of the same user add the membership once and never fail")
+    public void testConcurrentBulkImportsOfSameUser() throws Exception {
+        Group group = groupService.createGroup("Ramen Run", null, null, null, user.getId());
+        createdGroupIds.add(group.getId());
+        ExecutorService executor = Executors.newFixedThreadPool(CREATORS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BulkMembersResult>> futures = new ArrayList<>();
+        int added = 0;
+
+        try {
+            for (int i = 0; i < CREATORS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return groupService.addMembersBulk(group.getId(), List.of(otherUser.getId()), null).orElseThrow();
+                }));
+            }
+            start.countDown();
+
+            for (Future<BulkMembersResult> future : futures) {
+                added += future.get(60, TimeUnit.SECONDS).getAdded();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, added);
+        assertEquals(2, groupRepository.findMembersByGroupId(group.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Concurrent creates of the same name by one user leave exactly one group")
+    public void testConcurrentCreatesOfSameName() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CREATORS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Group>> futures = new ArrayList<>();
+        int rejected = 0;
+
+        try {
+            for (int i = 0; i < CREATORS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return groupService.createGroup("Pizza Friday", null, null, null, user.getId());
+                }));
+            }
+            start.countDown();
+
+            for (Future<Group> future : futures) {
+                try {
+                    createdGroupIds.add(future.get(60, TimeUnit.SECONDS).getId());
+                } catch (Exception e) {
+                    assertInstanceOf(IllegalArgumentException.class, e.getCause());
+                    rejected++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, createdGroupIds.size());
+        assertEquals(CREATORS - 1, rejected);
+    }
+}
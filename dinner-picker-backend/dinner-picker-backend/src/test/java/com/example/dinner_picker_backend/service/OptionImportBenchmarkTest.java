@@ -0,0 +1,126 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.dto.OptionImportResult;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Streams a generated 100k-row CSV through importOptions without ever holding the body, and
+// samples the heap while it is read to show memory stays flat as rows go by.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Tag("benchmark")
+public class OptionImportBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptionImportBenchmarkTest.class);
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private OptionImportService optionImportService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Group group;
+    private VotingSession session;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM options WHERE voting_session_id = ?", session.getId());
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("Streaming import of 100k CSV rows")
+    public void reportImportCost() throws Exception {
+        group = groupRepository.save(new Group("Food Court", "Import benchmark group", "🍱", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Every Restaurant", "Import benchmark", group));
+
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        GeneratedCsv body = new GeneratedCsv(ROWS);
+
+        long start = System.nanoTime();
+        OptionImportResult result = optionImportService.importOptions(session.getId(), body, OptionImportService.Format.CSV);
+        double elapsedMs = (System.nanoTime() - start) / 1e6;
+
+        logger.info(String.format("%,d rows (%,d KB of CSV) imported in %,.0f ms: %,.0f rows/s, heap %,d MB before, at most %,d MB while reading",
+                ROWS, body.bytes / 1024, elapsedMs, ROWS / (elapsedMs / 1000),
+                heapBefore / (1024 * 1024), body.maxHeap / (1024 * 1024)));
+        assertEquals(ROWS, result.getImported());
+        assertEquals(0, result.getRejected());
+        assertEquals(ROWS, (int) jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM options WHERE voting_session_id = ?", Integer.class, session.getId()));
+    }
+
+    // Produces the CSV a row at a time, like a slow client upload would
+    private static class GeneratedCsv extends InputStream {
+
+        private final int rows;
+        private int row = -1;
+        private byte[] current = "name,link,cuisine,priceRange\n".getBytes(StandardCharsets.UTF_8);
+        private int position;
+        private long bytes;
+        private long maxHeap;
+
+        GeneratedCsv(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (position == current.length && !nextRow()) {
+                return -1;
+            }
+            bytes++;
+            return current[position++];
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == current.length && !nextRow()) {
+                return -1;
+            }
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            bytes += count;
+            return count;
+        }
+
+        private boolean nextRow() {
+            if (++row >= rows) {
+                return false;
+            }
+            if (row % 5_000 == 0) {
+                Runtime runtime = Runtime.getRuntime();
+                maxHeap = Math.max(maxHeap, runtime.totalMemory() - runtime.freeMemory());
+            }
+            current = ("\"Restaurant " + row + ", Branch " + (row % 17) + "\",https://restaurant" + row
+                    + ".example,Cuisine " + (row % 12) + ",$$\n").getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.config.DatabaseBusyException;
+import com.example.dinner_picker_backend.dto.OptionImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class OptionImportServiceTest {
+  private DinnerPickerService dinnerPickerService;
+  private OptionImportService optionImportService;
+  private ValidatorFactory validatorFactory;
+
+  @BeforeEach
+  void setUp() {
+    dinnerPickerService = mock(DinnerPickerService.class);
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    optionImportService = new OptionImportService();
+    ReflectionTestUtils.setField(optionImportService, "dinnerPickerService", dinnerPickerService);
+    ReflectionTestUtils.setField(optionImportService, "validator", validatorFactory.getValidator());
+    ReflectionTestUtils.setField(optionImportService, "objectMapper", new ObjectMapper());
+  }
+
+  @AfterEach
+  void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Test
+  void importOptions_ShouldCheckTheSession_BeforeReadingTheBody() {
+    // Arrange
+    doThrow(new WriteRejectedException("This voting session is locked. Cannot add new options."))
+        .when(dinnerPickerService).checkAcceptsOptions(1L);
+
+    // Act & Assert
+    assertThrows(WriteRejectedException.class,
+        () -> optionImportService.importOptions(1L, csv(OptionImportService.BATCH_SIZE), OptionImportService.Format.CSV));
+    verify(dinnerPickerService, never()).addOptionsToSession(anyLong(), anyList());
+  }
+
+  @Test
+  void importOptions_ShouldStop_WhenTheSessionRejectsABatch() throws Exception {
+    // Arrange
+    when(dinnerPickerService.addOptionsToSession(eq(1L), anyList()))
+        .thenReturn(OptionImportService.BATCH_SIZE)
+        .thenThrow(new WriteRejectedException("This voting session is locked. Cannot add new options."));
+
+    // Act
+    OptionImportResult result = optionImportService.importOptions(
+        1L, csv(OptionImportService.BATCH_SIZE * 3), OptionImportService.Format.CSV);
+
+    // Assert
+    assertThat(result.getImported()).isEqualTo(OptionImportService.BATCH_SIZE);
+    assertThat(result.getStoppedReason()).isEqualTo("This voting session is locked. Cannot add new options.");
+    verify(dinnerPickerService, times(2)).addOptionsToSession(eq(1L), anyList());
+  }
+
+  @Test
+  void importOptions_ShouldPropagateDatabaseErrors() {
+    // Arrange
+    when(dinnerPickerService.addOptionsToSession(eq(1L), anyList()))
+        .thenThrow(new DataAccessResourceFailureException("Connection reset"));
+
+    // Act & Assert
+    assertThrows(DataAccessResourceFailureException.class,
+        () -> optionImportService.importOptions(1L, csv(3), OptionImportService.Format.CSV));
+  }
+
+  @Test
+  void importOptions_ShouldPropagateShedWork() {
+    // Arrange
+    when(dinnerPickerService.addOptionsToSession(eq(1L), anyList()))
+        .thenThrow(new DatabaseBusyException("The database is busy, try again shortly", null));
+
+    // Act & Assert
+    assertThrows(DatabaseBusyException.class,
+        () -> optionImportService.importOptions(1L, csv(3), OptionImportService.Format.CSV));
+  }
+
+  private static InputStream csv(int rows) {
+    StringBuilder body = new StringBuilder("name,link\n");
+    for (int i = 0; i < rows; i++) {
+      body.append("Place ").append(i).append(",https://example.com/").append(i).append("\n");
+    }
+    return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,123 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import jakarta.persistence.EntityManager;
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Persisting 10k options one statement per row (what IDENTITY ids forced, emulated here with a
+// JDBC batch size of 1) vs pooled ids with hibernate.jdbc.batch_size. The database is an H2 TCP
+// server on localhost rather than in process, so every statement costs a real round trip, as
+// it does against MySQL.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Tag("benchmark")
+public class OptionInsertBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptionInsertBenchmarkTest.class);
+
+    private static Server server;
+
+    @DynamicPropertySource
+    static void tcpDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        registry.add("spring.datasource.url", () -> "jdbc:h2:tcp://localhost:" + server.getPort() +
+                "/mem:insert-benchmark;DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop();
+    }
+
+    private static final int OPTIONS = 10_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Group group;
+    private VotingSession session;
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Big Menu", "Insert benchmark group", "📋", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Everything", null, group));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM options WHERE voting_session_id = ?", session.getId());
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("Insert throughput for 10k options, row by row vs batched")
+    public void reportInsertCost() {
+        // Warm up both paths
+        insertOptions(1);
+        insertOptions(null);
+
+        double rowByRowMs = Double.MAX_VALUE;
+        double batchedMs = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            rowByRowMs = Math.min(rowByRowMs, insertOptions(1));
+            batchedMs = Math.min(batchedMs, insertOptions(null));
+        }
+
+        logger.info(String.format("%,d options | row by row: %,6.0f ms (%,d statements) | batched: %,5.0f ms (%,d batches)",
+                OPTIONS, rowByRowMs, OPTIONS, batchedMs, OPTIONS / 50));
+        assertEquals((2 + 2 * ROUNDS) * OPTIONS, (int) jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM options WHERE voting_session_id = ?", Integer.class, session.getId()));
+        assertTrue(batchedMs < rowByRowMs);
+    }
+
+    // Null batch size keeps the configured hibernate.jdbc.batch_size
+    private double insertOptions(Integer batchSize) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            VotingSession managed = entityManager.getReference(VotingSession.class, session.getId());
+            for (int i = 0; i < OPTIONS; i++) {
+                entityManager.persist(new Option("Place " + i, "https://place" + i + ".example.com", managed));
+                if (i % 1000 == 999) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    managed = entityManager.getReference(VotingSession.class, session.getId());
+                }
+            }
+        });
+        return (System.nanoTime() - start) / 1e6;
+    }
+}
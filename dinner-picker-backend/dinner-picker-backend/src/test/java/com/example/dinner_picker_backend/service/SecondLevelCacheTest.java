@@ -0,0 +1,160 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.config.SecondLevelCacheMetrics;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.User;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.UserRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: the second-level cache is only filled and invalidated when transactions commit
+@SpringBootTest
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private VotingSessionService votingSessionService;
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private SecondLevelCacheMetrics secondLevelCacheMetrics;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Group group;
+    private User user;
+    private VotingSession session;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        group = groupRepository.save(new Group("Cache Crew", "Second-level cache test group", "🥗", "#667eea"));
+        user = userRepository.save(new User("Casey", "casey.cache@example.com", "🧑"));
+        session = votingSessionRepository.save(new VotingSession("Brunch", null, group));
+    }
+
+    @AfterEach
+    void tearDown() {
+        votingSessionRepository.findById(session.getId()).ifPresent(votingSessionRepository::delete);
+        groupRepository.findById(group.getId()).ifPresent(groupRepository::delete);
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("Repeated lookups by id are served from the cache")
+    public void testLookupsHitTheCache() {
+        groupService.getGroupById(group.getId());
+        votingSessionService.getSessionById(session.getId());
+        userRepository.findById(user.getId());
+        statistics.clear();
+
+        assertEquals("Cache Crew", groupService.getGroupById(group.getId()).orElseThrow().getName());
+        assertEquals("Brunch", votingSessionService.getSessionById(session.getId()).orElseThrow().getTitle());
+        assertEquals("Casey", userRepository.findById(user.getId()).orElseThrow().getName());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        Map<String, Object> groupRegion = secondLevelCacheMetrics.getRegionStats().get("Group");
+        assertTrue((Long) groupRegion.get("hits") > 0);
+        assertEquals(10000L, groupRegion.get("maximumSize"));
+    }
+
+    @Test
+    @DisplayName("Updating a group replaces the cached copy")
+    public void testUpdateGroup() {
+        groupService.getGroupById(group.getId());
+
+        groupService.updateGroup(group.getId(), "Cache Club", null, "🥙", null);
+
+        Group cached = groupService.getGroupById(group.getId()).orElseThrow();
+        assertEquals("Cache Club", cached.getName());
+        assertEquals("🥙", cached.getEmojiIcon());
+    }
+
+    @Test
+    @DisplayName("Joining a group invalidates the cached member list")
+    public void testJoinGroup() {
+        assertEquals(0, memberCount());
+
+        groupService.joinGroup(group.getId(), user.getId());
+
+        assertEquals(1, memberCount());
+        statistics.clear();
+        assertEquals(1, memberCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Locking a session replaces the cached copy")
+    public void testLockSession() {
+        assertFalse(votingSessionService.getSessionById(session.getId()).orElseThrow().getLocked());
+
+        votingSessionService.lockSession(session.getId(), true);
+
+        assertTrue(votingSessionService.getSessionById(session.getId()).orElseThrow().getLocked());
+    }
+
+    @Test
+    @DisplayName("A vote evicts only its own session from the cache")
+    public void testVoteEvictsOnlyItsSession() {
+        VotingSession other = votingSessionRepository.save(new VotingSession("Lunch", null, group));
+        try {
+            Option option = dinnerPickerService.addOptionToSession("Cafe", "https://example.com/cafe", null, null, null, session.getId());
+            long version = votingSessionService.getSessionById(session.getId()).orElseThrow().getVersion();
+            votingSessionService.getSessionById(other.getId());
+
+            dinnerPickerService.vote(option.getId(), 1);
+
+            statistics.clear();
+            votingSessionService.getSessionById(other.getId());
+            assertEquals(0, statistics.getPrepareStatementCount());
+            assertEquals(version + 1, votingSessionService.getSessionById(session.getId()).orElseThrow().getVersion());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        } finally {
+            votingSessionRepository.deleteById(other.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Deleting a group drops it and its sessions from the cache")
+    public void testDeleteGroup() {
+        votingSessionService.lockSession(session.getId(), true);
+        groupService.getGroupById(group.getId());
+        votingSessionService.getSessionById(session.getId());
+
+        assertTrue(groupService.deleteGroup(group.getId()));
+
+        assertTrue(groupService.getGroupById(group.getId()).isEmpty());
+        assertTrue(votingSessionService.getSessionById(session.getId()).isEmpty());
+    }
+
+    private int memberCount() {
+        return transactionTemplate.execute(status ->
+                groupRepository.findById(group.getId()).orElseThrow().getMembers().size());
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.dto.SessionOptions;
+import com.example.dinner_picker_backend.dto.SessionTallies;
+import com.example.dinner_picker_backend.dto.VoteRequest;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VoteBatchRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: every voter has to commit on its own connection for the race to be real
+@SpringBootTest
+public class VoteConcurrencyTest {
+
+    private static final int VOTERS = 500;
+    private static final int THREADS = 50;
+
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private VoteBatchRepository voteBatchRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Group group;
+    private VotingSession session;
+    private Option option;
+    private Option otherOption;
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Lunch Rush", "Concurrency test group", "🍔", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Friday Lunch", "Stress test", group));
+        option = optionRepository.save(new Option("Burger Barn", "https://burgerbarn.com", session));
+        otherOption = optionRepository.save(new Option("Noodle Nook", "https://noodlenook.com", session));
+    }
+
+    @AfterEach
+    void tearDown() {
+        optionRepository.deleteById(option.getId());
+        optionRepository.deleteById(otherOption.getId());
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("Concurrent voters never lose an increment")
+    public void testConcurrentVotesAreNotLost() throws Exception {
+        runConcurrently(VOTERS, i -> dinnerPickerService.vote(option.getId(), 1));
+
+        assertEquals(VOTERS, optionRepository.findVotesById(option.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Mixed concurrent up and down votes net out exactly")
+    public void testConcurrentMixedVotes() throws Exception {
+        runConcurrently(VOTERS, i -> dinnerPickerService.vote(option.getId(), 1));
+        // Every fifth voter switches away again
+        runConcurrently(VOTERS, i -> dinnerPickerService.vote(option.getId(), i % 5 == 0 ? -1 : 0));
+
+        assertEquals(VOTERS - VOTERS / 5, optionRepository.findVotesById(option.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Vote returns the new tally and never goes below zero")
+    public void testVoteReturnsTallyAndFloorsAtZero() {
+        assertEquals(1, dinnerPickerService.vote(option.getId(), 1));
+        assertEquals(0, dinnerPickerService.vote(option.getId(), -5));
+        assertEquals(0, optionRepository.findVotesById(option.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Votes on a locked session are rejected without changing the tally")
+    public void testVoteRejectedWhenSessionLocked() {
+        session.setLocked(true);
+        votingSessionRepository.save(session);
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> dinnerPickerService.vote(option.getId(), 1));
+
+        assertTrue(exception.getMessage().contains("This voting session is locked"));
+        assertEquals(0, optionRepository.findVotesById(option.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("A global lock takes effect immediately on this instance")
+    public void testVoteRejectedWhenVotingLockedGlobally() {
+        dinnerPickerService.lockVoting(true);
+        try {
+            RuntimeException exception = assertThrows(RuntimeException.class,
+                    () -> dinnerPickerService.vote(option.getId(), 1));
+
+            assertTrue(exception.getMessage().contains("Voting is locked globally"));
+        } finally {
+            dinnerPickerService.lockVoting(false);
+        }
+
+        assertEquals(1, dinnerPickerService.vote(option.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("Votes on a missing option report not found")
+    public void testVoteOnMissingOption() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> dinnerPickerService.vote(Long.MAX_VALUE, 1));
+
+        assertTrue(exception.getMessage().contains("Option not found"));
+    }
+
+    @Test
+    @DisplayName("Batch votes apply together and return tallies with a newer session version")
+    public void testCastVotes() {
+        dinnerPickerService.vote(option.getId(), 1);
+        long versionBefore = votingSessionRepository.findVersionById(session.getId()).orElseThrow();
+
+        SessionTallies result = dinnerPickerService.castVotes(session.getId(), List.of(
+                new VoteRequest(option.getId(), -1),
+                new VoteRequest(otherOption.getId(), 1)));
+
+        assertEquals(2, result.getTallies().size());
+        assertEquals(0, optionRepository.findVotesById(option.getId()).orElseThrow());
+        assertEquals(1, optionRepository.findVotesById(otherOption.getId()).orElseThrow());
+        assertTrue(result.getVersion() > versionBefore);
+    }
+
+    @Test
+    @DisplayName("A batch with an option from another session is rolled back entirely")
+    public void testCastVotesRollsBack() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> dinnerPickerService.castVotes(session.getId(), List.of(
+                        new VoteRequest(option.getId(), 1),
+                        new VoteRequest(Long.MAX_VALUE, 1))));
+
+        assertTrue(exception.getMessage().contains("must belong to voting session"));
+        assertEquals(0, optionRepository.findVotesById(option.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Merged deltas rejected by a locked session leave its version alone")
+    public void testApplyVoteDeltasSkipsLockedSessions() {
+        dinnerPickerService.vote(option.getId(), 1);
+        session.setLocked(true);
+        votingSessionRepository.save(session);
+        long version = votingSessionRepository.findVersionById(session.getId()).orElseThrow();
+
+        Map<Long, Integer> tallies = dinnerPickerService.applyVoteDeltas(Map.of(option.getId(), VoteDelta.of(1)));
+
+        assertTrue(tallies.isEmpty());
+        assertEquals(1, optionRepository.findVotesById(option.getId()).orElseThrow());
+        assertEquals(version, votingSessionRepository.findVersionById(session.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Batch deltas are not applied once the session deadline has passed")
+    public void testBatchDeltasRejectedPastDeadline() {
+        LocalDateTime deadline = LocalDateTime.of(2030, 1, 1, 12, 0);
+        session.setDeadline(deadline);
+        votingSessionRepository.save(session);
+        List<VoteRequest> votes = List.of(new VoteRequest(option.getId(), 1));
+
+        int[] late = transactionTemplate.execute(status ->
+                voteBatchRepository.applyDeltas(session.getId(), 1L, votes, deadline.plusMinutes(1)));
+        int[] onTime = transactionTemplate.execute(status ->
+                voteBatchRepository.applyDeltas(session.getId(), 1L, votes, deadline.minusMinutes(1)));
+
+        assertArrayEquals(new int[] {0}, late);
+        assertArrayEquals(new int[] {1}, onTime);
+        assertEquals(1, optionRepository.findVotesById(option.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Locking a session does not write back a stale version")
+    public void testLockKeepsVersion() {
+        dinnerPickerService.vote(option.getId(), 1);
+        long version = votingSessionRepository.findVersionById(session.getId()).orElseThrow();
+
+        session.setLocked(true);
+        votingSessionRepository.save(session);
+
+        assertEquals(version, votingSessionRepository.findVersionById(session.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Options since a version include only what votes and adds changed")
+    public void testOptionsSinceVersion() {
+        long start = dinnerPickerService.getSessionOptions(session.getId(), null).getVersion();
+
+        dinnerPickerService.vote(option.getId(), 1);
+        SessionOptions afterVote = dinnerPickerService.getSessionOptions(session.getId(), start);
+        assertTrue(afterVote.isIncremental());
+        assertEquals(List.of(option.getId()), afterVote.getOptions().stream().map(Option::getId).toList());
+
+        dinnerPickerService.castVotes(session.getId(), List.of(new VoteRequest(otherOption.getId(), 1)));
+        Option added = dinnerPickerService.addOptionToSession("Curry Corner", "https://currycorner.com", null, null, null, session.getId());
+        SessionOptions afterAdd = dinnerPickerService.getSessionOptions(session.getId(), afterVote.getVersion());
+        assertEquals(2, afterAdd.getOptions().size());
+        assertTrue(afterAdd.getOptions().stream().anyMatch(o -> o.getId().equals(added.getId())));
+        assertTrue(afterAdd.getOptions().stream().anyMatch(o -> o.getId().equals(otherOption.getId())));
+
+        SessionOptions unchanged = dinnerPickerService.getSessionOptions(session.getId(), afterAdd.getVersion());
+        assertTrue(unchanged.getOptions().isEmpty());
+
+        optionRepository.deleteById(added.getId());
+    }
+
+    @Test
+    @DisplayName("A tally read racing an uncommitted new option is not cached past the commit")
+    public void testAddOptionEvictsTalliesAfterCommit() throws Exception {
+        dinnerPickerService.getSessionTallies(session.getId());
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        Option added;
+        try {
+            added = transactionTemplate.execute(status -> {
+                Option option = dinnerPickerService.addOptionToSession("Curry Corner", "https://currycorner.com", null, null, null, session.getId());
+                // Another request reloads the tallies while this transaction is still open
+                try {
+                    reader.submit(() -> dinnerPickerService.getSessionTallies(session.getId())).get(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return option;
+            });
+        } finally {
+            reader.shutdownNow();
+        }
+
+        assertTrue(dinnerPickerService.getSessionTallies(session.getId()).stream()
+                .anyMatch(tally -> tally.getId().equals(added.getId())));
+
+        optionRepository.deleteById(added.getId());
+    }
+
+    @Test
+    @DisplayName("Top options follow votes and break ties by the option added first")
+    public void testTopOptions() throws Exception {
+        assertEquals(List.of(option.getId(), otherOption.getId()), ids(dinnerPickerService.getTopOptions(session.getId(), 5)));
+
+        dinnerPickerService.vote(otherOption.getId(), 1);
+        assertEquals(otherOption.getId(), dinnerPickerService.getSessionWinner(session.getId()).getId());
+
+        runConcurrently(VOTERS, i -> dinnerPickerService.vote(i % 2 == 0 ? option.getId() : otherOption.getId(), 1));
+        List<OptionTally> top = dinnerPickerService.getTopOptions(session.getId(), 1);
+        assertEquals(otherOption.getId(), top.get(0).getId());
+        assertEquals(VOTERS / 2 + 1, top.get(0).getVotes());
+
+        dinnerPickerService.castVotes(session.getId(), List.of(new VoteRequest(option.getId(), 1)));
+        assertEquals(List.of(option.getId(), otherOption.getId()), ids(dinnerPickerService.getTopOptions(session.getId(), 2)));
+    }
+
+    private void runConcurrently(int voters, VoterTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < voters; i++) {
+                final int voter = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.vote(voter);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Long> ids(List<OptionTally> tallies) {
+        return tallies.stream().map(OptionTally::getId).toList();
+    }
+
+    @FunctionalInterface
+    private interface VoterTask {
+        void vote(int voter) throws Exception;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "voting.ingestion.mode=batched",
+        "logging.level.com.example.dinner_picker_backend=WARN",
+        "spring.jpa.show-sql=false"
+})
+public class VoteIngestionBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteIngestionBenchmarkTest.class);
+
+    private static final int OPTIONS = 8;
+    private static final int VOTES = 20_000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+    @Autowired
+    private VoteIngestionService voteIngestionService;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private GroupRepository groupRepository;
+
+    private Group group;
+    private VotingSession session;
+    private final List<Long> optionIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Benchmark", "Vote ingestion benchmark", "⏱️", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Benchmark Session", null, group));
+        for (int i = 0; i < OPTIONS; i++) {
+            optionIds.add(optionRepository.save(new Option("Option " + i, "https://example.com/" + i, session)).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        optionRepository.deleteAllById(optionIds);
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    void compareSynchronousAndBatchedVoting() throws Exception {
+        double syncRate = measure("sync", dinnerPickerService::vote);
+        double batchedRate = measure("batched", voteIngestionService::vote);
+
+        logger.info(String.format("Vote ingestion: sync %.0f votes/sec, batched %.0f votes/sec (%.1fx)",
+                syncRate, batchedRate, batchedRate / syncRate));
+
+        int total = optionIds.stream().mapToInt(id -> optionRepository.findVotesById(id).orElse(0)).sum();
+        assertEquals(2 * VOTES, total);
+    }
+
+    private double measure(String label, BiFunction<Long, Integer, Integer> vote) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>(VOTES);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < VOTES; i++) {
+            Long optionId = optionIds.get(i % OPTIONS);
+            futures.add(executor.submit(() -> vote.apply(optionId, 1)));
+        }
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        double rate = VOTES / (elapsed / 1_000_000_000.0);
+        logger.info(String.format("%s: %d votes in %d ms", label, VOTES, TimeUnit.NANOSECONDS.toMillis(elapsed)));
+        return rate;
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.dinner_picker_backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+public class VoteIngestionServiceTest {
+  private DinnerPickerService dinnerPickerService;
+  private VoteIngestionService voteIngestionService;
+
+  @BeforeEach
+  void setUp() {
+    dinnerPickerService = mock(DinnerPickerService.class);
+    voteIngestionService = new VoteIngestionService();
+    ReflectionTestUtils.setField(voteIngestionService, "dinnerPickerService", dinnerPickerService);
+    ReflectionTestUtils.setField(voteIngestionService, "mode", "batched");
+    ReflectionTestUtils.setField(voteIngestionService, "batchSize", 256);
+    ReflectionTestUtils.setField(voteIngestionService, "flushIntervalMs", 50L);
+    ReflectionTestUtils.setField(voteIngestionService, "queueCapacity", 1000);
+    when(dinnerPickerService.optionExists(anyLong())).thenReturn(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    voteIngestionService.stop();
+  }
+
+  @Test
+  void vote_ShouldDelegateToService_WhenModeIsSync() {
+    // Arrange
+    ReflectionTestUtils.setField(voteIngestionService, "mode", "sync");
+    when(dinnerPickerService.vote(1L, 1)).thenReturn(4);
+
+    // Act
+    Integer result = voteIngestionService.vote(1L, 1);
+
+    // Assert
+    assertThat(result).isEqualTo(4);
+    verify(dinnerPickerService, never()).applyVoteDeltas(anyMap());
+  }
+
+  @Test
+  void submit_ShouldMergeDeltasPerOption_WhenVotesArriveTogether() throws Exception {
+    // Arrange
+    Map<Long, Integer> applied = new HashMap<>();
+    stubDatabase(applied);
+    voteIngestionService.start();
+
+    // Act
+    List<CompletableFuture<Integer>> futures = List.of(
+        voteIngestionService.submit(1L, 1),
+        voteIngestionService.submit(1L, 1),
+        voteIngestionService.submit(2L, 1),
+        voteIngestionService.submit(1L, -1));
+
+    // Assert
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    assertThat(applied).containsEntry(1L, 1).containsEntry(2L, 1);
+    assertThat(futures.get(3).get()).isEqualTo(1);
+    assertThat(futures.get(2).get()).isEqualTo(1);
+    verify(dinnerPickerService, atMost(2)).applyVoteDeltas(anyMap());
+  }
+
+  @Test
+  void submit_ShouldFloorEachVote_LikeTheSyncPath() throws Exception {
+    // Arrange - option 3 starts with no votes
+    Map<Long, Integer> applied = new HashMap<>();
+    stubDatabase(applied);
+    voteIngestionService.start();
+
+    // Act - applied one by one: max(0 - 1, 0) = 0, then 0 + 1 = 1
+    List<CompletableFuture<Integer>> futures = List.of(
+        voteIngestionService.submit(3L, -1),
+        voteIngestionService.submit(3L, 1));
+
+    // Assert
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    assertThat(applied).containsEntry(3L, 1);
+  }
+
+  @Test
+  void voteDelta_ShouldMatchVotesAppliedOneByOne() {
+    assertThat(VoteDelta.of(1).then(-1).applyTo(0)).isEqualTo(0);
+    assertThat(VoteDelta.of(-1).then(1).applyTo(0)).isEqualTo(1);
+    assertThat(VoteDelta.of(-1).then(-1).then(1).applyTo(1)).isEqualTo(1);
+    assertThat(VoteDelta.of(2).then(-1).applyTo(5)).isEqualTo(6);
+  }
+
+  @Test
+  void submit_ShouldRejectVote_WhenOptionDoesNotExist() {
+    // Arrange
+    when(dinnerPickerService.optionExists(99L)).thenReturn(false);
+    voteIngestionService.start();
+
+    // Act & Assert
+    RuntimeException exception = assertThrows(RuntimeException.class, () -> voteIngestionService.submit(99L, 1));
+
+    assertThat(exception.getMessage()).contains("Option not found with ID: 99");
+    verify(dinnerPickerService, never()).applyVoteDeltas(anyMap());
+  }
+
+  @Test
+  void vote_ShouldSurfaceRejection_WhenSessionIsLocked() {
+    // Arrange
+    when(dinnerPickerService.applyVoteDeltas(anyMap())).thenReturn(Map.of());
+    when(dinnerPickerService.explainRejectedVote(1L))
+        .thenReturn(new RuntimeException("This voting session is locked. Cannot vote on options."));
+    voteIngestionService.start();
+
+    // Act & Assert
+    RuntimeException exception = assertThrows(RuntimeException.class, () -> voteIngestionService.vote(1L, 1));
+
+    assertThat(exception.getMessage()).contains("This voting session is locked");
+  }
+
+  @Test
+  void submit_ShouldRejectVotes_WhenQueueIsFull() throws Exception {
+    // Arrange - the writer blocks on the first batch so the queue cannot drain
+    ReflectionTestUtils.setField(voteIngestionService, "batchSize", 1);
+    ReflectionTestUtils.setField(voteIngestionService, "queueCapacity", 2);
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(dinnerPickerService.applyVoteDeltas(anyMap())).thenAnswer(invocation -> {
+      writing.countDown();
+      release.await();
+      return Map.of(1L, 1);
+    });
+    voteIngestionService.start();
+
+    voteIngestionService.submit(1L, 1);
+    assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+    voteIngestionService.submit(1L, 1);
+    voteIngestionService.submit(1L, 1);
+
+    // Act & Assert
+    assertThrows(RejectedExecutionException.class, () -> voteIngestionService.submit(1L, 1));
+    release.countDown();
+  }
+
+  @Test
+  void vote_ShouldWithdrawQueuedVote_WhenWaitTimesOut() throws Exception {
+    // Arrange - the writer blocks on the first vote, so the second stays queued
+    ReflectionTestUtils.setField(voteIngestionService, "batchSize", 1);
+    ReflectionTestUtils.setField(voteIngestionService, "responseTimeoutMs", 100L);
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Map<Long, VoteDelta>> batches = new CopyOnWriteArrayList<>();
+    when(dinnerPickerService.applyVoteDeltas(anyMap())).thenAnswer(invocation -> {
+      batches.add(invocation.getArgument(0));
+      writing.countDown();
+      release.await();
+      return Map.of(1L, 1);
+    });
+    voteIngestionService.start();
+    CompletableFuture<Integer> first = voteIngestionService.submit(1L, 1);
+    assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // Act
+    RuntimeException exception = assertThrows(RuntimeException.class, () -> voteIngestionService.vote(2L, 1));
+    release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    Thread.sleep(200);
+
+    // Assert - a retry would be the only time the second vote counts
+    assertThat(exception.getMessage()).contains("it was not counted");
+    assertThat(batches).hasSize(1);
+    assertThat(batches.get(0)).containsOnlyKeys(1L);
+  }
+
+  @Test
+  void vote_ShouldWaitForVoteBeingWritten_WhenWaitTimesOut() {
+    // Arrange - the writer has taken the vote and needs longer than the timeout
+    ReflectionTestUtils.setField(voteIngestionService, "batchSize", 1);
+    ReflectionTestUtils.setField(voteIngestionService, "responseTimeoutMs", 100L);
+    when(dinnerPickerService.applyVoteDeltas(anyMap())).thenAnswer(invocation -> {
+      Thread.sleep(300);
+      return Map.of(1L, 7);
+    });
+    voteIngestionService.start();
+
+    // Act
+    Integer result = voteIngestionService.vote(1L, 1);
+
+    // Assert
+    assertThat(result).isEqualTo(7);
+  }
+
+  @Test
+  void submit_ShouldThrowException_WhenDeltaIsNull() {
+    voteIngestionService.start();
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> voteIngestionService.submit(1L, null));
+
+    assertThat(exception.getMessage()).contains("Vote delta cannot be null");
+  }
+
+  // Applies each merged delta to an in-memory tally, the way the conditional UPDATE does
+  private void stubDatabase(Map<Long, Integer> applied) {
+    when(dinnerPickerService.applyVoteDeltas(anyMap())).thenAnswer(invocation -> {
+      Map<Long, VoteDelta> deltas = invocation.getArgument(0);
+      deltas.forEach((id, delta) -> applied.put(id, delta.applyTo(applied.getOrDefault(id, 0))));
+      return new HashMap<>(applied);
+    });
+  }
+}
@@ -0,0 +1,133 @@
+package com.example.dinner_picker_backend.service;
+
+import com.example.dinner_picker_backend.cache.GlobalLockCache;
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Counts the JDBC statements each write issues, using Hibernate statistics (enabled in test properties)
+@SpringBootTest
+public class VoteStatementCountTest {
+
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private GroupRepository groupRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private GlobalLockCache lockCache;
+
+    private Statistics statistics;
+    private Group group;
+    private VotingSession session;
+    private Option option;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // The global lock comes from the lock cache; keep it warm so no refresh lands in a count
+        ReflectionTestUtils.setField(lockCache, "refreshMs", 60_000L);
+        lockCache.invalidate();
+        lockCache.isLocked();
+        group = groupRepository.save(new Group("Counting Crew", "Statement count test group", "🍕", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Dinner", null, group));
+        option = optionRepository.save(new Option("Pasta Place", "https://pastaplace.com", session));
+    }
+
+    @AfterEach
+    void tearDown() {
+        optionRepository.deleteAll(optionRepository.findByVotingSessionIdOrderByVotesDesc(session.getId()));
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+        ReflectionTestUtils.setField(lockCache, "refreshMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("A vote is authorization, version bump, update and read-back")
+    public void testVoteStatementCount() {
+        statistics.clear();
+
+        long lockReads = lockCache.getDatabaseReads();
+        long lockReadsAvoided = lockCache.getReadsAvoided();
+
+        dinnerPickerService.vote(option.getId(), 1);
+
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(lockReads, lockCache.getDatabaseReads());
+        assertTrue(lockCache.getReadsAvoided() > lockReadsAvoided);
+    }
+
+    @Test
+    @DisplayName("A rejected vote stops after the authorization query")
+    public void testRejectedVoteStatementCount() {
+        session.setDeadline(LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+        votingSessionRepository.save(session);
+        statistics.clear();
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> dinnerPickerService.vote(option.getId(), 1));
+
+        assertTrue(exception.getMessage().contains("deadline"));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Adding an option is authorization, version bump and read, insert")
+    public void testAddOptionStatementCount() {
+        statistics.clear();
+
+        dinnerPickerService.addOptionToSession("Taco Stand", "https://tacostand.com", null, null, null, session.getId());
+
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("The overall winner is a single limited query and ties go to the older option")
+    public void testWinnerStatementCount() {
+        Option later = optionRepository.save(new Option("Sushi Spot", "https://sushispot.com", session));
+        dinnerPickerService.vote(later.getId(), 1000);
+        dinnerPickerService.vote(option.getId(), 1000);
+        statistics.clear();
+
+        Option winner = dinnerPickerService.getWinner();
+
+        assertEquals(option.getId(), winner.getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Repeated status reads reuse the option count")
+    public void testOptionCountIsReused() {
+        long total = dinnerPickerService.getTotalOptions();
+        statistics.clear();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(total, dinnerPickerService.getTotalOptions());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.dinner_picker_backend.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Captures what would have been written to the client, with the time each frame went out
+class RecordingEmitter extends SseEmitter {
+
+    final List<String> frames = new CopyOnWriteArrayList<>();
+    volatile String lastTallies;
+    volatile long lastTalliesNanos;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        beforeSend();
+        StringBuilder frame = new StringBuilder();
+        builder.build().forEach(part -> frame.append(part.getData()));
+        frames.add(frame.toString());
+        if (frame.indexOf("event:tallies") >= 0) {
+            lastTallies = frame.toString();
+            lastTalliesNanos = System.nanoTime();
+        }
+    }
+
+    // Hook for slow or broken clients
+    void beforeSend() throws IOException {
+    }
+
+    List<String> tallyFrames() {
+        return frames.stream().filter(frame -> frame.contains("event:tallies")).toList();
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.dinner_picker_backend.stream;
+
+import com.example.dinner_picker_backend.dto.OptionTally;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import com.example.dinner_picker_backend.service.DinnerPickerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class SessionTallyBroadcasterTest {
+  private DinnerPickerService dinnerPickerService;
+  private VotingSessionRepository votingSessionRepository;
+  private SessionTallyBroadcaster broadcaster;
+  private final AtomicLong version = new AtomicLong();
+
+  @BeforeEach
+  void setUp() {
+    dinnerPickerService = mock(DinnerPickerService.class);
+    votingSessionRepository = mock(VotingSessionRepository.class);
+    broadcaster = new SessionTallyBroadcaster();
+    ReflectionTestUtils.setField(broadcaster, "dinnerPickerService", dinnerPickerService);
+    ReflectionTestUtils.setField(broadcaster, "votingSessionRepository", votingSessionRepository);
+    ReflectionTestUtils.setField(broadcaster, "objectMapper", new ObjectMapper());
+
+    when(votingSessionRepository.findVersionById(1L)).thenAnswer(invocation -> Optional.of(version.incrementAndGet()));
+    when(dinnerPickerService.getSessionTallies(1L)).thenReturn(List.of(new OptionTally(10L, 3)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    broadcaster.stop();
+  }
+
+  @Test
+  void subscribe_ShouldSendCurrentSnapshotFirst() {
+    // Act
+    RecordingEmitter emitter = new RecordingEmitter();
+    broadcaster.subscribe(1L, emitter);
+
+    // Assert
+    assertThat(emitter.tallyFrames()).hasSize(1);
+    assertThat(emitter.tallyFrames().get(0)).contains("id:1").contains("\"votes\":3");
+    assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+  }
+
+  @Test
+  void flush_ShouldCoalesceBurstIntoOneFrameReadOnce_WhenManyVotesAndSubscribers() {
+    // Arrange
+    RecordingEmitter first = new RecordingEmitter();
+    RecordingEmitter second = new RecordingEmitter();
+    broadcaster.subscribe(1L, first);
+    broadcaster.subscribe(1L, second);
+    clearInvocations(dinnerPickerService);
+
+    // Act
+    for (int i = 0; i < 50; i++) {
+      broadcaster.onTallyChanged(new TallyChangedEvent(1L));
+    }
+    broadcaster.flush();
+    broadcaster.flush();
+
+    // Assert
+    verify(dinnerPickerService, times(1)).getSessionTallies(1L);
+    assertThat(first.tallyFrames()).hasSize(2);
+    assertThat(second.tallyFrames()).hasSize(2);
+  }
+
+  @Test
+  void onTallyChanged_ShouldIgnoreSessionsWithoutSubscribers() {
+    // Act
+    broadcaster.onTallyChanged(new TallyChangedEvent(2L));
+    broadcaster.flush();
+
+    // Assert
+    verify(dinnerPickerService, never()).getSessionTallies(2L);
+  }
+
+  @Test
+  void flush_ShouldDropIntermediateFrames_WhenClientIsSlow() throws Exception {
+    // Arrange
+    ReflectionTestUtils.setField(broadcaster, "coalesceMs", TimeUnit.HOURS.toMillis(1));
+    ReflectionTestUtils.setField(broadcaster, "clientQueueCapacity", 4);
+    broadcaster.start();
+
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingEmitter slow = new RecordingEmitter() {
+      @Override
+      void beforeSend() {
+        sending.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    broadcaster.subscribe(1L, slow);
+    assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // Act - ten more states arrive while the snapshot is still being written
+    for (int i = 0; i < 10; i++) {
+      broadcaster.onTallyChanged(new TallyChangedEvent(1L));
+      broadcaster.flush();
+    }
+    release.countDown();
+
+    // Assert - the queue kept only the newest four, ending on the latest state
+    long deadline = System.currentTimeMillis() + 5000;
+    while (slow.tallyFrames().size() < 5 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(slow.tallyFrames()).hasSize(5);
+    assertThat(slow.tallyFrames().get(4)).contains("id:11");
+    assertThat(broadcaster.getFramesDropped()).isEqualTo(6);
+  }
+
+  @Test
+  void dropStalledSubscribers_ShouldKeepOtherClientsFlowing_WhenOneStopsReading() throws Exception {
+    // Arrange - one core sender, and the stuck client takes it first
+    ReflectionTestUtils.setField(broadcaster, "coalesceMs", TimeUnit.HOURS.toMillis(1));
+    ReflectionTestUtils.setField(broadcaster, "senderThreads", 1);
+    ReflectionTestUtils.setField(broadcaster, "sendTimeoutMs", TimeUnit.HOURS.toMillis(1));
+    broadcaster.start();
+    ReflectionTestUtils.setField(broadcaster, "sendTimeoutMs", 50L);
+
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingEmitter stuck = new RecordingEmitter() {
+      @Override
+      void beforeSend() {
+        sending.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    broadcaster.subscribe(1L, stuck);
+    assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // Act
+    RecordingEmitter healthy = new RecordingEmitter();
+    broadcaster.subscribe(1L, healthy);
+    Thread.sleep(100);
+    broadcaster.dropStalledSubscribers();
+
+    // Assert - the healthy client got its frame meanwhile, and the stuck one is gone
+    long deadline = System.currentTimeMillis() + 5000;
+    while (healthy.tallyFrames().isEmpty() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(healthy.tallyFrames()).hasSize(1);
+    assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    assertThat(broadcaster.getSlowSubscribersDropped()).isEqualTo(1);
+
+    release.countDown();
+  }
+
+  @Test
+  void send_ShouldRemoveSubscriber_WhenClientIsGone() {
+    // Arrange
+    RecordingEmitter broken = new RecordingEmitter() {
+      @Override
+      void beforeSend() throws IOException {
+        throw new IOException("Broken pipe");
+      }
+    };
+
+    // Act
+    broadcaster.subscribe(1L, broken);
+
+    // Assert
+    assertThat(broadcaster.getSubscriberCount()).isZero();
+    broadcaster.onTallyChanged(new TallyChangedEvent(1L));
+    broadcaster.flush();
+    verify(dinnerPickerService, times(1)).getSessionTallies(1L);
+  }
+}
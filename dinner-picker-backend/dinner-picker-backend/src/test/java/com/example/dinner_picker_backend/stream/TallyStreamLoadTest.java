@@ -0,0 +1,121 @@
+package com.example.dinner_picker_backend.stream;
+
+import com.example.dinner_picker_backend.entity.Group;
+import com.example.dinner_picker_backend.entity.Option;
+import com.example.dinner_picker_backend.entity.VotingSession;
+import com.example.dinner_picker_backend.repository.GroupRepository;
+import com.example.dinner_picker_backend.repository.OptionRepository;
+import com.example.dinner_picker_backend.repository.VotingSessionRepository;
+import com.example.dinner_picker_backend.service.DinnerPickerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Fan-out latency from a committed vote to the frame being handed to each open stream.
+// Emitters record instead of writing to sockets, so this measures the broadcaster, not the network.
+// Run with: mvn test -Pbenchmark
+@SpringBootTest
+@Tag("benchmark")
+public class TallyStreamLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TallyStreamLoadTest.class);
+
+    private static final int SUBSCRIBERS = 20_000;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private SessionTallyBroadcaster broadcaster;
+    @Autowired
+    private DinnerPickerService dinnerPickerService;
+    @Autowired
+    private OptionRepository optionRepository;
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+    @Autowired
+    private GroupRepository groupRepository;
+
+    private Group group;
+    private VotingSession session;
+    private Option option;
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        group = groupRepository.save(new Group("Stream Crowd", "Stream load test group", "📡", "#667eea"));
+        session = votingSessionRepository.save(new VotingSession("Watch Party", null, group));
+        option = optionRepository.save(new Option("Sushi Spot", "https://sushispot.com", session));
+
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.subscribe(session.getId(), emitter);
+            emitters.add(emitter);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(RecordingEmitter::complete);
+        broadcaster.stop();
+        optionRepository.deleteById(option.getId());
+        votingSessionRepository.deleteById(session.getId());
+        groupRepository.deleteById(group.getId());
+    }
+
+    @Test
+    @DisplayName("Fan-out latency to 20k subscribers of one session")
+    public void reportFanOutLatency() throws Exception {
+        final int votesPerBurst = 100;
+        for (int round = 1; round <= ROUNDS; round++) {
+            long framesBefore = broadcaster.getFramesSent();
+
+            long committed = 0;
+            for (int i = 0; i < votesPerBurst; i++) {
+                dinnerPickerService.vote(option.getId(), 1);
+                committed = System.nanoTime();
+            }
+
+            // Latency is measured to the frame that carries the last vote of the burst
+            String expected = "\"votes\":" + (votesPerBurst * round) + "}";
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (!allReceived(expected) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(allReceived(expected), "Every subscriber should see the final tally");
+
+            long[] latencies = new long[SUBSCRIBERS];
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                latencies[i] = Math.max(0, emitters.get(i).lastTalliesNanos - committed);
+            }
+            Arrays.sort(latencies);
+            long framesPerSubscriber = (broadcaster.getFramesSent() - framesBefore) / SUBSCRIBERS;
+            logger.info(String.format("Round %d: %d subscribers, %d votes -> %d frames each, p50 %.1f ms, p99 %.1f ms, max %.1f ms, dropped %d",
+                    round, SUBSCRIBERS, votesPerBurst, framesPerSubscriber, millis(latencies[SUBSCRIBERS / 2]),
+                    millis(latencies[SUBSCRIBERS * 99 / 100]), millis(latencies[SUBSCRIBERS - 1]), broadcaster.getFramesDropped()));
+
+            assertTrue(framesPerSubscriber < votesPerBurst, "Bursts should be coalesced");
+        }
+    }
+
+    private boolean allReceived(String expected) {
+        return emitters.stream().allMatch(emitter -> {
+            String last = emitter.lastTallies;
+            return last != null && last.contains(expected);
+        });
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -56,9 +56,10 @@ const GroupsPage = () => {
     );
 
     const getGroupStats = (group) => {
-        const activeVotes = group.votingSessions?.filter(s => !s.locked).length || 0;
-        const totalSessions = group.votingSessions?.length || 0;
-        const memberCount = group.members?.length || 0;
+        // The groups list carries counts rather than the sessions and members themselves
+        const activeVotes = group.activeSessionCount ?? group.votingSessions?.filter(s => !s.locked).length ?? 0;
+        const totalSessions = group.sessionCount ?? group.votingSessions?.length ?? 0;
+        const memberCount = group.memberCount ?? group.members?.length ?? 0;
 
         return { activeVotes, totalSessions, memberCount };
     };
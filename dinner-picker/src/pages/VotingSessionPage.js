@@ -1,4 +1,4 @@
-import React, { useState, useEffect, useCallback } from 'react';
+import React, { useState, useEffect, useCallback, useRef } from 'react';
 import {
     Container,
     Typography,
@@ -41,7 +41,10 @@ const VotingSessionPage = () => {
     const [lockDialogOpen, setLockDialogOpen] = useState(false);
     const [showWinnerConfetti, setShowWinnerConfetti] = useState(false);
     const [votingInProgress, setVotingInProgress] = useState(false);
+    const [streamConnected, setStreamConnected] = useState(false);
     const navigate = useNavigate();
+    // Session version the current option list reflects, for incremental option fetches
+    const optionsVersionRef = useRef(null);
 
     // Function to determine if a color is light or dark
     const isLightColor = (hexColor) => {
@@ -99,6 +102,7 @@ const VotingSessionPage = () => {
 
             setSession(sessionData);
             setOptions(Array.isArray(optionsData) ? optionsData : []);
+            optionsVersionRef.current = optionsResponse.version ?? null;
 
         } catch (error) {
             console.error('Error fetching session data:', error);
@@ -119,6 +123,66 @@ const VotingSessionPage = () => {
         }
     }, [sessionId, navigate]);
 
+    // Fetches only the options that changed since the version we have and merges them in
+    const fetchOptionChanges = useCallback(async () => {
+        if (optionsVersionRef.current === null) {
+            await fetchSessionData(false);
+            return;
+        }
+
+        try {
+            const response = await optionAPI.getSessionOptions(sessionId, optionsVersionRef.current);
+            const changed = Array.isArray(response.data) ? response.data : [];
+
+            if (response.incremental) {
+                const changedById = new Map(changed.map(option => [option.id, option]));
+                setOptions(prev => [
+                    ...prev.map(option => changedById.get(option.id) || option),
+                    ...changed.filter(option => !prev.some(existing => existing.id === option.id))
+                ]);
+            } else {
+                setOptions(changed);
+            }
+            optionsVersionRef.current = response.version;
+        } catch (error) {
+            console.error('Error fetching option changes:', error);
+        }
+    }, [sessionId, fetchSessionData]);
+
+    // Merges fresh vote counts; new options are fetched incrementally, removed ones need a reload
+    const applyTallies = useCallback(async (tallies) => {
+        const votesById = new Map(tallies.map(tally => [tally.id, tally.votes]));
+
+        if (options.some(option => !votesById.has(option.id))) {
+            await fetchSessionData(false);
+            return;
+        }
+
+        if (votesById.size !== options.length) {
+            await fetchOptionChanges();
+            return;
+        }
+
+        setOptions(prev => prev.map(option =>
+            votesById.has(option.id) ? { ...option, votes: votesById.get(option.id) } : option
+        ));
+    }, [options, fetchSessionData, fetchOptionChanges]);
+
+    const refreshTallies = useCallback(async () => {
+        try {
+            const response = await optionAPI.getSessionTallies(sessionId);
+            await applyTallies(Array.isArray(response.data) ? response.data : []);
+        } catch (error) {
+            console.error('Error refreshing tallies:', error);
+        }
+    }, [sessionId, applyTallies]);
+
+    // The stream outlives renders, so it always calls the latest applyTallies through a ref
+    const applyTalliesRef = useRef(applyTallies);
+    useEffect(() => {
+        applyTalliesRef.current = applyTallies;
+    }, [applyTallies]);
+
     const handleVote = async (optionId, delta) => {
         if (votingInProgress) {
             toast.error('Please wait, processing previous vote...');
@@ -129,11 +193,15 @@ const VotingSessionPage = () => {
             setVotingInProgress(true);
             console.log('Voting:', { optionId, delta });
 
-            const response = await optionAPI.vote(optionId, delta);
+            const response = await optionAPI.castVotes(sessionId, [{ optionId, delta }]);
             console.log('Vote response:', response.data);
 
-            // Refresh data after successful vote
-            await fetchSessionData(false);
+            // The response already carries the authoritative tallies
+            const tallies = Array.isArray(response.data?.data) ? response.data.data : [];
+            const votesById = new Map(tallies.map(tally => [tally.id, tally.votes]));
+            setOptions(prev => prev.map(option =>
+                votesById.has(option.id) ? { ...option, votes: votesById.get(option.id) } : option
+            ));
 
             if (delta > 0) {
                 toast.success('Vote added! 🗳️');
@@ -196,16 +264,33 @@ const VotingSessionPage = () => {
         }
     }, [sessionId, fetchSessionData]);
 
-    // Auto-refresh every 30 seconds
+    // Live tallies pushed by the server
+    useEffect(() => {
+        if (!sessionId || loading) {
+            return undefined;
+        }
+
+        return optionAPI.subscribeToTallies(
+            sessionId,
+            (event) => applyTalliesRef.current(Array.isArray(event.tallies) ? event.tallies : []),
+            setStreamConnected
+        );
+    }, [sessionId, loading]);
+
+    // Fall back to polling every 30 seconds only while the stream is down
     useEffect(() => {
+        if (streamConnected) {
+            return undefined;
+        }
+
         const interval = setInterval(() => {
             if (!loading && !votingInProgress) {
-                fetchSessionData(false);
+                refreshTallies();
             }
         }, 30000);
 
         return () => clearInterval(interval);
-    }, [fetchSessionData, loading, votingInProgress]);
+    }, [refreshTallies, loading, votingInProgress, streamConnected]);
 
     const sortedOptions = [...options].sort((a, b) => (b.votes || 0) - (a.votes || 0));
     const totalVotes = options.reduce((sum, option) => sum + (option.votes || 0), 0);
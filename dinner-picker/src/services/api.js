@@ -242,17 +242,56 @@ export const optionAPI = {
         }
     },
 
-    getSessionOptions: async (sessionId) => {
+    // With sinceVersion, only options added or re-tallied after that session version come back
+    // (incremental: true). The result always carries the current session version.
+    getSessionOptions: async (sessionId, sinceVersion) => {
         if (!sessionId) throw new Error('Session ID is required');
 
         try {
-            const response = await api.get(`/api/sessions/${sessionId}/options`);
+            const params = sinceVersion !== undefined && sinceVersion !== null ? { sinceVersion } : undefined;
+            const response = await api.get(`/api/sessions/${sessionId}/options`, { params });
+            return {
+                ...normalizeResponse(response),
+                version: response.data?.version ?? null,
+                incremental: response.data?.incremental === true
+            };
+        } catch (error) {
+            throw error;
+        }
+    },
+
+    getSessionTallies: async (sessionId) => {
+        if (!sessionId) throw new Error('Session ID is required');
+
+        try {
+            const response = await api.get(`/api/sessions/${sessionId}/tallies`);
             return normalizeResponse(response);
         } catch (error) {
             throw error;
         }
     },
 
+    // Live tallies over Server-Sent Events. onTallies receives { sessionId, version, tallies };
+    // onStatus(true/false) reports whether the stream is connected. Returns a function that closes it.
+    subscribeToTallies: (sessionId, onTallies, onStatus) => {
+        if (!sessionId) throw new Error('Session ID is required');
+
+        const source = new EventSource(`${API_BASE_URL}/api/sessions/${sessionId}/stream`);
+
+        source.onopen = () => onStatus?.(true);
+        // EventSource reconnects on its own; callers only need to know it is down meanwhile
+        source.onerror = () => onStatus?.(false);
+        source.addEventListener('tallies', (event) => {
+            try {
+                onTallies(JSON.parse(event.data));
+            } catch (error) {
+                console.error('[Tally Stream] Invalid event:', error);
+            }
+        });
+
+        return () => source.close();
+    },
+
     addOption: async (optionData) => {
         // Validate required fields
         if (!optionData.name || !optionData.name.trim()) {
@@ -271,6 +310,16 @@ export const optionAPI = {
         }
     },
 
+    // Bulk add from a .csv or .ndjson file (name and link required per row); the response lists
+    // how many rows were imported and why any were rejected
+    importOptions: async (sessionId, file) => {
+        if (!sessionId) throw new Error('Session ID is required');
+        if (!file) throw new Error('File is required');
+
+        // Large files take longer than the default 10s timeout
+        return apiUtils.uploadFile(file, `/api/sessions/${sessionId}/options:import`, { timeout: 120000 });
+    },
+
     vote: async (optionId, delta) => {
         if (!optionId) throw new Error('Option ID is required');
 
@@ -294,6 +343,23 @@ export const optionAPI = {
             console.error(`[Vote Error]`, error);
             throw error;
         }
+    },
+
+    // Applies several { optionId, delta } votes atomically; the response carries the
+    // updated tallies and session version so no follow-up fetch is needed
+    castVotes: async (sessionId, votes) => {
+        if (!sessionId) throw new Error('Session ID is required');
+
+        if (!Array.isArray(votes) || votes.length === 0) {
+            throw new Error('At least one vote is required');
+        }
+
+        try {
+            const response = await api.post(`/api/sessions/${sessionId}/votes`, { votes });
+            return response;
+        } catch (error) {
+            throw error;
+        }
     }
 };
 
@@ -309,13 +375,14 @@ export const apiUtils = {
         }
     },
 
-    // Handle file uploads (if needed in the future)
-    uploadFile: async (file, endpoint) => {
+    // Handle file uploads; config overrides the request settings, e.g. a longer timeout
+    uploadFile: async (file, endpoint, config = {}) => {
         const formData = new FormData();
         formData.append('file', file);
 
         try {
             const response = await api.post(endpoint, formData, {
+                ...config,
                 headers: {
                     'Content-Type': 'multipart/form-data',
                 },